@@ -0,0 +1,31 @@
+package com.bank.channel.baas.domain.enums;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bank.getNameByCode (End User 계좌 저장 시 은행명 변환)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=BankLookupBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BankLookupBenchmark {
+
+    // 첫 번째 항목 / 마지막 항목 / 등록되지 않은 코드 (ETC fallback)
+    @Param({"020", "045", "123"})
+    private String bankCode;
+
+    @Benchmark
+    public String getNameByCode() {
+        return Bank.getNameByCode(bankCode);
+    }
+}
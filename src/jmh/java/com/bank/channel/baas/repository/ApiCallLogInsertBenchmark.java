@@ -0,0 +1,150 @@
+package com.bank.channel.baas.repository;
+
+import com.bank.channel.global.common.EntityIds;
+import com.bank.channel.global.common.TraceIds;
+import com.bank.channel.global.filter.TimeOrderedTraceIdGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * api_call_logs 대량 INSERT 방식 비교 (Hibernate가 실행하는 JDBC 호출 형태를 그대로 재현)
+ *
+ * - identityRowByRow: 기존 방식 (IDENTITY → 행마다 INSERT 실행 후 generated key 조회, 배치 불가)
+ * - assignedIdBatch: @SnowflakeId + hibernate.jdbc.batch_size (ID를 미리 정하고 addBatch/executeBatch)
+ *
+ * 한 번에 BATCH_SIZE건을 한 트랜잭션으로 저장하며, 결과는 행 단위 처리량입니다.
+ * 기본은 H2 인메모리(MySQL 모드)이며, 실제 차이(네트워크 왕복, rewriteBatchedStatements)는 MySQL로 측정합니다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=ApiCallLogInsertBenchmark
+ * MySQL: BENCH_JDBC_URL='jdbc:mysql://localhost:3306/bench?rewriteBatchedStatements=true' [BENCH_JDBC_USERNAME, BENCH_JDBC_PASSWORD]
+ * (bench_api_call_logs 테이블을 만들고 종료 시 삭제합니다)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ApiCallLogInsertBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+
+    private static final String CREATE_TABLE = """
+            CREATE TABLE bench_api_call_logs (
+                log_id       BIGINT AUTO_INCREMENT PRIMARY KEY,
+                trace_id     BINARY(16)   NOT NULL,
+                merchant_id  VARCHAR(50)  NOT NULL,
+                api_endpoint VARCHAR(200) NOT NULL,
+                http_method  VARCHAR(10)  NOT NULL,
+                request_at   DATETIME(6)  NOT NULL,
+                response_at  DATETIME(6)  NOT NULL,
+                latency_ms   INT          NOT NULL,
+                latency_us   BIGINT,
+                status_code  INT          NOT NULL
+            )
+            """;
+
+    private static final String INSERT_IDENTITY = """
+            INSERT INTO bench_api_call_logs (trace_id, merchant_id, api_endpoint, http_method,
+                request_at, response_at, latency_ms, latency_us, status_code)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_ASSIGNED_ID = """
+            INSERT INTO bench_api_call_logs (log_id, trace_id, merchant_id, api_endpoint, http_method,
+                request_at, response_at, latency_ms, latency_us, status_code)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final TimeOrderedTraceIdGenerator traceIdGenerator = new TimeOrderedTraceIdGenerator();
+    private Connection connection;
+
+    @Setup
+    public void setUp() throws SQLException {
+        String url = System.getenv().getOrDefault("BENCH_JDBC_URL",
+                "jdbc:h2:mem:insert-benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        connection = DriverManager.getConnection(url,
+                System.getenv().getOrDefault("BENCH_JDBC_USERNAME", "sa"),
+                System.getenv().getOrDefault("BENCH_JDBC_PASSWORD", ""));
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_api_call_logs");
+            statement.execute(CREATE_TABLE);
+        }
+        connection.setAutoCommit(false);
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE TABLE bench_api_call_logs");
+        }
+        connection.commit();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS bench_api_call_logs");
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void identityRowByRow(Blackhole blackhole) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(INSERT_IDENTITY, Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                bindRow(ps, 1);
+                ps.executeUpdate();
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    keys.next();
+                    blackhole.consume(keys.getLong(1));
+                }
+            }
+        }
+        connection.commit();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void assignedIdBatch(Blackhole blackhole) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(INSERT_ASSIGNED_ID)) {
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                ps.setLong(1, EntityIds.next());
+                bindRow(ps, 2);
+                ps.addBatch();
+            }
+            blackhole.consume(ps.executeBatch());
+        }
+        connection.commit();
+    }
+
+    private void bindRow(PreparedStatement ps, int index) throws SQLException {
+        LocalDateTime now = LocalDateTime.now();
+        ps.setBytes(index++, TraceIds.toBytes(traceIdGenerator.generate()));
+        ps.setString(index++, "WK");
+        ps.setString(index++, "/api/v1/payments/authorize");
+        ps.setString(index++, "POST");
+        ps.setObject(index++, now);
+        ps.setObject(index++, now);
+        ps.setInt(index++, 5);
+        ps.setLong(index++, 5_000L);
+        ps.setInt(index, 200);
+    }
+}
@@ -0,0 +1,48 @@
+package com.bank.channel.baas.service;
+
+import com.bank.channel.baas.dto.Bank.BankPaymentAuthorizeRequest;
+import com.bank.channel.baas.dto.NonBank.AccountInfoWithPhone;
+import com.bank.channel.baas.dto.NonBank.PaymentAuthorizeRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PaymentService.convertToAccountSystemRequest (결제 인증 요청 → 계정계 요청 DTO 변환)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=PaymentConversionBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PaymentConversionBenchmark {
+
+    private PaymentAuthorizeRequest request;
+
+    @Setup
+    public void setUp() {
+        request = PaymentAuthorizeRequest.builder()
+                .merchantId("WK")
+                .userName("홍길동")
+                .productName("웹사이트 리뉴얼 계약")
+                .orderNo("ORD-20251125-0001")
+                .amount(new BigDecimal("1500000"))
+                .payerInfo(new AccountInfoWithPhone("01012345678", "1002123456789", "020", "홍길동"))
+                .payeeInfo(new AccountInfoWithPhone("01087654321", "3333012345678", "090", "김프리"))
+                .successUrl("https://worket.example.com/payment/success")
+                .failUrl("https://worket.example.com/payment/fail")
+                .build();
+    }
+
+    @Benchmark
+    public BankPaymentAuthorizeRequest convertToAccountSystemRequest() {
+        return PaymentService.convertToAccountSystemRequest(request);
+    }
+}
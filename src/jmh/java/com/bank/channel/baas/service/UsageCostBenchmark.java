@@ -0,0 +1,60 @@
+package com.bank.channel.baas.service;
+
+import com.bank.channel.baas.domain.ApiBillingPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.beans.BeanUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UsageService.calculateCost (API별 사용량 × 요금 정책 비용 산정)
+ *
+ * - withPolicy: 가맹점 요금 정책 적용
+ * - defaultPolicy: 정책이 없어 기본 요금 적용
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=UsageCostBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UsageCostBenchmark {
+
+    private ApiBillingPolicy policy;
+    private Long successCount;
+    private Long clientErrorCount;
+    private Long serverErrorCount;
+
+    @Setup
+    public void setUp() {
+        policy = BeanUtils.instantiateClass(ApiBillingPolicy.class);
+        ReflectionTestUtils.setField(policy, "policyId", 1L);
+        ReflectionTestUtils.setField(policy, "merchantId", "WK");
+        ReflectionTestUtils.setField(policy, "apiEndpoint", "authorize");
+        ReflectionTestUtils.setField(policy, "unitSuccessPrice", new BigDecimal("12.5000"));
+        ReflectionTestUtils.setField(policy, "unitClientErrorPrice", new BigDecimal("3.0000"));
+        ReflectionTestUtils.setField(policy, "unitServcerErrorPrice", new BigDecimal("0.0000"));
+
+        // 한 달치 API별 집계 규모
+        successCount = 1_284_512L;
+        clientErrorCount = 8_431L;
+        serverErrorCount = 127L;
+    }
+
+    @Benchmark
+    public BigDecimal withPolicy() {
+        return UsageService.calculateCost(successCount, clientErrorCount, serverErrorCount, policy);
+    }
+
+    @Benchmark
+    public BigDecimal defaultPolicy() {
+        return UsageService.calculateCost(successCount, clientErrorCount, serverErrorCount, null);
+    }
+}
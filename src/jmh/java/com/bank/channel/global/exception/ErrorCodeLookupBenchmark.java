@@ -0,0 +1,31 @@
+package com.bank.channel.global.exception;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ErrorCode.fromCode (계정계 오류 코드 → Channel ErrorCode 매핑)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=ErrorCodeLookupBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ErrorCodeLookupBenchmark {
+
+    // 등록된 코드 / 매핑되지 않는 계정계 코드 (fallback 경로)
+    @Param({"COMMON_009", "CORE_9999"})
+    private String code;
+
+    @Benchmark
+    public ErrorCode fromCode() {
+        return ErrorCode.fromCode(code);
+    }
+}
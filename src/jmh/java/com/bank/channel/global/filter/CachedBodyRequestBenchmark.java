@@ -0,0 +1,83 @@
+package com.bank.channel.global.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TraceIdFilter의 Request Body 처리 경로
+ *
+ * - wrapAndExtractMerchantId: CachedBodyHttpServletRequest 래핑 → Body 캐싱 → merchantId 추출 → 버퍼 반환
+ *   (TraceIdFilter 2단계 교차 검증까지의 경로)
+ * - wrapAndReadBody: 래핑 → Body 캐싱 → Controller의 getInputStream() 재읽기 → 버퍼 반환
+ *
+ * Body 크기: 결제 인증 요청(약 600 bytes), 계약 등록 요청(풀 버퍼보다 큰 약 20KB)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=CachedBodyRequestBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CachedBodyRequestBenchmark {
+
+    private static final int MAX_BODY_BYTES = 1024 * 1024;
+
+    @Param({"600", "20000"})
+    private int bodySize;
+
+    private BodyBufferPool bodyBufferPool;
+    private MerchantIdExtractor merchantIdExtractor;
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        bodyBufferPool = new BodyBufferPool(16384, 256);
+        merchantIdExtractor = new MerchantIdExtractor(new ObjectMapper());
+
+        // merchantId가 패딩 필드 뒤에 위치하는 요청 Body
+        String padding = "x".repeat(Math.max(0, bodySize - 60));
+        body = """
+                {"description":"%s","merchantId":"WK"}
+                """.formatted(padding).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String wrapAndExtractMerchantId() throws IOException {
+        CachedBodyHttpServletRequest request = wrap();
+        try {
+            request.cacheBody();
+            return merchantIdExtractor.extract(request.getCachedBodyBuffer(), 0, request.getCachedBodyLength());
+        } finally {
+            request.release();
+        }
+    }
+
+    @Benchmark
+    public byte[] wrapAndReadBody() throws IOException {
+        CachedBodyHttpServletRequest request = wrap();
+        try {
+            request.cacheBody();
+            return request.getInputStream().readAllBytes();
+        } finally {
+            request.release();
+        }
+    }
+
+    private CachedBodyHttpServletRequest wrap() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/payment/authorize");
+        request.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        request.setContent(body);
+        return new CachedBodyHttpServletRequest(request, bodyBufferPool, MAX_BODY_BYTES);
+    }
+}
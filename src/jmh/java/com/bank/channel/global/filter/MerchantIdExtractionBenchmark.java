@@ -0,0 +1,97 @@
+package com.bank.channel.global.filter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TraceIdFilter merchantId 추출 방식 비교
+ *
+ * - treeParse: 기존 방식 (byte[] → String → readTree → get("merchantId"))
+ * - streaming: MerchantIdExtractor (byte[] 직접 스트리밍 파싱, 중첩 객체 skip)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=MerchantIdExtractionBenchmark
+ * (GC 할당량 비교 시 -prof gc 사용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MerchantIdExtractionBenchmark {
+
+    private static final String PAYMENT_AUTHORIZE_BODY = """
+            {
+              "merchantId": "WK",
+              "userName": "홍길동",
+              "productName": "웹사이트 리뉴얼 계약",
+              "orderNo": "ORD-20251125-0001",
+              "amount": 1500000,
+              "payerInfo": {"accountNo": "1002123456789", "bankCode": "020", "name": "홍길동", "phone": "01012345678"},
+              "payeeInfo": {"accountNo": "3333012345678", "bankCode": "090", "name": "김프리", "phone": "01087654321"},
+              "successUrl": "https://worket.example.com/payment/success",
+              "failUrl": "https://worket.example.com/payment/fail"
+            }
+            """;
+
+    @Param({"paymentAuthorize", "contractRegister"})
+    private String payload;
+
+    private ObjectMapper objectMapper;
+    private MerchantIdExtractor merchantIdExtractor;
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        merchantIdExtractor = new MerchantIdExtractor(objectMapper);
+
+        String json = "paymentAuthorize".equals(payload) ? PAYMENT_AUTHORIZE_BODY : contractRegisterBody();
+        body = json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String treeParse() throws IOException {
+        String json = new String(body, StandardCharsets.UTF_8);
+        JsonNode merchantIdNode = objectMapper.readTree(json).get("merchantId");
+        return merchantIdNode != null && !merchantIdNode.isNull() ? merchantIdNode.asText() : null;
+    }
+
+    @Benchmark
+    public String streaming() throws IOException {
+        return merchantIdExtractor.extract(body, 0, body.length);
+    }
+
+    /**
+     * 계약 설명(contractDescription)이 긴 계약 등록 요청 (merchantId가 메타데이터 뒤에 위치)
+     */
+    private static String contractRegisterBody() {
+        String description = "프로젝트 범위 및 산출물, 검수 조건에 대한 상세 설명입니다. ".repeat(200);
+        return """
+                {
+                  "paymentId": "PAY-20251125-0001",
+                  "orderNo": "ORD-20251125-0001",
+                  "userId": "user-1234",
+                  "businessSector": "IT 서비스",
+                  "businessSectorYears": 5,
+                  "annualIncomeTotal": 52000000,
+                  "contractUrl": "https://s3.example.com/contracts/ORD-20251125-0001.pdf",
+                  "hash": "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08",
+                  "metadata": {
+                    "contractInfo": {"title": "웹사이트 리뉴얼 계약", "description": "%s"},
+                    "clientInfo": {"name": "홍길동", "phone": "01012345678"}
+                  },
+                  "merchantId": "WK"
+                }
+                """.formatted(description);
+    }
+}
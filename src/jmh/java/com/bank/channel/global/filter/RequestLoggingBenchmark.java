@@ -0,0 +1,148 @@
+package com.bank.channel.global.filter;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.slf4j.MDC;
+import org.springframework.boot.logging.logback.StructuredLogEncoder;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 로그 출력 방식별 처리량 비교 (logback-spring.xml)
+ *
+ * - SYNC_PATTERN: 기존 방식 (패턴 로그를 요청 스레드에서 직접 출력)
+ * - SYNC_JSON: JSON 구조화 로그를 요청 스레드에서 직접 출력
+ * - ASYNC_JSON: 운영 설정 (AsyncAppender 큐에 넣고 JSON 변환/출력은 별도 스레드)
+ *
+ * 출력 대상은 임시 파일이며(stdout 리다이렉트와 동일하게 이벤트마다 flush), 요청 스레드 4개가 동시에 로그를 남깁니다.
+ * ASYNC_JSON은 큐가 가득 차면 대기하도록(neverBlock=false) 설정하여 버려진 로그 없이 측정합니다.
+ * (운영 설정 neverBlock=true에서는 대기 대신 INFO 이하 로그를 버림)
+ *
+ * - infoLine: TraceIdFilter 응답 로그와 같은 형식 (MDC traceId 포함)
+ * - disabledDebugLine: 꺼진 DEBUG 로그 (레벨 확인만 하고 반환, 출력 방식과 무관하게 비용이 거의 없어야 함)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=RequestLoggingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class RequestLoggingBenchmark {
+
+    private static final String TRACE_ID = "0193b2f1c2d47e8a9b1c2d3e4f5a6b7c";
+
+    @Param({"SYNC_PATTERN", "SYNC_JSON", "ASYNC_JSON"})
+    private String pipeline;
+
+    private LoggerContext loggerContext;
+    private Logger logger;
+    private Path logFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        logFile = Files.createTempFile("request-logging-benchmark", ".log");
+
+        // 별도 LoggerContext에서도 slf4j MDC(traceId)를 읽도록 같은 MDC adapter 사용
+        loggerContext = new LoggerContext();
+        loggerContext.setMDCAdapter(MDC.getMDCAdapter());
+        loggerContext.putObject(Environment.class.getName(), new StandardEnvironment());
+
+        FileAppender<ILoggingEvent> fileAppender = new FileAppender<>();
+        fileAppender.setContext(loggerContext);
+        fileAppender.setFile(logFile.toString());
+        fileAppender.setAppend(false);
+        fileAppender.setEncoder(pipeline.equals("SYNC_PATTERN") ? patternEncoder() : jsonEncoder());
+        fileAppender.start();
+
+        Appender<ILoggingEvent> appender = fileAppender;
+        if (pipeline.equals("ASYNC_JSON")) {
+            AsyncAppender asyncAppender = new AsyncAppender();
+            asyncAppender.setContext(loggerContext);
+            asyncAppender.setQueueSize(8192);
+            asyncAppender.setDiscardingThreshold(0);
+            asyncAppender.setNeverBlock(false);
+            asyncAppender.setIncludeCallerData(false);
+            asyncAppender.addAppender(fileAppender);
+            asyncAppender.start();
+            appender = asyncAppender;
+        }
+
+        logger = loggerContext.getLogger(RequestLoggingBenchmark.class);
+        logger.setLevel(ch.qos.logback.classic.Level.INFO);
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        loggerContext.stop();
+        Files.deleteIfExists(logFile);
+    }
+
+    /**
+     * 요청 스레드별 MDC (TraceIdFilter와 동일하게 traceId 설정)
+     */
+    @State(Scope.Thread)
+    public static class RequestThread {
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            MDC.put("traceId", TRACE_ID);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            MDC.remove("traceId");
+        }
+    }
+
+    @Benchmark
+    public void infoLine(RequestThread requestThread) {
+        logger.info("API Response - Method: {}, URI: {}, Status: {}, TraceId: {}",
+                "POST", "/api/v1/payments/authorize", 200, TRACE_ID);
+    }
+
+    @Benchmark
+    public void disabledDebugLine(RequestThread requestThread) {
+        logger.debug("API Request - Method: {}, URI: {}, TraceId: {}",
+                "POST", "/api/v1/payments/authorize", TRACE_ID);
+    }
+
+    private Encoder<ILoggingEvent> patternEncoder() {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(loggerContext);
+        encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss} [%X{traceId}] %-5level %logger{36} - %msg%n");
+        encoder.start();
+        return encoder;
+    }
+
+    private Encoder<ILoggingEvent> jsonEncoder() {
+        StructuredLogEncoder encoder = new StructuredLogEncoder();
+        encoder.setContext(loggerContext);
+        encoder.setFormat("logstash");
+        encoder.start();
+        return encoder;
+    }
+}
@@ -0,0 +1,41 @@
+package com.bank.channel.global.filter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TraceIdFilter traceId 발급 방식 비교
+ *
+ * - randomUuid: 기존 방식 (UUID.randomUUID → toString → replace("-", ""))
+ * - timeOrdered: TimeOrderedTraceIdGenerator (UUIDv7, ThreadLocalRandom, hex 직접 인코딩)
+ *
+ * 요청 스레드 여러 개가 동시에 발급하는 상황을 가정해 4 스레드로 측정합니다.
+ * 실행: ./gradlew jmh -PjmhIncludes=TraceIdGenerationBenchmark
+ * (GC 할당량 비교 시 -PjmhProfilers=gc 사용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class TraceIdGenerationBenchmark {
+
+    private final TraceIdGenerator timeOrderedGenerator = new TimeOrderedTraceIdGenerator();
+
+    @Benchmark
+    public String randomUuid() {
+        return UUID.randomUUID().toString().replace("-", "");
+    }
+
+    @Benchmark
+    public String timeOrdered() {
+        return timeOrderedGenerator.generate();
+    }
+}
@@ -0,0 +1,83 @@
+package com.bank.channel.global.response;
+
+import com.bank.channel.baas.domain.enums.HoldStatus;
+import com.bank.channel.baas.dto.NonBank.PaymentApprovalResponse;
+import com.bank.channel.global.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ApiResponse 직렬화 (애플리케이션과 동일하게 JacksonAutoConfiguration으로 생성한 ObjectMapper 사용)
+ *
+ * - approval: 결제 승인 응답 (BigDecimal, LocalDateTime, enum 포함)
+ * - redirect: 결제 인증 응답 (redirectUrl 단일 필드 Map)
+ * - failure: 오류 응답
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=ApiResponseSerializationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ApiResponseSerializationBenchmark {
+
+    private AnnotationConfigApplicationContext context;
+    private ObjectMapper objectMapper;
+
+    private ApiResponse<PaymentApprovalResponse> approvalResponse;
+    private ApiResponse<Map<String, String>> redirectResponse;
+    private ApiResponse<Object> failureResponse;
+
+    @Setup
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(JacksonAutoConfiguration.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+
+        approvalResponse = ApiResponse.success(PaymentApprovalResponse.builder()
+                .escrowId("ESC-20251125-0001")
+                .holdAmount(new BigDecimal("1500000"))
+                .holdStatus(HoldStatus.ACTIVE)
+                .platformFee(new BigDecimal("45000"))
+                .holdStartDatetime(LocalDateTime.of(2025, 11, 25, 14, 30, 15))
+                .payerBankCode("020")
+                .payerAccount("1002123456789")
+                .build());
+        redirectResponse = ApiResponse.success(Map.of("redirectUrl",
+                "https://worket.example.com/payment/success?orderNo=ORD-20251125-0001&escrowId=ESC-20251125-0001&confirmToken=ct_7f3a9b2c"));
+        failureResponse = ApiResponse.failure(ErrorCode.TOO_MANY_REQUESTS.getCode(), ErrorCode.TOO_MANY_REQUESTS.getMessage());
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] approval() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(approvalResponse);
+    }
+
+    @Benchmark
+    public byte[] redirect() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(redirectResponse);
+    }
+
+    @Benchmark
+    public byte[] failure() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(failureResponse);
+    }
+}
@@ -0,0 +1,95 @@
+package com.bank.channel.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * API별 응답 지연 기록 (HdrHistogram, 마이크로초 단위)
+ *
+ * 지연은 요청을 실제로 보낸 시각이 아니라 보냈어야 할 시각(예정 시각)부터 측정합니다.
+ * 애플리케이션이 느려져 발생기가 밀리는 구간도 지연에 포함되므로 coordinated omission이 보정됩니다.
+ */
+public class LatencyRecorder {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+    private final Map<Operation, Map<Integer, LongAdder>> statusCounts = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> failures = new EnumMap<>(Operation.class);
+    private final LongAdder dropped = new LongAdder();
+
+    public LatencyRecorder() {
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS));
+            statusCounts.put(operation, new ConcurrentHashMap<>());
+            failures.put(operation, new LongAdder());
+        }
+    }
+
+    /**
+     * @param status HTTP 상태 코드 (연결 실패/클라이언트 타임아웃은 -1)
+     */
+    public void record(Operation operation, long intendedStartNanos, long endNanos, int status) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(endNanos - intendedStartNanos);
+        recorders.get(operation).recordValue(Math.min(Math.max(micros, 0), HIGHEST_TRACKABLE_MICROS));
+        statusCounts.get(operation).computeIfAbsent(status, key -> new LongAdder()).increment();
+        if (status < 200 || status >= 300) {
+            failures.get(operation).increment();
+        }
+    }
+
+    /**
+     * max-in-flight 초과로 보내지 못한 요청
+     */
+    public void recordDropped() {
+        dropped.increment();
+    }
+
+    /**
+     * 워밍업 구간 기록 제거
+     */
+    public void reset() {
+        recorders.values().forEach(Recorder::reset);
+        statusCounts.values().forEach(Map::clear);
+        failures.values().forEach(LongAdder::reset);
+        dropped.reset();
+    }
+
+    /**
+     * 측정 구간 결과
+     */
+    public LoadTestReport snapshot(LoadTestConfig config, double elapsedSeconds) {
+        Map<String, LoadTestReport.OperationResult> results = new LinkedHashMap<>();
+        Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = recorders.get(operation).getIntervalHistogram();
+            total.add(histogram);
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            Map<String, Long> statuses = new LinkedHashMap<>();
+            statusCounts.get(operation).entrySet().stream()
+                    .sorted(Map.Entry.comparingByKey())
+                    .forEach(entry -> statuses.put(String.valueOf(entry.getKey()), entry.getValue().sum()));
+            results.put(operation.key(), LoadTestReport.OperationResult.of(
+                    histogram, failures.get(operation).sum(), statuses, elapsedSeconds));
+        }
+
+        long totalFailures = failures.values().stream().mapToLong(LongAdder::sum).sum();
+        return new LoadTestReport(
+                config,
+                elapsedSeconds,
+                dropped.sum(),
+                LoadTestReport.OperationResult.of(total, totalFailures, Map.of(), elapsedSeconds),
+                results);
+    }
+}
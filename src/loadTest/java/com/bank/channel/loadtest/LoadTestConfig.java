@@ -0,0 +1,112 @@
+package com.bank.channel.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (System Property "loadtest.*", Gradle에서는 -Ploadtest.*로 전달)
+ *
+ * @param rps                     목표 초당 요청 수 (open-loop, 응답 지연과 무관하게 일정 간격으로 발생)
+ * @param warmup                  측정 전 워밍업 시간 (JIT/커넥션 풀/캐시 워밍업, 결과에서 제외)
+ * @param duration                측정 시간
+ * @param maxInFlight             동시 진행 요청 상한 (초과 시 요청을 보내지 않고 dropped로 집계)
+ * @param virtualThreads          애플리케이션 virtual thread 모드 (spring.threads.virtual.enabled)
+ * @param payerPoolSize           결제 인증에 사용할 Payer 계좌 수 (작을수록 재결제 비율이 높음)
+ * @param mix                     API별 트래픽 비중
+ * @param stubLatency             Stub 계정계 기본 응답 지연
+ * @param stubLatencyTail         Stub 계정계 추가 지연 평균 (지수 분포, 꼬리 지연 재현)
+ * @param stubBusinessErrorRate   Stub 계정계 비즈니스 오류(403 BAL_3001) 비율
+ * @param stubServerErrorRate     Stub 계정계 서버 오류(500) 비율
+ * @param stubTimeoutRate         Stub 계정계 무응답(read-timeout 초과) 비율
+ * @param stubTimeoutDelay        무응답 시 지연 시간
+ * @param reportDir               결과 파일 저장 경로
+ */
+public record LoadTestConfig(
+        int rps,
+        Duration warmup,
+        Duration duration,
+        int maxInFlight,
+        boolean virtualThreads,
+        int payerPoolSize,
+        Map<Operation, Integer> mix,
+        Duration stubLatency,
+        Duration stubLatencyTail,
+        double stubBusinessErrorRate,
+        double stubServerErrorRate,
+        double stubTimeoutRate,
+        Duration stubTimeoutDelay,
+        Path reportDir
+) {
+
+    private static final String PREFIX = "loadtest.";
+
+    public static LoadTestConfig fromSystemProperties() {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            mix.put(operation, intProperty("mix." + operation.key(), operation.defaultWeight()));
+        }
+
+        return new LoadTestConfig(
+                intProperty("rps", 200),
+                durationProperty("warmup", "15s"),
+                durationProperty("duration", "60s"),
+                intProperty("max-in-flight", 2000),
+                Boolean.parseBoolean(property("virtual-threads", "false")),
+                intProperty("payer-pool-size", 1000),
+                mix,
+                durationProperty("stub.latency", "20ms"),
+                durationProperty("stub.latency-tail", "10ms"),
+                doubleProperty("stub.business-error-rate", 0.02),
+                doubleProperty("stub.server-error-rate", 0.005),
+                doubleProperty("stub.timeout-rate", 0.0),
+                durationProperty("stub.timeout-delay", "10s"),
+                Path.of(property("report-dir", "build/reports/loadtest"))
+        );
+    }
+
+    /**
+     * 가중치에 따라 API 선택 (random: 0 이상 1 미만)
+     */
+    public Operation pick(double random) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        double target = random * total;
+        int cumulative = 0;
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            cumulative += entry.getValue();
+            if (target < cumulative) {
+                return entry.getKey();
+            }
+        }
+        return Operation.AUTHORIZE;
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty(PREFIX + name, defaultValue);
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.parseInt(property(name, String.valueOf(defaultValue)));
+    }
+
+    private static double doubleProperty(String name, double defaultValue) {
+        return Double.parseDouble(property(name, String.valueOf(defaultValue)));
+    }
+
+    /**
+     * "500ms", "30s", "5m" 형식
+     */
+    private static Duration durationProperty(String name, String defaultValue) {
+        String value = property(name, defaultValue).trim();
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        long amount = Long.parseLong(value.substring(0, value.length() - 1));
+        return switch (value.charAt(value.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            default -> throw new IllegalArgumentException("Unsupported duration: " + value);
+        };
+    }
+}
@@ -0,0 +1,99 @@
+package com.bank.channel.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+/**
+ * 부하 테스트 결과 (콘솔 표 + JSON 파일)
+ *
+ * @param config         실행 설정
+ * @param elapsedSeconds 측정 시간 (워밍업 제외)
+ * @param dropped        max-in-flight 초과로 보내지 못한 요청 수
+ * @param total          전체 API 합산 결과
+ * @param operations     API별 결과
+ */
+public record LoadTestReport(
+        LoadTestConfig config,
+        double elapsedSeconds,
+        long dropped,
+        OperationResult total,
+        Map<String, OperationResult> operations
+) {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    /**
+     * @param count          완료된 요청 수
+     * @param failures       2xx가 아닌 응답 수 (연결 실패/타임아웃 포함)
+     * @param throughputRps  초당 완료 요청 수
+     * @param p50Millis      중앙값 지연
+     * @param p99Millis      99 백분위 지연
+     * @param p999Millis     99.9 백분위 지연
+     * @param maxMillis      최대 지연
+     * @param statusCounts   HTTP 상태 코드별 건수 (-1: 연결 실패/타임아웃)
+     */
+    public record OperationResult(
+            long count,
+            long failures,
+            double throughputRps,
+            double p50Millis,
+            double p99Millis,
+            double p999Millis,
+            double maxMillis,
+            Map<String, Long> statusCounts
+    ) {
+
+        static OperationResult of(Histogram histogram, long failures, Map<String, Long> statusCounts, double elapsedSeconds) {
+            return new OperationResult(
+                    histogram.getTotalCount(),
+                    failures,
+                    elapsedSeconds > 0 ? histogram.getTotalCount() / elapsedSeconds : 0,
+                    toMillis(histogram.getValueAtPercentile(50)),
+                    toMillis(histogram.getValueAtPercentile(99)),
+                    toMillis(histogram.getValueAtPercentile(99.9)),
+                    toMillis(histogram.getMaxValue()),
+                    statusCounts);
+        }
+
+        private static double toMillis(long micros) {
+            return micros / 1000.0;
+        }
+    }
+
+    public void print() {
+        System.out.printf("%n=== Load test result (target %d rps, %.1fs, virtual threads: %s) ===%n",
+                config.rps(), elapsedSeconds, config.virtualThreads());
+        System.out.printf("%-10s %10s %8s %10s %10s %10s %10s %10s%n",
+                "api", "count", "fail", "rps", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+        operations.forEach(this::printRow);
+        printRow("total", total);
+        System.out.printf("dropped (max-in-flight exceeded): %d%n", dropped);
+    }
+
+    /**
+     * build/reports/loadtest/loadtest-<시각>.json 으로 저장
+     */
+    public Path write() throws IOException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build()
+                .enable(SerializationFeature.INDENT_OUTPUT);
+        Files.createDirectories(config.reportDir());
+        Path file = config.reportDir().resolve("loadtest-" + LocalDateTime.now().format(FILE_TIMESTAMP) + ".json");
+        objectMapper.writeValue(file.toFile(), this);
+        return file;
+    }
+
+    private void printRow(String name, OperationResult result) {
+        System.out.printf("%-10s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+                name, result.count(), result.failures(), result.throughputRps(),
+                result.p50Millis(), result.p99Millis(), result.p999Millis(), result.maxMillis());
+    }
+}
@@ -0,0 +1,142 @@
+package com.bank.channel.loadtest;
+
+import com.bank.channel.BankChannelApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * End-to-End 부하 테스트
+ *
+ * 1. Stub 계정계(StubCoreBankingServer)를 로컬 임의 포트로 기동
+ * 2. 애플리케이션을 loadtest 프로필(H2 MySQL 모드 인메모리 DB, 호출 한도 해제)로 기동하고 계정계 URL을 Stub으로 지정
+ * 3. 결제 인증/승인/지급 확정, 사용량 조회, 계약 등록을 설정 비중대로 섞어 목표 RPS로 발생 (open-loop)
+ * 4. 워밍업 이후 구간의 API별 p50/p99/p999 지연과 처리량을 출력하고 JSON으로 저장
+ *
+ * 외부 네트워크/DB/컨테이너 없이 실행됩니다. (./gradlew loadTest)
+ * virtual thread 모드 비교: -Ploadtest.virtual-threads=true 로 같은 설정을 한 번 더 실행
+ */
+public final class LoadTestRunner {
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final LoadTestConfig config;
+    private final LatencyRecorder recorder = new LatencyRecorder();
+    private final AtomicLong sequence = new AtomicLong();
+
+    private LoadTestRunner(LoadTestConfig config) {
+        this.config = config;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        LoadTestReport report = new LoadTestRunner(config).run();
+
+        report.print();
+        Path file = report.write();
+        System.out.printf("report: %s%n", file.toAbsolutePath());
+        System.exit(0);
+    }
+
+    private LoadTestReport run() throws Exception {
+        try (StubCoreBankingServer stub = new StubCoreBankingServer(config);
+             ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+
+            URI coreUri = stub.start();
+            try (ConfigurableApplicationContext context = startApplication(coreUri)) {
+                int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+                URI baseUri = URI.create("http://127.0.0.1:" + port);
+
+                HttpClient client = HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .connectTimeout(Duration.ofSeconds(5))
+                        .executor(clientExecutor)
+                        .build();
+                Semaphore inFlight = new Semaphore(config.maxInFlight());
+
+                System.out.printf("Warming up for %ds at %d rps...%n", config.warmup().toSeconds(), config.rps());
+                drive(client, baseUri, inFlight, config.warmup());
+                awaitDrain(inFlight);
+                recorder.reset();
+
+                System.out.printf("Measuring for %ds at %d rps...%n", config.duration().toSeconds(), config.rps());
+                long startNanos = System.nanoTime();
+                drive(client, baseUri, inFlight, config.duration());
+                awaitDrain(inFlight);
+                double elapsedSeconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+
+                System.out.printf("Stub core-banking requests: %d%n", stub.requestCount());
+                return recorder.snapshot(config, elapsedSeconds);
+            }
+        }
+    }
+
+    private ConfigurableApplicationContext startApplication(URI coreUri) {
+        // 명령행 인자로 전달해야 application.yml의 값보다 우선 적용됨
+        return new SpringApplicationBuilder(BankChannelApplication.class)
+                .profiles("loadtest")
+                .run(
+                        "--server.port=0",
+                        "--management.server.port=0",
+                        "--external.api.account-system.url=" + coreUri,
+                        "--spring.threads.virtual.enabled=" + config.virtualThreads()
+                );
+    }
+
+    /**
+     * 예정 시각마다 요청을 발생시킵니다. 응답을 기다리지 않으므로 애플리케이션이 느려져도 발생 속도는 유지됩니다.
+     */
+    private void drive(HttpClient client, URI baseUri, Semaphore inFlight, Duration phase) {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / config.rps();
+        long startNanos = System.nanoTime();
+        long endNanos = startNanos + phase.toNanos();
+
+        for (long i = 0; ; i++) {
+            long intendedNanos = startNanos + i * intervalNanos;
+            if (intendedNanos >= endNanos) {
+                return;
+            }
+            long waitNanos = intendedNanos - System.nanoTime();
+            if (waitNanos > 0) {
+                LockSupport.parkNanos(waitNanos);
+            }
+
+            if (!inFlight.tryAcquire()) {
+                recorder.recordDropped();
+                continue;
+            }
+
+            Operation operation = config.pick(ThreadLocalRandom.current().nextDouble());
+            HttpRequest request = operation.build(baseUri, sequence.incrementAndGet(), config.payerPoolSize());
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        recorder.record(operation, intendedNanos, System.nanoTime(),
+                                error == null ? response.statusCode() : -1);
+                        inFlight.release();
+                    });
+        }
+    }
+
+    private void awaitDrain(Semaphore inFlight) throws InterruptedException {
+        if (!inFlight.tryAcquire(config.maxInFlight(), DRAIN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+            System.out.printf("%d requests still in flight after %ds%n",
+                    config.maxInFlight() - inFlight.availablePermits(), DRAIN_TIMEOUT.toSeconds());
+            return;
+        }
+        inFlight.release(config.maxInFlight());
+    }
+}
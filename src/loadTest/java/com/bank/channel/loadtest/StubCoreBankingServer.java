@@ -0,0 +1,168 @@
+package com.bank.channel.loadtest;
+
+import com.bank.channel.baas.domain.enums.HoldStatus;
+import com.bank.channel.baas.dto.Bank.BankPaymentApprovalResponse;
+import com.bank.channel.baas.dto.Bank.BankPaymentAuthorizeResponse;
+import com.bank.channel.baas.dto.Bank.BankPaymentConfirmResponse;
+import com.bank.channel.global.exception.ErrorCode;
+import com.bank.channel.global.response.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 부하 테스트용 Stub 계정계 서버 (JDK 내장 HttpServer, 요청마다 virtual thread)
+ *
+ * 실제 계정계와 같은 경로(/payment/authorize, /payment/approval, /payment/confirm)와 ApiResponse 형식으로 응답하며,
+ * 응답 지연(기본 지연 + 지수 분포 꼬리)과 오류 비율(비즈니스 오류 / 서버 오류 / 무응답)을 설정할 수 있습니다.
+ * 응답 DTO는 애플리케이션과 같은 클래스를 Jackson 기본 설정으로 직렬화하므로 Feign 역직렬화 경로가 동일합니다.
+ */
+public class StubCoreBankingServer implements AutoCloseable {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final LoadTestConfig config;
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong requests = new AtomicLong();
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public StubCoreBankingServer(LoadTestConfig config) {
+        this.config = config;
+    }
+
+    public URI start() throws IOException {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        server.setExecutor(executor);
+        server.createContext("/payment/authorize", exchange -> handle(exchange, this::authorizeResponse));
+        server.createContext("/payment/approval", exchange -> handle(exchange, this::approvalResponse));
+        server.createContext("/payment/confirm", exchange -> handle(exchange, this::confirmResponse));
+        server.start();
+        return URI.create("http://127.0.0.1:" + server.getAddress().getPort());
+    }
+
+    public long requestCount() {
+        return requests.get();
+    }
+
+    @Override
+    public void close() {
+        if (server != null) {
+            server.stop(0);
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void handle(HttpExchange exchange, ResponseFactory responseFactory) throws IOException {
+        requests.incrementAndGet();
+        try (exchange; InputStream body = exchange.getRequestBody()) {
+            body.readAllBytes();
+
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            double outcome = random.nextDouble();
+
+            if (outcome < config.stubTimeoutRate()) {
+                // 채널계 read-timeout을 넘기도록 응답하지 않음
+                sleep(config.stubTimeoutDelay());
+                send(exchange, 504, EMPTY);
+                return;
+            }
+
+            sleep(latency(random));
+
+            outcome -= config.stubTimeoutRate();
+            if (outcome < config.stubServerErrorRate()) {
+                send(exchange, 500, objectMapper.writeValueAsBytes(
+                        ApiResponse.failure(ErrorCode.INTERNAL_SERVER_ERROR.getCode(), ErrorCode.INTERNAL_SERVER_ERROR.getMessage())));
+                return;
+            }
+
+            outcome -= config.stubServerErrorRate();
+            if (outcome < config.stubBusinessErrorRate()) {
+                send(exchange, ErrorCode.BALANCE_INSUFFICIENT.getStatus().value(), objectMapper.writeValueAsBytes(
+                        ApiResponse.failure(ErrorCode.BALANCE_INSUFFICIENT.getCode(), ErrorCode.BALANCE_INSUFFICIENT.getMessage())));
+                return;
+            }
+
+            send(exchange, 200, objectMapper.writeValueAsBytes(ApiResponse.success(responseFactory.create(sequence.incrementAndGet()))));
+        }
+    }
+
+    private Duration latency(ThreadLocalRandom random) {
+        long tailNanos = config.stubLatencyTail().toNanos();
+        long extraNanos = tailNanos > 0 ? (long) (-Math.log(1 - random.nextDouble()) * tailNanos) : 0L;
+        return config.stubLatency().plusNanos(extraNanos);
+    }
+
+    private BankPaymentAuthorizeResponse authorizeResponse(long id) {
+        return BankPaymentAuthorizeResponse.builder()
+                .orderNo("STUB-ORD-" + id)
+                .confirmToken(UUID.randomUUID().toString())
+                .escrowId("STUB-ESC-" + id)
+                .build();
+    }
+
+    private BankPaymentApprovalResponse approvalResponse(long id) {
+        return BankPaymentApprovalResponse.builder()
+                .escrowId("STUB-ESC-" + id)
+                .holdAmount(new BigDecimal("1500000"))
+                .holdStatus(HoldStatus.ACTIVE)
+                .platformFee(new BigDecimal("45000"))
+                .holdStartDatetime(LocalDateTime.now())
+                .payerBankCode("020")
+                .payerAccount("1002123456789")
+                .build();
+    }
+
+    private BankPaymentConfirmResponse confirmResponse(long id) {
+        return BankPaymentConfirmResponse.builder()
+                .paymentId("STUB-PAY-" + id)
+                .build();
+    }
+
+    private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        if (body.length > 0) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        if (duration.isZero() || duration.isNegative()) {
+            return;
+        }
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ResponseFactory {
+        Object create(long id);
+    }
+}
@@ -0,0 +1,6 @@
+/*
+부하 테스트 가맹점 (Operation.AUTHORIZATION의 API Key)
+*/
+
+INSERT INTO merchants (merchant_id, merchant_name, business_reg_number, merchant_type, api_key, status, created_at, updated_at)
+VALUES ('WK', '워켓코리아', '123-45-67890', 'PLATFORM', 'apiKey_woket_d8d3f820241201', 'ACTIVE', NOW(), NOW());
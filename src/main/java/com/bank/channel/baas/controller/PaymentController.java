@@ -2,9 +2,13 @@ package com.bank.channel.baas.controller;
 
 import com.bank.channel.baas.dto.Bank.BankPaymentAuthorizeResponse;
 import com.bank.channel.baas.dto.NonBank.*;
+import com.bank.channel.baas.service.PaymentIdempotencyStore;
 import com.bank.channel.baas.service.PaymentService;
 import com.bank.channel.global.exception.ErrorCode;
+import com.bank.channel.global.filter.RequestPipelineMetrics;
+import com.bank.channel.global.filter.TraceIdFilter;
 import com.bank.channel.global.response.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
@@ -14,6 +18,10 @@ import java.util.Map;
 
 /**
  * BaaS API 진입점 (결제 요청, 승인, 지급 확정)
+ *
+ * 모든 API는 Idempotency-Key 헤더를 지원합니다. (헤더가 없으면 authorize는 orderNo, approval/confirm은 escrowId 기준)
+ * 같은 키의 재시도는 계정계를 다시 호출하지 않고 처리 중인 요청의 결과 또는 완료된 응답을 그대로 반환합니다.
+ * (API Key로 인증된 가맹점의 요청만 적용, 같은 키로 본문이 다른 요청은 422)
  */
 @Slf4j
 @RestController
@@ -21,15 +29,28 @@ import java.util.Map;
 @RequestMapping("api/v1/payment")
 public class PaymentController {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final PaymentService paymentService;
+    private final PaymentIdempotencyStore idempotencyStore;
 
     @PostMapping("/authorize")
     public ApiResponse<Map<String, String>> authorizePayment(
             @RequestHeader(name = "Authorization", required = false) String authorizationHeader,
-            @RequestBody PaymentAuthorizeRequest request
+            @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestAttribute(name = TraceIdFilter.MERCHANT_ID_ATTRIBUTE, required = false) String merchantId,
+            @RequestBody PaymentAuthorizeRequest request,
+            HttpServletRequest servletRequest
     ) {
-        // 1. 서비스 호출: 결제 인증 수행
-        PaymentAuthorizeResponse result = paymentService.authorizePayment(request);
+        // 1. 서비스 호출: 결제 인증 수행 (실패 응답은 재사용하지 않으므로 재시도 시 다시 처리)
+        PaymentAuthorizeResponse result = idempotencyStore.execute(
+                "authorize",
+                merchantId,
+                resolveIdempotencyKey(idempotencyKey, "orderNo", request.getOrderNo()),
+                request,
+                () -> paymentService.authorizePayment(request),
+                PaymentAuthorizeResponse::isSuccess
+        );
 
         String redirectUrl;
 
@@ -43,6 +64,8 @@ public class PaymentController {
             log.info("[Payment Authorize Success] Redirect URL: {}", redirectUrl);
         } else {
             ErrorCode errorCode = result.getErrorCode();
+            // 200 응답이지만 실패 ErrorCode를 요청 처리 Timer에 태그로 남김
+            servletRequest.setAttribute(RequestPipelineMetrics.ERROR_CODE_ATTRIBUTE, errorCode.getCode());
             redirectUrl = UriComponentsBuilder.fromUriString(request.getFailUrl())
                     .queryParam("code", errorCode.getCode())
                     .toUriString();
@@ -62,9 +85,17 @@ public class PaymentController {
     @PostMapping("/approval")
     public ApiResponse<PaymentApprovalResponse> approvePayment(
             @RequestHeader(name = "Authorization", required = false) String authorizationHeader,
+            @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestAttribute(name = TraceIdFilter.MERCHANT_ID_ATTRIBUTE, required = false) String merchantId,
             @RequestBody PaymentApprovalRequest request
     ) {
-        PaymentApprovalResponse response = paymentService.approvePayment(request);
+        PaymentApprovalResponse response = idempotencyStore.execute(
+                "approval",
+                merchantId,
+                resolveIdempotencyKey(idempotencyKey, "escrowId", request.getEscrowId()),
+                request,
+                () -> paymentService.approvePayment(request)
+        );
         return ApiResponse.success(response);
     }
 
@@ -75,10 +106,30 @@ public class PaymentController {
     @PostMapping("/confirm")
     public ApiResponse<PaymentConfirmResponse> requestEscrow(
             @RequestHeader(name = "Authorization", required = false) String authorizationHeader,
+            @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestAttribute(name = TraceIdFilter.MERCHANT_ID_ATTRIBUTE, required = false) String merchantId,
             @RequestBody PaymentConfirmRequest request
     ) {
-        PaymentConfirmResponse response = paymentService.confirmPayment(request);
+        PaymentConfirmResponse response = idempotencyStore.execute(
+                "confirm",
+                merchantId,
+                resolveIdempotencyKey(idempotencyKey, "escrowId", request.getEscrowId()),
+                request,
+                () -> paymentService.confirmPayment(request)
+        );
         return ApiResponse.success(response);
     }
 
+    /**
+     * 멱등성 키 결정 (Idempotency-Key 헤더 우선, 없으면 요청의 업무 키)
+     *
+     * 헤더 값과 업무 키가 같은 문자열이어도 충돌하지 않도록 업무 키에는 필드명을 붙입니다.
+     */
+    private String resolveIdempotencyKey(String idempotencyKey, String fieldName, String fieldValue) {
+        if (idempotencyKey != null && !idempotencyKey.isBlank()) {
+            return idempotencyKey;
+        }
+        return (fieldValue != null && !fieldValue.isBlank()) ? fieldName + "=" + fieldValue : null;
+    }
+
 }
@@ -21,7 +21,8 @@ public class ApiBillingPolicy {
     @Column(name = "merchant_id", nullable = false, length = 50)
     private String merchantId;
 
-    @Column(name = "api_endpoint", nullable = false, length = 64)
+    // NULL이면 가맹점 전역 정책 (API별 정책이 없을 때 적용)
+    @Column(name = "api_endpoint", length = 64)
     private String apiEndpoint;
 
     @Column(name = "unit_success_price", nullable = false)
@@ -1,6 +1,8 @@
 package com.bank.channel.baas.domain;
 
 import com.bank.channel.baas.domain.enums.HttpMethod;
+import com.bank.channel.global.common.SnowflakeId;
+import com.bank.channel.global.common.TraceIdBinaryConverter;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -24,6 +26,7 @@ public class ApiCallLog {
             LocalDateTime requestAt,
             LocalDateTime responseAt,
             Integer latencyMs,
+            Long latencyUs,
             Integer statusCode
     ) {
         this.traceId = traceId;
@@ -33,15 +36,17 @@ public class ApiCallLog {
         this.requestAt = requestAt;
         this.responseAt = responseAt;
         this.latencyMs = latencyMs;
+        this.latencyUs = latencyUs;
         this.statusCode = statusCode;
     }
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     @Column(name = "log_id")
     private Long logId;
 
-    @Column(name = "trace_id", nullable = false, length = 50)
+    @Convert(converter = TraceIdBinaryConverter.class)
+    @Column(name = "trace_id", nullable = false, columnDefinition = "BINARY(16)")
     private String traceId;
 
     @Column(name = "merchant_id", nullable = false, length = 50)
@@ -63,6 +68,9 @@ public class ApiCallLog {
     @Column(name = "latency_ms", nullable = false)
     private Integer latencyMs;
 
+    @Column(name = "latency_us")
+    private Long latencyUs;
+
     @Column(name = "status_code", nullable = false)
     private Integer statusCode;
 }
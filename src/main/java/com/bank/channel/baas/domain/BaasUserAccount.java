@@ -1,6 +1,7 @@
 package com.bank.channel.baas.domain;
 
 import com.bank.channel.global.common.BaseEntity;
+import com.bank.channel.global.common.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -18,7 +19,7 @@ import java.time.LocalDateTime;
 public class BaasUserAccount extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     @Column(name = "account_id")
     private Long accountId;
 
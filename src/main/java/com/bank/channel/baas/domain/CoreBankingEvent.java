@@ -3,8 +3,11 @@ package com.bank.channel.baas.domain;
 import com.bank.channel.baas.domain.enums.CoreSystemType;
 import com.bank.channel.baas.domain.enums.EventStatus;
 import com.bank.channel.global.common.BaseEntity;
+import com.bank.channel.global.common.SnowflakeId;
+import com.bank.channel.global.common.TraceIdBinaryConverter;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.JdbcTypeCode;
@@ -18,15 +21,41 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class CoreBankingEvent extends BaseEntity {
 
+    @Builder(toBuilder = true)
+    private CoreBankingEvent(
+            String traceId,
+            String channelTxId,
+            String apiName,
+            CoreSystemType coreSystemType,
+            String coreEndpoint,
+            String requestPayload,
+            LocalDateTime requestTime,
+            String responsePayload,
+            LocalDateTime responseTime,
+            EventStatus status
+    ) {
+        this.traceId = traceId;
+        this.channelTxId = channelTxId;
+        this.apiName = apiName;
+        this.coreSystemType = coreSystemType;
+        this.coreEndpoint = coreEndpoint;
+        this.requestPayload = requestPayload;
+        this.requestTime = requestTime;
+        this.responsePayload = responsePayload;
+        this.responseTime = responseTime;
+        this.status = status;
+    }
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     @Column(name = "event_id")
     private Long eventId;
 
-    @Column(name = "trace_id", length = 50)
+    @Convert(converter = TraceIdBinaryConverter.class)
+    @Column(name = "trace_id", columnDefinition = "BINARY(16)")
     private String traceId;
 
-    @Column(name = "channel_tx_id", nullable = false, length = 64)
+    @Column(name = "channel_tx_id", nullable = false, unique = true, length = 64)
     private String channelTxId;
 
     @Column(name = "api_name", nullable = false, length = 100)
@@ -0,0 +1,61 @@
+package com.bank.channel.baas.repository;
+
+import com.bank.channel.baas.domain.ApiCallLog;
+import com.bank.channel.global.common.EntityIds;
+import com.bank.channel.global.common.TraceIds;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * API 호출 로그 다건 INSERT Repository
+ *
+ * ApiCallLogWriter가 모아 둔 로그를 multi-row INSERT 한 번으로 저장하기 위해 JDBC로 직접 접근합니다.
+ * log_id는 Entity(@SnowflakeId)와 같은 발급기(EntityIds)로 정합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ApiCallLogBatchRepository {
+
+    private static final String INSERT_PREFIX = """
+            INSERT INTO api_call_logs (
+                log_id, trace_id, merchant_id, api_endpoint, http_method,
+                request_at, response_at, latency_ms, latency_us, status_code
+            ) VALUES\s""";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 로그 목록을 하나의 multi-row INSERT 문으로 저장합니다.
+     *
+     * @param logs 저장할 로그 목록
+     * @return 저장된 행 수
+     */
+    public int insertAll(List<ApiCallLog> logs) {
+        if (logs.isEmpty()) {
+            return 0;
+        }
+
+        String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(logs.size(), ROW_PLACEHOLDER));
+
+        return jdbcTemplate.update(sql, ps -> {
+            int index = 1;
+            for (ApiCallLog log : logs) {
+                ps.setLong(index++, EntityIds.next());
+                ps.setBytes(index++, TraceIds.toBytes(log.getTraceId()));
+                ps.setString(index++, log.getMerchantId());
+                ps.setString(index++, log.getApiEndpoint());
+                ps.setString(index++, log.getHttpMethod().name());
+                ps.setObject(index++, log.getRequestAt());
+                ps.setObject(index++, log.getResponseAt());
+                ps.setInt(index++, log.getLatencyMs());
+                ps.setObject(index++, log.getLatencyUs());
+                ps.setInt(index++, log.getStatusCode());
+            }
+        });
+    }
+}
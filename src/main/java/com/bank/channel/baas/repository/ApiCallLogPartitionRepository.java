@@ -0,0 +1,116 @@
+package com.bank.channel.baas.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * api_call_logs RANGE COLUMNS(request_at) 파티션 관리 Repository (MySQL 전용)
+ *
+ * 파티션 구성 (db/migration/V6__api_call_logs_partitioning.sql)
+ * - p{yyyyMM} (V6 적용 월): 적용 시점까지의 기존 로그 (V6가 파티션을 나누며 생성)
+ * - p{yyyyMMdd} / p{yyyyMM}: request_at < 다음 구간 시작 (ApiCallLogPartitionMaintainer가 미리 생성)
+ * - p_future: MAXVALUE (미리 만든 구간을 넘는 로그가 INSERT 실패하지 않도록 항상 마지막에 유지)
+ *
+ * 새 구간은 p_future를 REORGANIZE하여 추가합니다. REORGANIZE는 p_future의 행을 모두 다시 쓰므로,
+ * p_future가 비어 있어야(기존 로그는 V6의 적용 월 구간, 새 로그는 미리 만든 구간에 저장) 메타데이터 변경만으로 끝납니다.
+ * DDL에는 바인딩 변수를 쓸 수 없으므로 파티션 이름은 형식을 검증한 뒤 SQL에 포함합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ApiCallLogPartitionRepository {
+
+    public static final String FUTURE_PARTITION = "p_future";
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("p\\d{6}|p\\d{8}");
+    private static final DateTimeFormatter BOUND_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final String MAXVALUE = "MAXVALUE";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 현재 파티션 목록 (범위 순)
+     *
+     * @return 파티션 목록, 파티션되지 않은 테이블이면 빈 목록
+     */
+    public List<RangePartition> findPartitions() {
+        return jdbcTemplate.query("""
+                        SELECT PARTITION_NAME, PARTITION_DESCRIPTION
+                        FROM information_schema.PARTITIONS
+                        WHERE TABLE_SCHEMA = DATABASE()
+                          AND TABLE_NAME = 'api_call_logs'
+                          AND PARTITION_NAME IS NOT NULL
+                        ORDER BY PARTITION_ORDINAL_POSITION
+                        """,
+                (rs, rowNum) -> new RangePartition(rs.getString(1), parseBound(rs.getString(2))));
+    }
+
+    /**
+     * p_future를 나누어 구간 추가 (추가할 구간은 기존 마지막 구간 이후, 범위 순)
+     */
+    public void addPartitions(List<RangePartition> partitions) {
+        if (partitions.isEmpty()) {
+            return;
+        }
+        String definitions = partitions.stream()
+                .map(partition -> "PARTITION %s VALUES LESS THAN ('%s')".formatted(
+                        validName(partition.name()), partition.lessThan().format(BOUND_FORMAT)))
+                .collect(Collectors.joining(", "));
+
+        jdbcTemplate.execute("ALTER TABLE api_call_logs REORGANIZE PARTITION %1$s INTO (%2$s, PARTITION %1$s VALUES LESS THAN (MAXVALUE))"
+                .formatted(FUTURE_PARTITION, definitions));
+    }
+
+    /**
+     * 파티션 삭제 (해당 구간 로그 삭제, 행 단위 DELETE 없이 즉시 완료)
+     */
+    public void dropPartition(String name) {
+        jdbcTemplate.execute("ALTER TABLE api_call_logs DROP PARTITION " + validName(name));
+    }
+
+    /**
+     * 파티션을 별도 테이블(api_call_logs_{파티션명})로 옮긴 뒤 삭제
+     *
+     * EXCHANGE PARTITION은 데이터 파일만 교체하므로 행 복사 없이 완료됩니다.
+     *
+     * @return 보관 테이블 이름
+     */
+    public String archivePartition(String name) {
+        String archiveTable = "api_call_logs_" + validName(name);
+        jdbcTemplate.execute("CREATE TABLE " + archiveTable + " LIKE api_call_logs");
+        jdbcTemplate.execute("ALTER TABLE " + archiveTable + " REMOVE PARTITIONING");
+        jdbcTemplate.execute("ALTER TABLE api_call_logs EXCHANGE PARTITION " + name + " WITH TABLE " + archiveTable);
+        dropPartition(name);
+        return archiveTable;
+    }
+
+    private static String validName(String name) {
+        if (!PARTITION_NAME.matcher(name).matches()) {
+            throw new IllegalArgumentException("Invalid partition name: " + name);
+        }
+        return name;
+    }
+
+    private static LocalDateTime parseBound(String description) {
+        if (description == null || MAXVALUE.equalsIgnoreCase(description)) {
+            return null;
+        }
+        // RANGE COLUMNS의 PARTITION_DESCRIPTION은 따옴표로 감싼 값 ('2025-03-02 00:00:00')
+        return LocalDateTime.parse(description.replace("'", "").trim(), BOUND_FORMAT);
+    }
+
+    /**
+     * RANGE 파티션
+     *
+     * @param name 파티션 이름
+     * @param lessThan 상한 (미포함), MAXVALUE이면 null
+     */
+    public record RangePartition(String name, LocalDateTime lessThan) {
+    }
+}
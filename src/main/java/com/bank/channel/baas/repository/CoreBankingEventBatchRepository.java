@@ -0,0 +1,172 @@
+package com.bank.channel.baas.repository;
+
+import com.bank.channel.baas.domain.CoreBankingEvent;
+import com.bank.channel.baas.domain.enums.EventStatus;
+import com.bank.channel.global.common.EntityIds;
+import com.bank.channel.global.common.TraceIds;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 계정계 호출 이력(core_banking_events) JDBC Repository
+ *
+ * CoreBankingJournal이 모아 둔 이력을 multi-row upsert 한 번으로 저장하고,
+ * CoreBankingEventReconciler가 REQUESTED 상태로 남은 이력을 조회하여 TIMEOUT으로 표시합니다.
+ *
+ * 같은 호출의 REQUESTED 기록과 최종 결과 기록은 channel_tx_id(unique)로 같은 행에 upsert되며,
+ * 최종 상태가 기록된 행은 뒤늦게 처리된 REQUESTED 기록으로 되돌아가지 않습니다.
+ * event_id는 신규 행에만 적용되며(EntityIds), upsert로 갱신되는 행은 기존 event_id를 유지합니다.
+ *
+ * ON DUPLICATE KEY는 PRIMARY KEY 충돌에도 적용되므로, 발급된 event_id가 다른 호출의 행과 겹치면
+ * (노드 ID 설정 오류 등) 그 행을 덮어쓰지 않도록 channel_tx_id가 같은 경우에만 갱신하고,
+ * 저장되지 않은 이력은 새 event_id로 다시 저장합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CoreBankingEventBatchRepository {
+
+    private static final String UPSERT_PREFIX = """
+            INSERT INTO core_banking_events (
+                event_id, trace_id, channel_tx_id, api_name, core_system_type, core_endpoint,
+                request_payload, request_time, response_payload, response_time, status,
+                created_at, updated_at
+            ) VALUES\s""";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPSERT_SUFFIX = """
+             ON DUPLICATE KEY UPDATE
+                response_payload = CASE WHEN channel_tx_id <> VALUES(channel_tx_id) OR VALUES(status) = 'REQUESTED'
+                    THEN response_payload ELSE VALUES(response_payload) END,
+                response_time = CASE WHEN channel_tx_id <> VALUES(channel_tx_id) OR VALUES(status) = 'REQUESTED'
+                    THEN response_time ELSE VALUES(response_time) END,
+                status = CASE WHEN channel_tx_id <> VALUES(channel_tx_id) OR VALUES(status) = 'REQUESTED'
+                    THEN status ELSE VALUES(status) END,
+                updated_at = CASE WHEN channel_tx_id <> VALUES(channel_tx_id) THEN updated_at ELSE VALUES(updated_at) END""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 이력 목록을 하나의 multi-row upsert 문으로 저장합니다.
+     *
+     * @param events 저장할 이력 (channel_tx_id 중복 없음)
+     * @return 영향받은 행 수
+     * @throws DuplicateKeyException 새 event_id로 다시 저장해도 event_id가 충돌한 경우
+     */
+    public int upsertAll(List<CoreBankingEvent> events) {
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        int affected = upsert(events);
+
+        // event_id 충돌로 다른 호출의 행에 적용된(변경 없음) 이력은 새 event_id로 다시 저장
+        List<CoreBankingEvent> unsaved = findUnsaved(events);
+        if (!unsaved.isEmpty()) {
+            affected += upsert(unsaved);
+            unsaved = findUnsaved(unsaved);
+            if (!unsaved.isEmpty()) {
+                throw new DuplicateKeyException("core_banking_events event_id collision. ChannelTxIds: "
+                        + unsaved.stream().map(CoreBankingEvent::getChannelTxId).toList());
+            }
+        }
+        return affected;
+    }
+
+    private int upsert(List<CoreBankingEvent> events) {
+        String sql = UPSERT_PREFIX
+                + String.join(", ", Collections.nCopies(events.size(), ROW_PLACEHOLDER))
+                + UPSERT_SUFFIX;
+        LocalDateTime now = LocalDateTime.now();
+
+        return jdbcTemplate.update(sql, ps -> {
+            int index = 1;
+            for (CoreBankingEvent event : events) {
+                ps.setLong(index++, EntityIds.next());
+                ps.setBytes(index++, TraceIds.toBytes(event.getTraceId()));
+                ps.setString(index++, event.getChannelTxId());
+                ps.setString(index++, event.getApiName());
+                ps.setString(index++, event.getCoreSystemType().name());
+                ps.setString(index++, event.getCoreEndpoint());
+                ps.setString(index++, event.getRequestPayload());
+                ps.setObject(index++, event.getRequestTime());
+                ps.setString(index++, event.getResponsePayload());
+                ps.setObject(index++, event.getResponseTime());
+                ps.setString(index++, event.getStatus().name());
+                ps.setObject(index++, now);
+                ps.setObject(index++, now);
+            }
+        });
+    }
+
+    /**
+     * upsert 후 행이 없거나 최종 결과가 반영되지 않은 이력 (channel_tx_id unique 인덱스로 조회)
+     */
+    private List<CoreBankingEvent> findUnsaved(List<CoreBankingEvent> events) {
+        Map<String, String> savedStatuses = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT channel_tx_id, status FROM core_banking_events WHERE channel_tx_id IN ("
+                        + String.join(", ", Collections.nCopies(events.size(), "?")) + ")",
+                (RowCallbackHandler) rs -> savedStatuses.put(rs.getString("channel_tx_id"), rs.getString("status")),
+                events.stream().map(CoreBankingEvent::getChannelTxId).toArray());
+
+        return events.stream()
+                .filter(event -> {
+                    String savedStatus = savedStatuses.get(event.getChannelTxId());
+                    return savedStatus == null
+                            || (event.getStatus() != EventStatus.REQUESTED && !event.getStatus().name().equals(savedStatus));
+                })
+                .toList();
+    }
+
+    /**
+     * 기준 시각 이전에 요청되어 아직 REQUESTED 상태인 이력 조회 (오래된 순)
+     */
+    public List<StuckEvent> findRequestedBefore(LocalDateTime requestedBefore, int limit) {
+        return jdbcTemplate.query("""
+                        SELECT event_id, trace_id, api_name, core_endpoint, request_time
+                        FROM core_banking_events
+                        WHERE status = 'REQUESTED'
+                          AND request_time < ?
+                        ORDER BY request_time
+                        LIMIT ?
+                        """,
+                (rs, rowNum) -> new StuckEvent(
+                        rs.getLong("event_id"),
+                        TraceIds.fromBytes(rs.getBytes("trace_id")),
+                        rs.getString("api_name"),
+                        rs.getString("core_endpoint"),
+                        rs.getObject("request_time", LocalDateTime.class)),
+                requestedBefore, limit);
+    }
+
+    /**
+     * REQUESTED 상태인 경우에만 상태 변경 (여러 인스턴스의 reconciler 중 하나만 처리하도록 선점)
+     *
+     * @return 선점 여부
+     */
+    public boolean claim(long eventId, EventStatus status) {
+        return jdbcTemplate.update(
+                "UPDATE core_banking_events SET status = ?, updated_at = ? WHERE event_id = ? AND status = 'REQUESTED'",
+                status.name(), LocalDateTime.now(), eventId) > 0;
+    }
+
+    /**
+     * 응답 없이 남은 이력
+     */
+    public record StuckEvent(
+            long eventId,
+            String traceId,
+            String apiName,
+            String coreEndpoint,
+            LocalDateTime requestTime
+    ) {
+    }
+}
@@ -0,0 +1,96 @@
+package com.bank.channel.baas.repository;
+
+import com.bank.channel.global.common.EntityIds;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * BaaS End User / 계좌 upsert Repository
+ *
+ * (account_number, bank_code) unique 제약을 기준으로 조회 없이 native INSERT로 처리합니다.
+ * - 기존 계좌가 있으면 baas_end_users INSERT ... SELECT ... WHERE NOT EXISTS 한 문장으로 종료 (대부분의 요청)
+ * - 신규 계좌인 경우에만 End User INSERT 후 계좌를 INSERT ... ON DUPLICATE KEY UPDATE
+ *
+ * ON DUPLICATE KEY는 PRIMARY KEY(account_id) 충돌에도 적용되므로, 계좌 upsert 후 계좌 행을 다시 조회하여
+ * 저장되지 않았으면(다른 계좌와 account_id 충돌) 새 account_id로 다시 저장합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EndUserUpsertRepository {
+
+    private static final String INSERT_END_USER_IF_ACCOUNT_ABSENT_SQL = """
+            INSERT INTO baas_end_users (end_user_id, merchant_id, user_name, phone_number, status, created_at, updated_at)
+            SELECT ?, ?, ?, ?, 'ACTIVE', ?, ?
+            FROM DUAL
+            WHERE NOT EXISTS (
+                SELECT 1 FROM baas_user_accounts WHERE account_number = ? AND bank_code = ?
+            )
+            """;
+
+    // 동시에 같은 계좌가 등록된 경우 기존 행 유지 (no-op update)
+    private static final String UPSERT_ACCOUNT_SQL = """
+            INSERT INTO baas_user_accounts (
+                account_id, end_user_id, bank_code, bank_name, account_number, account_holder_name, is_verified,
+                created_at, updated_at
+            ) VALUES (?, ?, ?, ?, ?, ?, TRUE, ?, ?)
+            ON DUPLICATE KEY UPDATE end_user_id = end_user_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 계좌가 등록되어 있지 않은 경우에만 End User 생성
+     *
+     * @return 생성 여부 (false이면 이미 등록된 계좌)
+     */
+    public boolean insertEndUserIfAccountAbsent(String endUserId, String merchantId, String userName, String phoneNumber,
+                                                String accountNumber, String bankCode) {
+        LocalDateTime now = LocalDateTime.now();
+        return jdbcTemplate.update(INSERT_END_USER_IF_ACCOUNT_ABSENT_SQL,
+                endUserId, merchantId, userName, phoneNumber, now, now, accountNumber, bankCode) > 0;
+    }
+
+    /**
+     * 계좌 upsert ((account_number, bank_code)가 이미 있으면 변경하지 않음)
+     *
+     * @return 저장된 계좌 (동시 요청으로 먼저 등록된 경우 다른 End User에 연결된 계좌)
+     * @throws DuplicateKeyException 새 account_id로 다시 저장해도 account_id가 충돌한 경우
+     */
+    public AccountRef upsertAccount(String endUserId, String bankCode, String bankName, String accountNumber, String accountHolderName) {
+        for (int attempt = 0; attempt < 2; attempt++) {
+            LocalDateTime now = LocalDateTime.now();
+            jdbcTemplate.update(UPSERT_ACCOUNT_SQL,
+                    EntityIds.next(), endUserId, bankCode, bankName, accountNumber, accountHolderName, now, now);
+
+            Optional<AccountRef> saved = findAccountRef(accountNumber, bankCode);
+            if (saved.isPresent()) {
+                return saved.get();
+            }
+            // account_id 충돌로 다른 계좌 행에 적용됨 (변경 없음)
+        }
+        throw new DuplicateKeyException("baas_user_accounts account_id collision. BankCode: " + bankCode);
+    }
+
+    /**
+     * 계좌 ID와 계좌에 연결된 End User ID 조회 ((account_number, bank_code) unique 인덱스만 사용)
+     */
+    public Optional<AccountRef> findAccountRef(String accountNumber, String bankCode) {
+        List<AccountRef> refs = jdbcTemplate.query(
+                "SELECT account_id, end_user_id FROM baas_user_accounts WHERE account_number = ? AND bank_code = ?",
+                (rs, rowNum) -> new AccountRef(rs.getLong("account_id"), rs.getString("end_user_id")),
+                accountNumber, bankCode);
+        return refs.stream().findFirst();
+    }
+
+    /**
+     * 계좌 식별 정보
+     */
+    public record AccountRef(long accountId, String endUserId) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.bank.channel.baas.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import com.bank.channel.baas.domain.ApiCallLog;
@@ -16,30 +17,47 @@ import org.springframework.stereotype.Repository;
 public interface UsageRepository extends JpaRepository<ApiCallLog, Long> {
 
     /**
-     * 특정 merchant_id 기간을 기준으로 API 호출 로그를 집계하여 상태 그룹별 건수를 반환합니다.
-     * * [최적화 포인트]
-     * 1. CASE 문과 GROUP BY를 사용하여 DB 레벨에서 한 번의 쿼리로 모든 집계를 완료합니다. (가장 효율적)
-     * 2. merchant_id request_at(혹은 created_at) 필드에 인덱스가 있어야 최적의 성능을 냅니다.
-     * 3. 집계 결과는 UsageAggregationResult DTO/Projection으로 자동 매핑됩니다.
+     * 원본 로그 기준 상태 그룹별 집계 쿼리 (UsageRollupRepository의 rollup 결과 검증에도 사용)
+     *
+     * 안쪽 쿼리는 idx_api_call_logs_usage(merchant_id, request_at, status_code, api_endpoint)만으로 처리되며 (테이블 조회 없음),
+     * 상태 그룹 변환은 상태 코드 백의 자리별 몇 행짜리 결과에서만 수행합니다.
      */
-    @Query(value = """
+    String AGGREGATE_BY_STATUS_GROUP_SQL = """
         SELECT
-            CASE
-                WHEN status_code >= 200 AND status_code < 300 THEN '2XX' 
-                WHEN status_code >= 400 AND status_code < 500 THEN '4XX' 
-                WHEN status_code >= 500 AND status_code < 600 THEN '5XX'
-                ELSE 'OTHER' 
+            CASE statusClass
+                WHEN 2 THEN '2XX'
+                WHEN 4 THEN '4XX'
+                WHEN 5 THEN '5XX'
+                ELSE 'OTHER'
             END AS statusGroup,
-            COUNT(log_id) AS count
-        FROM api_call_logs
-        WHERE merchant_id = :merchantId
-          AND request_at >= :startDate
-          AND request_at <= :endDate
+            SUM(classCount) AS count
+        FROM (
+            SELECT FLOOR(status_code / 100) AS statusClass, COUNT(*) AS classCount
+            FROM api_call_logs
+            WHERE merchant_id = :merchantId
+              AND request_at >= :start
+              AND request_at < :end
+            GROUP BY FLOOR(status_code / 100)
+        ) status_classes
         GROUP BY statusGroup
-    """, nativeQuery = true)
+    """;
+
+    /**
+     * 특정 merchant_id 기간을 기준으로 API 호출 로그를 집계하여 상태 그룹별 건수를 반환합니다.
+     * * [최적화 포인트]
+     * 1. GROUP BY를 사용하여 DB 레벨에서 한 번의 쿼리로 모든 집계를 완료합니다.
+     * 2. 기간은 LocalDateTime 반열린 구간 [start, end)로 바인딩하여 인덱스 range scan / partition pruning이 적용됩니다.
+     * 3. 집계 결과는 UsageAggregationResult DTO/Projection으로 자동 매핑됩니다.
+     *
+     * 사용량 조회(UsageService)는 UsageRollupRepository의 rollup + tail 집계를 사용하며, 이 쿼리와 같은 결과를 반환합니다.
+     *
+     * @param start 시작 시각 (포함)
+     * @param end 종료 시각 (미포함)
+     */
+    @Query(value = AGGREGATE_BY_STATUS_GROUP_SQL, nativeQuery = true)
     List<UsageAggregationResult> aggregateUsagesByMerchantIdAndPeriod(
             @Param("merchantId") String merchantId,
-            @Param("startDate") String startDate,
-            @Param("endDate") String endDate
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end
     );
 }
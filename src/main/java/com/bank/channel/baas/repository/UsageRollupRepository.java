@@ -0,0 +1,207 @@
+package com.bank.channel.baas.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * API 사용량 시간대별 Rollup Repository
+ *
+ * api_usage_rollups: 가맹점 / 시간(정시) / API / 상태 그룹별 호출 건수
+ * usage_rollup_checkpoints: rolled_up_until(watermark) 이전 시간대는 rollup이 원본 로그와 일치함을 보장
+ *
+ * 사용량 조회 시 watermark 이전은 rollup, 이후(아직 집계되지 않은 tail)는 원본 로그를 집계하여 합산합니다.
+ * 다건 DELETE/INSERT ... SELECT와 행 잠금을 직접 다루기 위해 JDBC로 접근합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UsageRollupRepository {
+
+    static final String ROLLUP_NAME = "api_usage_hourly";
+
+    // UsageRepository의 원본 집계 쿼리와 동일한 상태 그룹 기준 (상태 코드 백의 자리)
+    private static final String STATUS_GROUP = """
+            CASE FLOOR(status_code / 100)
+                WHEN 2 THEN '2XX'
+                WHEN 4 THEN '4XX'
+                WHEN 5 THEN '5XX'
+                ELSE 'OTHER'
+            END""";
+
+    private static final String RECOMPUTE_HOUR_SQL = """
+            INSERT INTO api_usage_rollups (merchant_id, bucket_start, api_endpoint, status_group, call_count)
+            SELECT merchant_id, CAST(? AS DATETIME), api_endpoint, %1$s, COUNT(*)
+            FROM api_call_logs
+            WHERE request_at >= ?
+              AND request_at < ?
+            GROUP BY merchant_id, api_endpoint, %1$s
+            """.formatted(STATUS_GROUP);
+
+    private static final String SUM_ROLLUP_SQL = """
+            SELECT api_endpoint, status_group, SUM(call_count)
+            FROM api_usage_rollups
+            WHERE merchant_id = ?
+              AND bucket_start >= ?
+              AND bucket_start < ?
+            GROUP BY api_endpoint, status_group
+            """;
+
+    // idx_api_call_logs_usage(merchant_id, request_at, status_code, api_endpoint)만으로 처리 (테이블 조회 없음)
+    static final String COUNT_TAIL_SQL = """
+            SELECT api_endpoint, FLOOR(status_code / 100), COUNT(*)
+            FROM api_call_logs
+            WHERE merchant_id = ?
+              AND request_at >= ?
+              AND request_at < ?
+            GROUP BY api_endpoint, FLOOR(status_code / 100)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 기간 내 상태 그룹별 호출 건수 (UsageRepository.aggregateUsagesByMerchantIdAndPeriod와 동일한 결과)
+     *
+     * watermark / rollup / 원본 로그를 같은 스냅샷에서 읽도록 읽기 전용 트랜잭션 안에서 호출해야 합니다.
+     *
+     * @param merchantId 가맹점 ID
+     * @param start 시작 시각 (포함)
+     * @param end 종료 시각 (미포함)
+     * @return 상태 그룹("2XX", "4XX", "5XX", "OTHER")별 건수
+     */
+    public Map<String, Long> countByStatusGroup(String merchantId, LocalDateTime start, LocalDateTime end) {
+        Map<String, Long> counts = new HashMap<>();
+        countByEndpointAndStatusGroup(merchantId, start, end).values()
+                .forEach(endpointCounts -> endpointCounts.forEach((group, count) -> counts.merge(group, count, Long::sum)));
+        return counts;
+    }
+
+    /**
+     * 기간 내 API별, 상태 그룹별 호출 건수 (API별 요금 정책 적용용)
+     *
+     * 읽기 전용 트랜잭션 안에서 호출해야 합니다.
+     *
+     * @return api_endpoint → 상태 그룹 → 건수
+     */
+    public Map<String, Map<String, Long>> countByEndpointAndStatusGroup(String merchantId, LocalDateTime start, LocalDateTime end) {
+        // rollup으로 대체 가능한 구간: [start, min(watermark, end의 정시)) - 시작이 정시가 아니면 전부 원본 집계
+        LocalDateTime rollupEnd = start;
+        if (start.equals(start.truncatedTo(ChronoUnit.HOURS))) {
+            LocalDateTime watermark = findWatermark().orElse(start);
+            rollupEnd = max(start, min(watermark, end.truncatedTo(ChronoUnit.HOURS)));
+        }
+
+        Map<String, Map<String, Long>> counts = new HashMap<>();
+        if (rollupEnd.isAfter(start)) {
+            jdbcTemplate.query(SUM_ROLLUP_SQL, (RowCallbackHandler) rs -> counts
+                    .computeIfAbsent(rs.getString(1), endpoint -> new HashMap<>())
+                    .merge(rs.getString(2), rs.getLong(3), Long::sum),
+                    merchantId, start, rollupEnd);
+        }
+        if (end.isAfter(rollupEnd)) {
+            jdbcTemplate.query(COUNT_TAIL_SQL, (RowCallbackHandler) rs -> counts
+                    .computeIfAbsent(rs.getString(1), endpoint -> new HashMap<>())
+                    .merge(statusGroup(rs.getInt(2)), rs.getLong(3), Long::sum),
+                    merchantId, rollupEnd, end);
+        }
+        return counts;
+    }
+
+    /**
+     * 상태 코드 백의 자리 → 상태 그룹 (STATUS_GROUP과 같은 기준)
+     */
+    static String statusGroup(int statusClass) {
+        return switch (statusClass) {
+            case 2 -> "2XX";
+            case 4 -> "4XX";
+            case 5 -> "5XX";
+            default -> "OTHER";
+        };
+    }
+
+    /**
+     * 한 시간 구간의 rollup을 원본 로그로부터 다시 계산 (delete + insert)
+     *
+     * @param hourStart 구간 시작 (정시)
+     * @return 저장된 rollup 행 수
+     */
+    public int recomputeHour(LocalDateTime hourStart) {
+        jdbcTemplate.update("DELETE FROM api_usage_rollups WHERE bucket_start = ?", hourStart);
+        return jdbcTemplate.update(RECOMPUTE_HOUR_SQL, hourStart, hourStart, hourStart.plusHours(1));
+    }
+
+    public Optional<LocalDateTime> findWatermark() {
+        List<LocalDateTime> watermarks = jdbcTemplate.query(
+                "SELECT rolled_up_until FROM usage_rollup_checkpoints WHERE rollup_name = ?",
+                (rs, rowNum) -> rs.getObject(1, LocalDateTime.class),
+                ROLLUP_NAME);
+        return watermarks.stream().findFirst();
+    }
+
+    /**
+     * watermark 행을 잠그고 조회 (compactor 집계와 늦게 도착한 로그의 invalidate를 직렬화)
+     */
+    public LocalDateTime lockWatermark() {
+        return jdbcTemplate.queryForObject(
+                "SELECT rolled_up_until FROM usage_rollup_checkpoints WHERE rollup_name = ? FOR UPDATE",
+                LocalDateTime.class,
+                ROLLUP_NAME);
+    }
+
+    /**
+     * 최초 watermark 생성
+     *
+     * @return 생성 여부 (다른 인스턴스가 먼저 생성한 경우 false)
+     */
+    public boolean createWatermark(LocalDateTime rolledUpUntil) {
+        try {
+            jdbcTemplate.update(
+                    "INSERT INTO usage_rollup_checkpoints (rollup_name, rolled_up_until, updated_at) VALUES (?, ?, ?)",
+                    ROLLUP_NAME, rolledUpUntil, LocalDateTime.now());
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    public void updateWatermark(LocalDateTime rolledUpUntil) {
+        jdbcTemplate.update(
+                "UPDATE usage_rollup_checkpoints SET rolled_up_until = ?, updated_at = ? WHERE rollup_name = ?",
+                rolledUpUntil, LocalDateTime.now(), ROLLUP_NAME);
+    }
+
+    /**
+     * 이미 집계된 시간대에 로그가 추가되는 경우 watermark를 해당 시간대로 되돌림
+     *
+     * 로그 INSERT와 같은 트랜잭션에서 호출해야 하며, 되돌린 구간은 다음 compactor 실행 시 다시 집계됩니다.
+     *
+     * @param hourStart 추가되는 로그 중 가장 이른 시간대 (정시)
+     * @return watermark 변경 여부
+     */
+    public boolean invalidateFrom(LocalDateTime hourStart) {
+        return jdbcTemplate.update(
+                "UPDATE usage_rollup_checkpoints SET rolled_up_until = ?, updated_at = ? WHERE rollup_name = ? AND rolled_up_until > ?",
+                hourStart, LocalDateTime.now(), ROLLUP_NAME, hourStart) > 0;
+    }
+
+    public Optional<LocalDateTime> findOldestRequestAt() {
+        return Optional.ofNullable(jdbcTemplate.queryForObject(
+                "SELECT MIN(request_at) FROM api_call_logs", LocalDateTime.class));
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private static LocalDateTime max(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
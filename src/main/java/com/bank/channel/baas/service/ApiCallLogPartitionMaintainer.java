@@ -0,0 +1,104 @@
+package com.bank.channel.baas.service;
+
+import com.bank.channel.baas.repository.ApiCallLogPartitionRepository;
+import com.bank.channel.baas.repository.ApiCallLogPartitionRepository.RangePartition;
+import com.bank.channel.baas.repository.UsageRollupRepository;
+import com.bank.channel.baas.service.ApiCallLogPartitionPlanner.Granularity;
+import com.bank.channel.baas.service.ApiCallLogPartitionPlanner.Plan;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * api_call_logs 파티션 관리 스케줄러
+ *
+ * 문제:
+ * - api_call_logs는 계속 커지는 단일 테이블이라 INSERT/기간 조회가 점점 느려지고, 오래된 로그 삭제가 대량 DELETE(장시간 잠금)가 됨
+ *
+ * 해결:
+ * - request_at 기준 RANGE 파티션 (db/migration/V6__api_call_logs_partitioning.sql)
+ * - 앞으로 쓸 구간을 미리 생성 (p_future REORGANIZE, 기존 로그는 V6가 별도 구간에 두므로 빈 파티션이라 즉시 완료)
+ * - retention이 지난 구간은 DROP PARTITION 또는 EXCHANGE PARTITION으로 보관 테이블 분리 (행 단위 DELETE 없음)
+ * - 사용량 조회/rollup 쿼리는 request_at 범위 조건이므로 해당 구간 파티션만 읽음 (partition pruning)
+ *
+ * 파티션되지 않은 테이블이면 아무것도 하지 않습니다.
+ * 여러 인스턴스가 동시에 실행하면 한쪽 DDL이 실패할 수 있으나, 다음 실행 시 현재 파티션 목록으로 다시 계산합니다.
+ */
+@Slf4j
+@Component
+public class ApiCallLogPartitionMaintainer {
+
+    private final ApiCallLogPartitionRepository partitionRepository;
+    private final UsageRollupRepository usageRollupRepository;
+    private final ApiCallLogPartitionPlanner planner;
+    private final boolean enabled;
+    private final ExpireAction expireAction;
+
+    public ApiCallLogPartitionMaintainer(
+            ApiCallLogPartitionRepository partitionRepository,
+            UsageRollupRepository usageRollupRepository,
+            @Value("${api-call-log.partition.enabled:true}") boolean enabled,
+            @Value("${api-call-log.partition.granularity:DAILY}") Granularity granularity,
+            @Value("${api-call-log.partition.precreate:7}") int precreate,
+            @Value("${api-call-log.partition.retention:400d}") Duration retention,
+            @Value("${api-call-log.partition.expire-action:DROP}") ExpireAction expireAction
+    ) {
+        this.partitionRepository = partitionRepository;
+        this.usageRollupRepository = usageRollupRepository;
+        this.planner = new ApiCallLogPartitionPlanner(granularity, precreate, retention);
+        this.enabled = enabled;
+        this.expireAction = expireAction;
+    }
+
+    @Scheduled(fixedDelayString = "${api-call-log.partition.maintain-interval:1h}", initialDelayString = "${api-call-log.partition.initial-delay:1m}")
+    public void maintain() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            maintain(LocalDateTime.now());
+        } catch (Exception e) {
+            log.error("[API_CALL_LOG_PARTITION] Maintenance failed. Error: {}", e.getMessage(), e);
+        }
+    }
+
+    void maintain(LocalDateTime now) {
+        List<RangePartition> partitions = partitionRepository.findPartitions();
+        boolean hasFuturePartition = partitions.stream()
+                .anyMatch(partition -> ApiCallLogPartitionRepository.FUTURE_PARTITION.equals(partition.name()));
+        if (!hasFuturePartition) {
+            log.warn("[API_CALL_LOG_PARTITION] api_call_logs has no p_future partition (V6__api_call_logs_partitioning.sql). Skipped");
+            return;
+        }
+
+        Plan plan = planner.plan(partitions, now, usageRollupRepository.findWatermark().orElse(null));
+
+        if (!plan.toCreate().isEmpty()) {
+            partitionRepository.addPartitions(plan.toCreate());
+            log.info("[API_CALL_LOG_PARTITION] Created partitions: {}", plan.toCreate().stream().map(RangePartition::name).toList());
+        }
+
+        for (RangePartition partition : plan.toExpire()) {
+            if (expireAction == ExpireAction.ARCHIVE) {
+                String archiveTable = partitionRepository.archivePartition(partition.name());
+                log.info("[API_CALL_LOG_PARTITION] Archived partition {} to {}", partition.name(), archiveTable);
+            } else {
+                partitionRepository.dropPartition(partition.name());
+                log.info("[API_CALL_LOG_PARTITION] Dropped partition {} (request_at < {})", partition.name(), partition.lessThan());
+            }
+        }
+    }
+
+    /**
+     * retention이 지난 구간 처리 방식
+     */
+    public enum ExpireAction {
+        DROP,    // 파티션 삭제
+        ARCHIVE  // api_call_logs_{파티션명} 테이블로 분리 후 파티션 삭제
+    }
+}
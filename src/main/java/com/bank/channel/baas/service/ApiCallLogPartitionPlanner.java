@@ -0,0 +1,116 @@
+package com.bank.channel.baas.service;
+
+import com.bank.channel.baas.repository.ApiCallLogPartitionRepository;
+import com.bank.channel.baas.repository.ApiCallLogPartitionRepository.RangePartition;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * api_call_logs 파티션 생성/만료 계획 (DB 접근 없이 현재 파티션 목록과 기준 시각으로 계산)
+ *
+ * 생성: 현재 구간과 그 이후 precreate개 구간이 항상 존재하도록 마지막 구간 이후를 추가
+ *       (maintainer가 멈춰 있어 마지막 구간 상한이 현재 구간보다 이전이면 그 사이 구간도 채움.
+ *        빈 구간을 건너뛰면 MySQL이 첫 새 구간을 마지막 구간 상한까지 늘려 이름과 다른 기간의 로그가 섞임)
+ * 만료: 상한이 (기준 시각 - retention) 이하이고, 사용량 rollup watermark 이하인 구간
+ *       (rollup되지 않은 로그를 지우면 사용량 조회 결과가 달라지므로 watermark가 없으면 만료하지 않음)
+ * 현재 시각을 포함하는 구간과 p_future는 만료하지 않습니다.
+ */
+class ApiCallLogPartitionPlanner {
+
+    private final Granularity granularity;
+    private final int precreate;
+    private final Duration retention;
+
+    ApiCallLogPartitionPlanner(Granularity granularity, int precreate, Duration retention) {
+        if (precreate < 0) {
+            throw new IllegalArgumentException("precreate must not be negative: " + precreate);
+        }
+        this.granularity = granularity;
+        this.precreate = precreate;
+        this.retention = retention;
+    }
+
+    /**
+     * @param partitions 현재 파티션 목록 (범위 순, 마지막은 p_future)
+     * @param now 기준 시각
+     * @param rolledUpUntil 사용량 rollup watermark (없으면 null)
+     */
+    Plan plan(List<RangePartition> partitions, LocalDateTime now, LocalDateTime rolledUpUntil) {
+        LocalDateTime lastBound = null;
+        for (RangePartition partition : partitions) {
+            if (partition.lessThan() != null) {
+                lastBound = partition.lessThan();
+            }
+        }
+
+        // 생성: 마지막 구간 상한(없으면 현재 구간 시작)부터 현재 구간 이후 precreate개 구간까지
+        LocalDateTime currentStart = granularity.truncate(now);
+        LocalDateTime createUntil = granularity.plus(currentStart, precreate + 1);
+        LocalDateTime start = lastBound != null ? lastBound : currentStart;
+        List<RangePartition> toCreate = new ArrayList<>();
+        while (start.isBefore(createUntil)) {
+            // 구간 단위를 바꾼 경우 마지막 구간 상한이 구간 시작과 맞지 않을 수 있으므로 다음 경계까지만 채움
+            LocalDateTime end = granularity.plus(granularity.truncate(start), 1);
+            toCreate.add(new RangePartition(granularity.partitionName(start), end));
+            start = end;
+        }
+
+        // 만료: 상한이 cutoff 이하인 구간 (cutoff <= now이고 현재 구간 상한은 now 이후이므로 현재 구간은 제외됨)
+        List<RangePartition> toExpire = new ArrayList<>();
+        if (rolledUpUntil != null) {
+            LocalDateTime cutoff = now.minus(retention);
+            if (rolledUpUntil.isBefore(cutoff)) {
+                cutoff = rolledUpUntil;
+            }
+            for (RangePartition partition : partitions) {
+                if (partition.lessThan() == null || ApiCallLogPartitionRepository.FUTURE_PARTITION.equals(partition.name())) {
+                    continue;
+                }
+                if (!partition.lessThan().isAfter(cutoff)) {
+                    toExpire.add(partition);
+                }
+            }
+        }
+        return new Plan(toCreate, toExpire);
+    }
+
+    /**
+     * 파티션 구간 단위
+     */
+    enum Granularity {
+        DAILY(DateTimeFormatter.ofPattern("'p'yyyyMMdd")),
+        MONTHLY(DateTimeFormatter.ofPattern("'p'yyyyMM"));
+
+        private final DateTimeFormatter nameFormat;
+
+        Granularity(DateTimeFormatter nameFormat) {
+            this.nameFormat = nameFormat;
+        }
+
+        LocalDateTime truncate(LocalDateTime dateTime) {
+            LocalDateTime day = dateTime.truncatedTo(ChronoUnit.DAYS);
+            return this == DAILY ? day : day.with(TemporalAdjusters.firstDayOfMonth());
+        }
+
+        LocalDateTime plus(LocalDateTime start, int periods) {
+            return this == DAILY ? start.plusDays(periods) : start.plusMonths(periods);
+        }
+
+        String partitionName(LocalDateTime start) {
+            return start.format(nameFormat);
+        }
+    }
+
+    /**
+     * @param toCreate 추가할 구간 (범위 순)
+     * @param toExpire 삭제/보관할 구간 (범위 순)
+     */
+    record Plan(List<RangePartition> toCreate, List<RangePartition> toExpire) {
+    }
+}
@@ -2,25 +2,25 @@ package com.bank.channel.baas.service;
 
 import com.bank.channel.baas.domain.ApiCallLog;
 import com.bank.channel.baas.domain.enums.HttpMethod;
-import com.bank.channel.baas.repository.ApiCallLogRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
 
 /**
  * API 호출 로그 저장 Service
  * 
  * TraceIdFilter에서 모든 API 요청/응답을 자동으로 기록합니다.
+ * 실제 INSERT는 ApiCallLogWriter가 비동기 배치로 수행하므로 요청 처리 시간에 DB 왕복이 포함되지 않습니다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ApiCallLogService {
 
-    private final ApiCallLogRepository apiCallLogRepository;
+    private final ApiCallLogWriter apiCallLogWriter;
 
     /**
      * API 호출 로그 저장
@@ -29,11 +29,11 @@ public class ApiCallLogService {
      * @param merchantId 고객사 ID (없으면 "UNKNOWN")
      * @param apiEndpoint API 경로
      * @param httpMethod HTTP 메서드
-     * @param requestAt 요청 시각
-     * @param responseAt 응답 시각
+     * @param requestAt 요청 시각 (CoarseClock)
+     * @param responseAt 응답 시각 (CoarseClock)
+     * @param latencyNanos 소요 시간 (System.nanoTime 기준, 벽시계 보정의 영향을 받지 않음)
      * @param statusCode HTTP 응답 코드
      */
-    @Transactional
     public void saveApiCallLog(
             String traceId,
             String merchantId,
@@ -41,11 +41,13 @@ public class ApiCallLogService {
             String httpMethod,
             LocalDateTime requestAt,
             LocalDateTime responseAt,
+            long latencyNanos,
             int statusCode
     ) {
         try {
-            // latency 계산 (ms)
-            long latencyMs = java.time.Duration.between(requestAt, responseAt).toMillis();
+            // latency 계산 (requestAt/responseAt 차이가 아닌 monotonic clock 기준)
+            long latencyUs = TimeUnit.NANOSECONDS.toMicros(latencyNanos);
+            long latencyMs = TimeUnit.MICROSECONDS.toMillis(latencyUs);
 
             ApiCallLog apiCallLog = ApiCallLog.builder()
                     .traceId(traceId)
@@ -55,13 +57,14 @@ public class ApiCallLogService {
                     .requestAt(requestAt)
                     .responseAt(responseAt)
                     .latencyMs((int) latencyMs)
+                    .latencyUs(latencyUs)
                     .statusCode(statusCode)
                     .build();
 
-            apiCallLogRepository.save(apiCallLog);
-            
-            log.debug("[API_CALL_LOG] Saved - TraceId: {}, Endpoint: {}, Latency: {}ms", 
-                     traceId, apiEndpoint, latencyMs);
+            apiCallLogWriter.enqueue(apiCallLog);
+
+            log.debug("[API_CALL_LOG] Queued - TraceId: {}, Endpoint: {}, Latency: {}us", 
+                     traceId, apiEndpoint, latencyUs);
         } catch (Exception e) {
             // 로그 저장 실패해도 API 요청/응답에는 영향 없도록
             log.error("[API_CALL_LOG] Failed to save log. TraceId: {}, Error: {}", 
@@ -0,0 +1,542 @@
+package com.bank.channel.baas.service;
+
+import com.bank.channel.baas.domain.ApiCallLog;
+import com.bank.channel.baas.domain.enums.HttpMethod;
+import com.bank.channel.baas.repository.ApiCallLogBatchRepository;
+import com.bank.channel.baas.repository.UsageRollupRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * API 호출 로그 비동기 배치 Writer
+ *
+ * 문제:
+ * - 요청마다 별도 트랜잭션 + 단건 INSERT가 수행되어 DB 왕복 시간이 결제 API의 응답 지연에 그대로 더해짐
+ *
+ * 해결:
+ * - 요청 스레드는 bounded queue에 로그를 넣고 즉시 반환
+ * - 백그라운드 flusher가 batch-size 또는 flush-interval 기준으로 모아서 multi-row INSERT
+ * - 큐가 가득 찬 경우 overflow-policy(BLOCK / DROP / SPILL)에 따라 처리
+ * - 종료 시 큐에 남은 로그를 모두 flush
+ * - 이미 사용량 rollup이 끝난 시간대의 로그는 rollup watermark를 되돌리며 저장 (UsageRollupCompactor)
+ *
+ * 로그는 사용량 과금의 원본이므로 저장 실패 시 배치를 버리지 않습니다.
+ * - 일시적 오류(커넥션 획득 실패, 락 타임아웃/데드락 등): 같은 배치를 retry-backoff부터 max-retry-backoff까지 늘려가며 성공할 때까지 재시도
+ *   (재시도 중 쌓이는 로그는 큐가 흡수하고, 큐가 가득 차면 overflow-policy 적용)
+ *   SPILL 정책이면 재시도하지 않고 디스크에 보존한 뒤 유휴 시점에 재적재
+ * - 그 외 오류(데이터 오류 등): 행 단위로 나눠 저장하여 문제가 된 로그만 제외
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApiCallLogWriter {
+
+    private static final String FLUSHER_THREAD_NAME = "api-call-log-writer";
+    private static final String REPLAY_SUFFIX = ".replaying";
+    private static final String OFFSET_SUFFIX = ".offset";
+
+    private final ApiCallLogBatchRepository apiCallLogBatchRepository;
+    private final UsageRollupRepository usageRollupRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${api-call-log.writer.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${api-call-log.writer.batch-size:200}")
+    private int batchSize;
+
+    @Value("${api-call-log.writer.flush-interval-ms:200}")
+    private long flushIntervalMs;
+
+    @Value("${api-call-log.writer.overflow-policy:BLOCK}")
+    private OverflowPolicy overflowPolicy;
+
+    @Value("${api-call-log.writer.block-timeout-ms:50}")
+    private long blockTimeoutMs;
+
+    @Value("${api-call-log.writer.spill-path:${java.io.tmpdir}/bank-channel/api-call-logs.spill}")
+    private Path spillPath;
+
+    @Value("${api-call-log.writer.shutdown-timeout-ms:10000}")
+    private long shutdownTimeoutMs;
+
+    @Value("${api-call-log.writer.retry-backoff-ms:200}")
+    private long retryBackoffMs;
+
+    @Value("${api-call-log.writer.max-retry-backoff-ms:5000}")
+    private long maxRetryBackoffMs;
+
+    @Value("${api-call-log.writer.replay-retry-backoff-ms:1000}")
+    private long replayRetryBackoffMs;
+
+    @Value("${api-call-log.writer.max-replay-retry-backoff-ms:60000}")
+    private long maxReplayRetryBackoffMs;
+
+    // 요청 스레드들이 동시에 spill 파일에 쓰므로 직렬화 (virtual thread pinning을 피하기 위해 synchronized 대신 Lock 사용)
+    private final ReentrantLock spillLock = new ReentrantLock();
+
+    private BlockingQueue<ApiCallLog> queue;
+    private Thread flusher;
+    private volatile boolean running;
+
+    // 재적재 실패 후 다음 시도 시점 (flusher 스레드에서만 접근)
+    private long replayBackoffMs;
+    private long nextReplayAtNanos;
+
+    private Timer flushTimer;
+    private Counter droppedCounter;
+    private Counter spilledCounter;
+    private Counter failedCounter;
+    private Counter retriedCounter;
+
+    @PostConstruct
+    void start() {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        Gauge.builder("api.call.log.writer.queue.depth", queue, BlockingQueue::size)
+                .description("flush 대기 중인 API 호출 로그 수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("api.call.log.writer.flush")
+                .description("배치 INSERT 소요 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.droppedCounter = meterRegistry.counter("api.call.log.writer.dropped");
+        this.spilledCounter = meterRegistry.counter("api.call.log.writer.spilled");
+        this.failedCounter = meterRegistry.counter("api.call.log.writer.failed");
+        this.retriedCounter = meterRegistry.counter("api.call.log.writer.retried");
+
+        this.running = true;
+        this.flusher = new Thread(this::runFlushLoop, FLUSHER_THREAD_NAME);
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+
+        log.info("[API_CALL_LOG_WRITER] Started - capacity: {}, batchSize: {}, flushInterval: {}ms, overflowPolicy: {}",
+                queueCapacity, batchSize, flushIntervalMs, overflowPolicy);
+    }
+
+    /**
+     * 로그를 큐에 적재합니다. 요청 스레드에서 호출되며 DB 접근을 하지 않습니다.
+     *
+     * @param apiCallLog 저장할 로그
+     */
+    public void enqueue(ApiCallLog apiCallLog) {
+        if (queue.offer(apiCallLog)) {
+            return;
+        }
+
+        // 큐가 가득 찬 경우 backpressure 정책 적용
+        switch (overflowPolicy) {
+            case BLOCK -> enqueueBlocking(apiCallLog);
+            case SPILL -> spill(List.of(apiCallLog));
+            case DROP -> drop(apiCallLog);
+        }
+    }
+
+    /**
+     * 종료 시 남은 로그 flush
+     *
+     * 웹 서버 graceful shutdown 이후(요청 처리 종료 후) 호출되므로 큐에 새 로그가 들어오지 않습니다.
+     */
+    @PreDestroy
+    void shutdown() {
+        running = false;
+
+        try {
+            flusher.join(shutdownTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // flusher가 제한 시간 내에 끝나지 못한 경우 남은 로그는 디스크로 보존
+        if (flusher.isAlive()) {
+            // 저장 재시도 중인 배치는 flusher가 디스크로 보존
+            flusher.interrupt();
+            if (!queue.isEmpty()) {
+                List<ApiCallLog> remaining = new ArrayList<>();
+                queue.drainTo(remaining);
+                log.warn("[API_CALL_LOG_WRITER] Shutdown timeout - spilling {} logs to disk", remaining.size());
+                spill(remaining);
+            }
+        }
+
+        log.info("[API_CALL_LOG_WRITER] Stopped");
+    }
+
+    private void runFlushLoop() {
+        while (running || !queue.isEmpty()) {
+            try {
+                List<ApiCallLog> batch = collectBatch();
+
+                if (batch.isEmpty()) {
+                    // 한가한 시점에만 spill 파일을 재적재 (실시간 로그 flush를 우선)
+                    replaySpilledLogs();
+                    continue;
+                }
+
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("[API_CALL_LOG_WRITER] Unexpected error in flush loop", e);
+            }
+        }
+    }
+
+    /**
+     * batch-size가 채워지거나 첫 로그 이후 flush-interval이 지날 때까지 로그를 모읍니다.
+     */
+    private List<ApiCallLog> collectBatch() throws InterruptedException {
+        List<ApiCallLog> batch = new ArrayList<>(batchSize);
+
+        ApiCallLog first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return batch;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            if (batch.size() >= batchSize) {
+                break;
+            }
+
+            long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0) {
+                break;
+            }
+
+            ApiCallLog next = queue.poll(remainingNanos, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    void flush(List<ApiCallLog> batch) throws InterruptedException {
+        long backoffMs = retryBackoffMs;
+        while (true) {
+            long startNanos = System.nanoTime();
+            try {
+                insertBatch(batch);
+                log.debug("[API_CALL_LOG_WRITER] Flushed {} logs", batch.size());
+                return;
+            } catch (Exception e) {
+                if (!isTransient(e)) {
+                    log.warn("[API_CALL_LOG_WRITER] Failed to flush {} logs - retrying row by row. Error: {}",
+                            batch.size(), e.getMessage());
+                    flushEach(batch);
+                    return;
+                }
+                if (overflowPolicy == OverflowPolicy.SPILL) {
+                    // DB 장애 시 디스크에 보존 후 복구되면 재적재
+                    failedCounter.increment(batch.size());
+                    log.error("[API_CALL_LOG_WRITER] Failed to flush {} logs - spilling to disk. Error: {}",
+                            batch.size(), e.getMessage(), e);
+                    spill(batch);
+                    return;
+                }
+                retriedCounter.increment();
+                log.warn("[API_CALL_LOG_WRITER] Failed to flush {} logs - retrying in {}ms. Error: {}",
+                        batch.size(), backoffMs, e.getMessage());
+            } finally {
+                flushTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            }
+
+            try {
+                Thread.sleep(backoffMs);
+            } catch (InterruptedException e) {
+                // 종료 제한 시간 초과: 재시도 중인 배치는 디스크로 보존 (다음 기동 시 재적재)
+                log.warn("[API_CALL_LOG_WRITER] Interrupted while retrying - spilling {} logs to disk", batch.size());
+                spill(batch);
+                throw e;
+            }
+            backoffMs = Math.min(backoffMs * 2, maxRetryBackoffMs);
+        }
+    }
+
+    /**
+     * 배치 저장이 데이터 오류로 실패한 경우 행 단위로 저장하여 문제가 된 로그만 제외
+     */
+    private void flushEach(List<ApiCallLog> batch) {
+        for (ApiCallLog apiCallLog : batch) {
+            try {
+                insertBatch(List.of(apiCallLog));
+            } catch (Exception e) {
+                failedCounter.increment();
+                log.error("[API_CALL_LOG_WRITER] Failed to flush log. TraceId: {}, Error: {}",
+                        apiCallLog.getTraceId(), e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 같은 배치를 다시 저장하면 성공할 수 있는 오류 (DB 장애, 커넥션 풀 고갈, 락 타임아웃/데드락 등)
+     */
+    private static boolean isTransient(Exception e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException;
+    }
+
+    /**
+     * 배치 INSERT
+     *
+     * 현재 시간대 이전의 로그(flush 지연, spill 재적재)가 포함된 경우 이미 rollup된 시간대일 수 있으므로
+     * 같은 트랜잭션에서 rollup watermark를 해당 시간대로 되돌립니다. (사용량 조회가 원본 집계와 항상 일치)
+     */
+    private int insertBatch(List<ApiCallLog> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime oldestHour = batch.get(0).getRequestAt();
+        for (ApiCallLog apiCallLog : batch) {
+            if (apiCallLog.getRequestAt().isBefore(oldestHour)) {
+                oldestHour = apiCallLog.getRequestAt();
+            }
+        }
+        oldestHour = oldestHour.truncatedTo(ChronoUnit.HOURS);
+
+        if (!oldestHour.isBefore(LocalDateTime.now().truncatedTo(ChronoUnit.HOURS))) {
+            return apiCallLogBatchRepository.insertAll(batch);
+        }
+
+        LocalDateTime invalidateFrom = oldestHour;
+        Integer inserted = transactionTemplate.execute(status -> {
+            usageRollupRepository.invalidateFrom(invalidateFrom);
+            return apiCallLogBatchRepository.insertAll(batch);
+        });
+        return inserted != null ? inserted : 0;
+    }
+
+    private void enqueueBlocking(ApiCallLog apiCallLog) {
+        try {
+            // 무한 대기는 요청 스레드를 고갈시킬 수 있으므로 block-timeout까지만 대기
+            if (!queue.offer(apiCallLog, blockTimeoutMs, TimeUnit.MILLISECONDS)) {
+                drop(apiCallLog);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            drop(apiCallLog);
+        }
+    }
+
+    private void drop(ApiCallLog apiCallLog) {
+        droppedCounter.increment();
+        log.warn("[API_CALL_LOG_WRITER] Queue full - dropped log. TraceId: {}", apiCallLog.getTraceId());
+    }
+
+    /**
+     * 로그를 JSON Lines 형식으로 spill 파일에 추가합니다.
+     */
+    void spill(List<ApiCallLog> logs) {
+        spillLock.lock();
+        try {
+            Files.createDirectories(spillPath.getParent());
+            try (BufferedWriter writer = Files.newBufferedWriter(spillPath, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (ApiCallLog apiCallLog : logs) {
+                    writer.write(objectMapper.writeValueAsString(SpilledApiCallLog.from(apiCallLog)));
+                    writer.newLine();
+                }
+            }
+            spilledCounter.increment(logs.size());
+        } catch (IOException e) {
+            droppedCounter.increment(logs.size());
+            log.error("[API_CALL_LOG_WRITER] Failed to spill {} logs. Error: {}", logs.size(), e.getMessage(), e);
+        } finally {
+            spillLock.unlock();
+        }
+    }
+
+    /**
+     * spill 파일에 보존된 로그를 다시 DB에 적재합니다.
+     *
+     * 파일을 먼저 rename한 뒤 읽으므로, 재적재 중에도 요청 스레드는 새 spill 파일에 계속 쓸 수 있습니다.
+     * 배치가 커밋될 때마다 처리한 줄 수를 offset 파일에 기록하고, 중간에 실패하면 다음 시도는 그 다음 줄부터 이어갑니다.
+     * (커밋 직후 offset 기록 전에 프로세스가 종료된 경우에만 마지막 한 배치가 다시 적재될 수 있음)
+     * 실패가 이어지면 replay-retry-backoff-ms부터 두 배씩(max-replay-retry-backoff-ms까지) 간격을 늘려 재시도합니다.
+     */
+    void replaySpilledLogs() {
+        if (replayBackoffMs > 0 && System.nanoTime() - nextReplayAtNanos < 0) {
+            return;
+        }
+
+        Path replayPath = spillPath.resolveSibling(spillPath.getFileName() + REPLAY_SUFFIX);
+        Path offsetPath = spillPath.resolveSibling(spillPath.getFileName() + REPLAY_SUFFIX + OFFSET_SUFFIX);
+        long committedLines = 0;
+
+        try {
+            if (!Files.exists(replayPath)) {
+                spillLock.lock();
+                try {
+                    if (!Files.exists(spillPath)) {
+                        return;
+                    }
+                    Files.move(spillPath, replayPath, StandardCopyOption.ATOMIC_MOVE);
+                } finally {
+                    spillLock.unlock();
+                }
+                // 이전 재적재가 파일 삭제 후 offset 삭제 전에 중단된 경우 남은 offset 무시
+                Files.deleteIfExists(offsetPath);
+            }
+
+            committedLines = readOffset(offsetPath);
+            long lineNumber = 0;
+            int replayed = 0;
+            try (BufferedReader reader = Files.newBufferedReader(replayPath, StandardCharsets.UTF_8)) {
+                List<ApiCallLog> batch = new ArrayList<>(batchSize);
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    lineNumber++;
+                    if (lineNumber <= committedLines || line.isBlank()) {
+                        continue;
+                    }
+
+                    ApiCallLog apiCallLog = readSpilledLog(line, lineNumber);
+                    if (apiCallLog != null) {
+                        batch.add(apiCallLog);
+                    }
+                    if (batch.size() >= batchSize) {
+                        replayed += insertBatch(batch);
+                        batch.clear();
+                        committedLines = lineNumber;
+                        writeOffset(offsetPath, committedLines);
+                    }
+                }
+                replayed += insertBatch(batch);
+            }
+
+            Files.delete(replayPath);
+            Files.deleteIfExists(offsetPath);
+            replayBackoffMs = 0;
+            log.info("[API_CALL_LOG_WRITER] Replayed {} spilled logs", replayed);
+        } catch (Exception e) {
+            replayBackoffMs = replayBackoffMs == 0
+                    ? replayRetryBackoffMs
+                    : Math.min(replayBackoffMs * 2, maxReplayRetryBackoffMs);
+            nextReplayAtNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(replayBackoffMs);
+            log.error("[API_CALL_LOG_WRITER] Failed to replay spilled logs after line {} - retrying in {}ms. Error: {}",
+                    committedLines, replayBackoffMs, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * spill 파일의 한 줄을 로그로 변환합니다.
+     *
+     * 기록 도중 종료되어 잘린 줄은 재시도해도 읽을 수 없으므로 폐기하고 나머지 재적재를 계속합니다.
+     */
+    private ApiCallLog readSpilledLog(String line, long lineNumber) {
+        try {
+            return objectMapper.readValue(line, SpilledApiCallLog.class).toEntity();
+        } catch (IOException e) {
+            droppedCounter.increment();
+            log.warn("[API_CALL_LOG_WRITER] Skipped unreadable spilled log at line {}. Error: {}", lineNumber, e.getMessage());
+            return null;
+        }
+    }
+
+    private long readOffset(Path offsetPath) throws IOException {
+        if (!Files.exists(offsetPath)) {
+            return 0;
+        }
+        return Long.parseLong(Files.readString(offsetPath, StandardCharsets.UTF_8).trim());
+    }
+
+    /**
+     * offset 파일을 임시 파일에 쓴 뒤 교체하여, 기록 도중 종료되어도 이전 offset이 유지되도록 합니다.
+     */
+    private void writeOffset(Path offsetPath, long committedLines) throws IOException {
+        Path tempPath = offsetPath.resolveSibling(offsetPath.getFileName() + ".tmp");
+        Files.writeString(tempPath, Long.toString(committedLines), StandardCharsets.UTF_8);
+        Files.move(tempPath, offsetPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * 큐가 가득 찼을 때의 처리 정책
+     */
+    public enum OverflowPolicy {
+        BLOCK,  // block-timeout까지 대기 후 실패 시 폐기
+        DROP,   // 즉시 폐기
+        SPILL   // 디스크 파일에 보존 후 유휴 시점에 재적재
+    }
+
+    /**
+     * spill 파일 직렬화용 레코드 (Entity를 직접 직렬화하지 않기 위함)
+     */
+    record SpilledApiCallLog(
+            String traceId,
+            String merchantId,
+            String apiEndpoint,
+            HttpMethod httpMethod,
+            LocalDateTime requestAt,
+            LocalDateTime responseAt,
+            Integer latencyMs,
+            Long latencyUs,
+            Integer statusCode
+    ) {
+        static SpilledApiCallLog from(ApiCallLog apiCallLog) {
+            return new SpilledApiCallLog(
+                    apiCallLog.getTraceId(),
+                    apiCallLog.getMerchantId(),
+                    apiCallLog.getApiEndpoint(),
+                    apiCallLog.getHttpMethod(),
+                    apiCallLog.getRequestAt(),
+                    apiCallLog.getResponseAt(),
+                    apiCallLog.getLatencyMs(),
+                    apiCallLog.getLatencyUs(),
+                    apiCallLog.getStatusCode()
+            );
+        }
+
+        ApiCallLog toEntity() {
+            return ApiCallLog.builder()
+                    .traceId(traceId)
+                    .merchantId(merchantId)
+                    .apiEndpoint(apiEndpoint)
+                    .httpMethod(httpMethod)
+                    .requestAt(requestAt)
+                    .responseAt(responseAt)
+                    .latencyMs(latencyMs)
+                    .latencyUs(latencyUs)
+                    .statusCode(statusCode)
+                    .build();
+        }
+    }
+}
@@ -1,11 +1,9 @@
 package com.bank.channel.baas.service;
 
-import com.bank.channel.baas.domain.Merchant;
-import com.bank.channel.baas.repository.MerchantRepository;
+import com.bank.channel.baas.service.MerchantApiKeyCache.CachedMerchant;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -16,14 +14,15 @@ import java.util.Optional;
  * 1. API Key가 신뢰의 기준 (DB에서 조회)
  * 2. Request Body의 merchantId와 교차 검증
  * 3. 불일치 시 보안 위협으로 간주
+ *
+ * 가맹점 조회는 MerchantApiKeyCache를 통해 수행하므로, 캐시 적중 시 DB 커넥션/트랜잭션을 사용하지 않습니다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class ApiKeyAuthService {
 
-    private final MerchantRepository merchantRepository;
+    private final MerchantApiKeyCache merchantApiKeyCache;
 
     /**
      * API Key에서 merchantId 추출 (신뢰할 수 있는 방법)
@@ -40,11 +39,8 @@ public class ApiKeyAuthService {
         // Bearer 토큰 형식인 경우 처리
         String extractedKey = extractBearerToken(apiKey);
 
-        return merchantRepository.findByApiKey(extractedKey)
-                .map(merchant -> {
-                    log.debug("[API_KEY_AUTH] Merchant found by API Key: {}", merchant.getMerchantId());
-                    return merchant.getMerchantId();
-                });
+        return findActiveMerchant(extractedKey)
+                .map(CachedMerchant::merchantId);
     }
 
     /**
@@ -89,6 +85,24 @@ public class ApiKeyAuthService {
         return MerchantAuthResult.success(actualTrustedId);
     }
 
+    /**
+     * API Key로 활성 상태의 가맹점 조회
+     *
+     * 정지(SUSPENDED)/해지(CLOSED)된 가맹점의 API Key는 유효하지 않은 Key로 취급합니다.
+     */
+    private Optional<CachedMerchant> findActiveMerchant(String apiKey) {
+        return merchantApiKeyCache.findByApiKey(apiKey)
+                .filter(merchant -> {
+                    if (!merchant.isActive()) {
+                        log.warn("[API_KEY_AUTH] Merchant is not active - merchantId: {}, status: {}",
+                                merchant.merchantId(), merchant.status());
+                        return false;
+                    }
+                    log.debug("[API_KEY_AUTH] Merchant found by API Key: {}", merchant.merchantId());
+                    return true;
+                });
+    }
+
     /**
      * Bearer 토큰에서 실제 토큰 추출
      * 
@@ -0,0 +1,213 @@
+package com.bank.channel.baas.service;
+
+import com.bank.channel.baas.domain.ApiBillingPolicy;
+import com.bank.channel.baas.repository.PolicyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * 요금 정책(api_billing_policies) 인메모리 캐시
+ *
+ * 문제:
+ * - 사용량 조회마다 ORDER BY created_at DESC LIMIT 1 네이티브 쿼리로 정책을 조회 (정책은 거의 변경되지 않음)
+ * - api_endpoint별 정책이 모델링되어 있지만 사용되지 않음
+ *
+ * 해결:
+ * - 전체 정책을 메모리에 적재하고 (가맹점, API)별로 "시점 → 유효 정책" 타임라인을 미리 계산
+ *   (유효 기간이 겹치면 기존 쿼리와 동일하게 created_at이 가장 최근인 정책이 우선)
+ * - 시점 T의 유효 정책은 TreeMap.floorEntry 한 번으로 O(log n) 조회
+ * - refresh-interval마다 다시 적재하며, 정책 변경 직후에는 reload()(actuator billingpolicycache)로 즉시 반영
+ *
+ * API 매칭 순서: 정확히 일치 → 경로 prefix가 가장 긴 정책(/api/v1/usages → /api/v1/usages/WK) → 전역 정책(api_endpoint NULL)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BillingPolicyCache {
+
+    private final PolicyRepository policyRepository;
+
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    private volatile Map<String, MerchantPolicies> policiesByMerchant;
+
+    /**
+     * 시점 T에 유효한 정책 조회
+     *
+     * @param merchantId 가맹점 ID
+     * @param apiEndpoint 호출된 API 경로
+     * @param at 기준 시점
+     * @return 유효한 정책 (없으면 empty → 기본 요금 적용)
+     */
+    public Optional<ApiBillingPolicy> findActivePolicy(String merchantId, String apiEndpoint, LocalDateTime at) {
+        MerchantPolicies merchantPolicies = snapshot().get(merchantId);
+        if (merchantPolicies == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(merchantPolicies.find(apiEndpoint, at));
+    }
+
+    /**
+     * 전체 정책 재적재
+     */
+    @Scheduled(fixedDelayString = "${billing-policy-cache.refresh-interval:5m}", initialDelayString = "${billing-policy-cache.refresh-interval:5m}")
+    public void reload() {
+        reloadLock.lock();
+        try {
+            List<ApiBillingPolicy> policies = policyRepository.findAll();
+            this.policiesByMerchant = policies.stream()
+                    .collect(Collectors.groupingBy(ApiBillingPolicy::getMerchantId,
+                            Collectors.collectingAndThen(Collectors.toList(), MerchantPolicies::of)));
+            log.info("[BILLING_POLICY_CACHE] Loaded {} policies for {} merchants", policies.size(), policiesByMerchant.size());
+        } catch (Exception e) {
+            // 적재 실패 시 기존 스냅샷 유지
+            log.error("[BILLING_POLICY_CACHE] Failed to reload policies. Error: {}", e.getMessage(), e);
+            if (this.policiesByMerchant == null) {
+                throw e;
+            }
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private Map<String, MerchantPolicies> snapshot() {
+        Map<String, MerchantPolicies> current = this.policiesByMerchant;
+        if (current == null) {
+            // 최초 조회 시 한 번만 적재
+            reloadLock.lock();
+            try {
+                if (this.policiesByMerchant == null) {
+                    reload();
+                }
+            } finally {
+                reloadLock.unlock();
+            }
+            current = this.policiesByMerchant;
+        }
+        return current;
+    }
+
+    /**
+     * 가맹점의 API별 정책 타임라인
+     *
+     * @param timelines api_endpoint → (구간 시작 시점 → 해당 구간의 유효 정책, 유효 정책이 없는 구간은 null)
+     * @param global 전역 정책(api_endpoint NULL) 타임라인
+     */
+    record MerchantPolicies(Map<String, NavigableMap<LocalDateTime, ApiBillingPolicy>> timelines,
+                            NavigableMap<LocalDateTime, ApiBillingPolicy> global) {
+
+        static MerchantPolicies of(List<ApiBillingPolicy> policies) {
+            Map<String, List<ApiBillingPolicy>> byEndpoint = new HashMap<>();
+            List<ApiBillingPolicy> globalPolicies = new ArrayList<>();
+            for (ApiBillingPolicy policy : policies) {
+                if (policy.getApiEndpoint() == null) {
+                    globalPolicies.add(policy);
+                } else {
+                    byEndpoint.computeIfAbsent(policy.getApiEndpoint(), key -> new ArrayList<>()).add(policy);
+                }
+            }
+
+            Map<String, NavigableMap<LocalDateTime, ApiBillingPolicy>> timelines = new HashMap<>();
+            byEndpoint.forEach((endpoint, endpointPolicies) -> timelines.put(endpoint, buildTimeline(endpointPolicies)));
+            return new MerchantPolicies(timelines, buildTimeline(globalPolicies));
+        }
+
+        ApiBillingPolicy find(String apiEndpoint, LocalDateTime at) {
+            if (apiEndpoint != null) {
+                // 1. 정확히 일치
+                ApiBillingPolicy exact = activeAt(timelines.get(apiEndpoint), at);
+                if (exact != null) {
+                    return exact;
+                }
+
+                // 2. 경로 prefix가 가장 긴 정책 (segment 단위)
+                String path = apiEndpoint;
+                int slash;
+                while ((slash = path.lastIndexOf('/')) > 0) {
+                    path = path.substring(0, slash);
+                    ApiBillingPolicy prefix = activeAt(timelines.get(path), at);
+                    if (prefix != null) {
+                        return prefix;
+                    }
+                }
+            }
+
+            // 3. 전역 정책
+            return activeAt(global, at);
+        }
+
+        private static ApiBillingPolicy activeAt(NavigableMap<LocalDateTime, ApiBillingPolicy> timeline, LocalDateTime at) {
+            if (timeline == null) {
+                return null;
+            }
+            Entry<LocalDateTime, ApiBillingPolicy> entry = timeline.floorEntry(at);
+            return entry != null ? entry.getValue() : null;
+        }
+
+        /**
+         * 정책 유효 기간의 경계 시점마다 유효 정책을 미리 계산
+         *
+         * 유효 조건은 기존 쿼리와 동일: (start IS NULL OR start <= T) AND (end IS NULL OR end > T)
+         * 겹치는 경우 created_at 최신 우선 (NULL은 가장 오래된 것으로 취급), 같으면 policy_id가 큰 정책
+         */
+        static NavigableMap<LocalDateTime, ApiBillingPolicy> buildTimeline(List<ApiBillingPolicy> policies) {
+            NavigableMap<LocalDateTime, ApiBillingPolicy> timeline = new TreeMap<>();
+            if (policies.isEmpty()) {
+                return timeline;
+            }
+
+            TreeSet<LocalDateTime> boundaries = new TreeSet<>();
+            boundaries.add(LocalDateTime.MIN);
+            for (ApiBillingPolicy policy : policies) {
+                if (policy.getEffectiveStartDate() != null) {
+                    boundaries.add(policy.getEffectiveStartDate());
+                }
+                if (policy.getEffectiveEndDate() != null) {
+                    boundaries.add(policy.getEffectiveEndDate());
+                }
+            }
+
+            Comparator<ApiBillingPolicy> priority = Comparator
+                    .comparing(ApiBillingPolicy::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+                    .thenComparing(ApiBillingPolicy::getPolicyId, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+            ApiBillingPolicy previous = null;
+            boolean first = true;
+            for (LocalDateTime boundary : boundaries) {
+                ApiBillingPolicy winner = policies.stream()
+                        .filter(policy -> isEffective(policy, boundary))
+                        .max(priority)
+                        .orElse(null);
+
+                // 유효 정책이 바뀌는 시점만 저장
+                if (first || !Objects.equals(winner, previous)) {
+                    timeline.put(boundary, winner);
+                }
+                previous = winner;
+                first = false;
+            }
+            return timeline;
+        }
+
+        private static boolean isEffective(ApiBillingPolicy policy, LocalDateTime at) {
+            return (policy.getEffectiveStartDate() == null || !policy.getEffectiveStartDate().isAfter(at))
+                    && (policy.getEffectiveEndDate() == null || policy.getEffectiveEndDate().isAfter(at));
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.bank.channel.baas.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요금 정책 캐시 재적재용 Actuator Endpoint
+ *
+ * DB에서 요금 정책(api_billing_policies)을 변경한 경우 refresh-interval을 기다리지 않고 즉시 반영하기 위해 사용합니다.
+ * - DELETE /actuator/billingpolicycache : 전체 정책 재적재
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "billingpolicycache")
+public class BillingPolicyCacheEndpoint {
+
+    private final BillingPolicyCache billingPolicyCache;
+
+    @DeleteOperation
+    public void reload() {
+        billingPolicyCache.reload();
+    }
+}
@@ -0,0 +1,83 @@
+package com.bank.channel.baas.service;
+
+import com.bank.channel.baas.domain.enums.EventStatus;
+import com.bank.channel.baas.repository.CoreBankingEventBatchRepository;
+import com.bank.channel.baas.repository.CoreBankingEventBatchRepository.StuckEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 미완료 계정계 호출 이력 정리 Job
+ *
+ * 응답 전 인스턴스 종료, 이력 유실(큐 포화/저장 실패) 등으로 REQUESTED 상태로 남은 이력(stuck-after 경과)을 찾아
+ * TIMEOUT(결과 미확인)으로 표시하고 수동 확인 대상으로 로그를 남깁니다.
+ *
+ * 계정계에 거래 결과 조회 API가 없고, REQUESTED로 남았다고 해서 계정계에서 처리되지 않았다는 보장이 없으므로
+ * (최종 결과 기록만 유실된 경우) 저장된 요청을 다시 보내지 않습니다.
+ * 409 응답도 이미 처리됨(중복)만 의미하지 않아(ESC_4093 등) 재호출 결과로 최종 상태를 판단할 수 없습니다.
+ *
+ * REQUESTED → TIMEOUT 선점 방식이므로 여러 인스턴스에서 실행되어도 한 번만 처리됩니다.
+ */
+@Slf4j
+@Component
+public class CoreBankingEventReconciler {
+
+    private final CoreBankingEventBatchRepository coreBankingEventBatchRepository;
+    private final MeterRegistry meterRegistry;
+    private final Duration stuckAfter;
+    private final int batchSize;
+
+    public CoreBankingEventReconciler(
+            CoreBankingEventBatchRepository coreBankingEventBatchRepository,
+            MeterRegistry meterRegistry,
+            @Value("${core-banking-journal.reconcile.stuck-after:5m}") Duration stuckAfter,
+            @Value("${core-banking-journal.reconcile.batch-size:100}") int batchSize
+    ) {
+        this.coreBankingEventBatchRepository = coreBankingEventBatchRepository;
+        this.meterRegistry = meterRegistry;
+        this.stuckAfter = stuckAfter;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${core-banking-journal.reconcile.interval:1m}", initialDelayString = "${core-banking-journal.reconcile.interval:1m}")
+    public void reconcile() {
+        try {
+            int reconciled = reconcile(LocalDateTime.now());
+            if (reconciled > 0) {
+                log.info("[CORE_BANKING_RECONCILE] Marked {} stuck events as TIMEOUT", reconciled);
+            }
+        } catch (Exception e) {
+            log.error("[CORE_BANKING_RECONCILE] Reconciliation failed. Error: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 기준 시각에서 stuck-after 이전에 요청되어 REQUESTED로 남은 이력을 TIMEOUT으로 표시
+     *
+     * @return 처리한 이력 수
+     */
+    int reconcile(LocalDateTime now) {
+        List<StuckEvent> stuckEvents = coreBankingEventBatchRepository.findRequestedBefore(now.minus(stuckAfter), batchSize);
+
+        int reconciled = 0;
+        for (StuckEvent event : stuckEvents) {
+            // 다른 인스턴스가 먼저 처리했거나, 뒤늦게 최종 결과가 기록된 경우
+            if (!coreBankingEventBatchRepository.claim(event.eventId(), EventStatus.TIMEOUT)) {
+                continue;
+            }
+            reconciled++;
+
+            log.error("[CORE_BANKING_RECONCILE] Unresolved core call - manual check required. EventId: {}, Api: {}, Endpoint: {}, TraceId: {}, RequestTime: {}",
+                    event.eventId(), event.apiName(), event.coreEndpoint(), event.traceId(), event.requestTime());
+            meterRegistry.counter("core.banking.reconcile", "api", event.apiName(), "result", "unresolved").increment();
+        }
+        return reconciled;
+    }
+}
@@ -0,0 +1,300 @@
+package com.bank.channel.baas.service;
+
+import com.bank.channel.baas.domain.CoreBankingEvent;
+import com.bank.channel.baas.repository.CoreBankingEventBatchRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 계정계 호출 이력 비동기 배치 Journal
+ *
+ * 문제:
+ * - CoreBankingEvent(core_banking_events)가 매핑만 되어 있고 기록되지 않아, 계정계 호출 이력이 로그 라인에만 남음
+ * - 호출마다 동기 INSERT/UPDATE를 하면 결제 API 응답 지연에 DB 왕복이 두 번 더해짐
+ *
+ * 해결:
+ * - 요청 스레드는 REQUESTED 기록(호출 전)과 최종 결과 기록(호출 후)을 bounded queue에 넣고 즉시 반환
+ * - 백그라운드 flusher가 batch-size 또는 flush-interval 기준으로 모아서 multi-row upsert
+ * - 같은 배치에 REQUESTED와 최종 결과가 함께 있으면 최종 결과 한 행으로 합쳐 저장
+ *   (응답이 flush-interval보다 늦은 호출만 REQUESTED 행이 먼저 저장되고 이후 갱신됨)
+ * - REQUESTED 상태로 남은 이력(응답 전 인스턴스 종료 등)은 CoreBankingEventReconciler가 정리
+ *
+ * 큐가 가득 차면 block-timeout까지만 대기 후 폐기합니다. (결제 처리를 이력 기록보다 우선)
+ *
+ * 저장 실패 시 배치를 버리지 않습니다.
+ * - 일시적 오류(커넥션 획득 실패, 락 타임아웃 등): 같은 배치를 retry-backoff부터 max-retry-backoff까지 늘려가며 성공할 때까지 재시도
+ *   (재시도 중 쌓이는 이력은 큐가 흡수하고, 큐가 가득 차면 위 폐기 정책 적용)
+ * - 그 외 오류(데이터 오류 등): 행 단위로 나눠 저장하여 문제가 된 이력만 제외
+ * 최종 결과 기록이 유실된 호출은 REQUESTED로 남고, CoreBankingEventReconciler가 TIMEOUT(수동 확인 대상)으로 표시합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CoreBankingJournal {
+
+    private static final String FLUSHER_THREAD_NAME = "core-banking-journal";
+
+    private final CoreBankingEventBatchRepository coreBankingEventBatchRepository;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${core-banking-journal.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${core-banking-journal.batch-size:200}")
+    private int batchSize;
+
+    @Value("${core-banking-journal.flush-interval-ms:200}")
+    private long flushIntervalMs;
+
+    @Value("${core-banking-journal.block-timeout-ms:20}")
+    private long blockTimeoutMs;
+
+    @Value("${core-banking-journal.shutdown-timeout-ms:10000}")
+    private long shutdownTimeoutMs;
+
+    @Value("${core-banking-journal.retry-backoff-ms:200}")
+    private long retryBackoffMs;
+
+    @Value("${core-banking-journal.max-retry-backoff-ms:5000}")
+    private long maxRetryBackoffMs;
+
+    private BlockingQueue<CoreBankingEvent> queue;
+    private Thread flusher;
+    private volatile boolean running;
+
+    private Timer flushTimer;
+    private Counter droppedCounter;
+    private Counter failedCounter;
+    private Counter retriedCounter;
+
+    @PostConstruct
+    void start() {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        Gauge.builder("core.banking.journal.queue.depth", queue, BlockingQueue::size)
+                .description("저장 대기 중인 계정계 호출 이력 수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("core.banking.journal.flush")
+                .description("계정계 호출 이력 배치 upsert 소요 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.droppedCounter = meterRegistry.counter("core.banking.journal.dropped");
+        this.failedCounter = meterRegistry.counter("core.banking.journal.failed");
+        this.retriedCounter = meterRegistry.counter("core.banking.journal.retried");
+
+        this.running = true;
+        this.flusher = new Thread(this::runFlushLoop, FLUSHER_THREAD_NAME);
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+
+        log.info("[CORE_BANKING_JOURNAL] Started - capacity: {}, batchSize: {}, flushInterval: {}ms",
+                queueCapacity, batchSize, flushIntervalMs);
+    }
+
+    /**
+     * 이력을 큐에 적재합니다. 계정계를 호출하는 요청 스레드에서 호출되며 DB 접근을 하지 않습니다.
+     *
+     * @param event REQUESTED 기록 또는 최종 결과 기록 (같은 호출은 같은 channelTxId)
+     */
+    public void record(CoreBankingEvent event) {
+        try {
+            if (queue.offer(event) || queue.offer(event, blockTimeoutMs, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        droppedCounter.increment();
+        log.warn("[CORE_BANKING_JOURNAL] Queue full - dropped event. ChannelTxId: {}, Status: {}",
+                event.getChannelTxId(), event.getStatus());
+    }
+
+    /**
+     * 종료 시 남은 이력 flush (웹 서버 graceful shutdown 이후 호출)
+     */
+    @PreDestroy
+    void shutdown() {
+        running = false;
+
+        try {
+            flusher.join(shutdownTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (flusher.isAlive()) {
+            // 저장 재시도 중인 배치 포기 (flusher가 폐기 건수 기록)
+            flusher.interrupt();
+            log.warn("[CORE_BANKING_JOURNAL] Shutdown timeout - {} events not flushed", queue.size());
+        }
+        log.info("[CORE_BANKING_JOURNAL] Stopped");
+    }
+
+    private void runFlushLoop() {
+        while (running || !queue.isEmpty()) {
+            try {
+                List<CoreBankingEvent> batch = collectBatch();
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("[CORE_BANKING_JOURNAL] Unexpected error in flush loop", e);
+            }
+        }
+    }
+
+    /**
+     * batch-size가 채워지거나 첫 이력 이후 flush-interval이 지날 때까지 이력을 모읍니다.
+     */
+    private List<CoreBankingEvent> collectBatch() throws InterruptedException {
+        List<CoreBankingEvent> batch = new ArrayList<>(batchSize);
+
+        CoreBankingEvent first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return batch;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            if (batch.size() >= batchSize) {
+                break;
+            }
+
+            long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0) {
+                break;
+            }
+
+            CoreBankingEvent next = queue.poll(remainingNanos, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    void flush(List<CoreBankingEvent> batch) throws InterruptedException {
+        List<CoreBankingEvent> events = coalesce(batch);
+        long backoffMs = retryBackoffMs;
+        while (true) {
+            long startNanos = System.nanoTime();
+            try {
+                coreBankingEventBatchRepository.upsertAll(events);
+                log.debug("[CORE_BANKING_JOURNAL] Flushed {} events ({} records)", events.size(), batch.size());
+                return;
+            } catch (Exception e) {
+                if (!isTransient(e)) {
+                    log.warn("[CORE_BANKING_JOURNAL] Failed to flush {} events - retrying row by row. Error: {}",
+                            events.size(), e.getMessage());
+                    flushEach(events);
+                    return;
+                }
+                retriedCounter.increment();
+                log.warn("[CORE_BANKING_JOURNAL] Failed to flush {} events - retrying in {}ms. Error: {}",
+                        events.size(), backoffMs, e.getMessage());
+            } finally {
+                flushTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            }
+
+            try {
+                Thread.sleep(backoffMs);
+            } catch (InterruptedException e) {
+                failedCounter.increment(events.size());
+                log.error("[CORE_BANKING_JOURNAL] Interrupted while retrying - dropped {} events", events.size());
+                throw e;
+            }
+            backoffMs = Math.min(backoffMs * 2, maxRetryBackoffMs);
+        }
+    }
+
+    /**
+     * 배치 저장이 데이터 오류로 실패한 경우 행 단위로 저장하여 문제가 된 이력만 제외
+     */
+    private void flushEach(List<CoreBankingEvent> events) {
+        for (CoreBankingEvent event : events) {
+            try {
+                coreBankingEventBatchRepository.upsertAll(List.of(event));
+            } catch (Exception e) {
+                failedCounter.increment();
+                log.error("[CORE_BANKING_JOURNAL] Failed to flush event. ChannelTxId: {}, Status: {}, Error: {}",
+                        event.getChannelTxId(), event.getStatus(), e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 같은 배치를 다시 저장하면 성공할 수 있는 오류 (DB 장애, 커넥션 풀 고갈, 락 타임아웃/데드락 등)
+     */
+    private static boolean isTransient(Exception e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException;
+    }
+
+    /**
+     * 같은 호출(channelTxId)의 기록은 큐에 들어온 순서상 마지막 기록(최종 결과)만 남기고,
+     * JSON 컬럼에 저장할 수 없는 payload는 JSON 문자열로 감쌉니다.
+     */
+    private List<CoreBankingEvent> coalesce(List<CoreBankingEvent> batch) {
+        Map<String, CoreBankingEvent> latest = new LinkedHashMap<>();
+        for (CoreBankingEvent event : batch) {
+            latest.put(event.getChannelTxId(), event);
+        }
+
+        List<CoreBankingEvent> events = new ArrayList<>(latest.size());
+        for (CoreBankingEvent event : latest.values()) {
+            events.add(event.toBuilder()
+                    .requestPayload(toJson(event.getRequestPayload(), "{}"))
+                    .responsePayload(toJson(event.getResponsePayload(), null))
+                    .build());
+        }
+        return events;
+    }
+
+    /**
+     * JSON 컬럼에 저장할 payload (JSON이 아니면 JSON 문자열로 감쌈)
+     */
+    String toJson(String payload, String defaultValue) {
+        if (payload == null || payload.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            objectMapper.readTree(payload);
+            return payload;
+        } catch (Exception e) {
+            // 게이트웨이 오류 페이지 등 JSON이 아닌 응답
+            try {
+                return objectMapper.writeValueAsString(payload);
+            } catch (Exception ignored) {
+                return defaultValue;
+            }
+        }
+    }
+}
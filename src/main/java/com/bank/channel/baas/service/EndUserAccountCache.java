@@ -0,0 +1,174 @@
+package com.bank.channel.baas.service;
+
+import com.bank.channel.baas.repository.EndUserUpsertRepository;
+import com.bank.channel.baas.repository.EndUserUpsertRepository.AccountRef;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * (은행 코드, 계좌번호) → (계좌 ID, End User ID) 인메모리 캐시
+ *
+ * 문제:
+ * - 결제 요청의 대부분은 이미 등록된 Payer 계좌인데도, 결제 인증마다 End User/계좌 upsert 쿼리가 실행됨
+ *
+ * 해결:
+ * - 등록된 계좌를 크기 제한 캐시(W-TinyLFU)에 보관하고, 캐시 히트 시 upsert를 생략 (DB 접근 없음)
+ * - 캐시 미스 시 unique 인덱스로 조회 후 캐싱 (read-through), 신규 등록 직후에도 캐싱
+ * - 수백만 건을 담을 수 있도록 키는 long 하나로, End User ID(UUID)는 long 두 개로 압축해 보관
+ *   (숫자가 아닌 계좌번호 등 압축할 수 없는 값만 문자열로 보관)
+ *
+ * 계좌↔End User 연결은 등록 후 변경되지 않으므로, ttl은 운영 중 수동 삭제된 계좌의 반영 주기입니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EndUserAccountCache {
+
+    private static final String CACHE_NAME = "endUserAccountCache";
+
+    // long 키 구성: [은행 코드 10bit][계좌번호 길이 4bit][계좌번호 값 50bit]
+    private static final int BANK_CODE_LENGTH = 3;
+    private static final int MAX_PACKED_ACCOUNT_LENGTH = 15;
+    private static final int LENGTH_SHIFT = 50;
+    private static final int BANK_CODE_SHIFT = 54;
+
+    private final EndUserUpsertRepository endUserUpsertRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${end-user.account-cache.maximum-size:1000000}")
+    private long maximumSize;
+
+    @Value("${end-user.account-cache.ttl:24h}")
+    private Duration ttl;
+
+    private Cache<Object, CachedAccount> cache;
+
+    @PostConstruct
+    void init() {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        // cache.gets{result=hit|miss}, cache.evictions, cache.size 등을 actuator metrics로 노출
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 등록된 계좌 조회 (캐시 미스 시 DB 조회 후 캐싱, 미등록 계좌는 캐싱하지 않음)
+     *
+     * @return 계좌 정보 (미등록 계좌이면 empty)
+     */
+    public Optional<CachedAccount> find(String bankCode, String accountNumber) {
+        Object key = toKey(bankCode, accountNumber);
+        CachedAccount cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        // cache.get(key, loader)는 락 안에서 DB를 조회하므로(virtual thread pinning) 락 밖에서 조회 후 저장
+        Optional<CachedAccount> loaded = endUserUpsertRepository.findAccountRef(accountNumber, bankCode)
+                .map(CachedAccount::from);
+        loaded.ifPresent(account -> cache.put(key, account));
+        return loaded;
+    }
+
+    /**
+     * 신규 등록된 계좌 캐싱
+     */
+    public void put(String bankCode, String accountNumber, AccountRef accountRef) {
+        cache.put(toKey(bankCode, accountNumber), CachedAccount.from(accountRef));
+    }
+
+    /**
+     * 계좌 캐시 항목 제거 (계좌 삭제/End User 변경 시 호출)
+     */
+    public void evict(String bankCode, String accountNumber) {
+        cache.invalidate(toKey(bankCode, accountNumber));
+        log.info("[END_USER_ACCOUNT_CACHE] Evicted account. BankCode: {}", bankCode);
+    }
+
+    /**
+     * 캐시 키 생성
+     *
+     * 은행 코드가 3자리 숫자이고 계좌번호가 15자리 이하 숫자이면 long 하나로 압축합니다.
+     * 계좌번호 길이를 함께 담아 앞자리 0이 다른 계좌번호("0123"/"123")를 구분합니다.
+     * 그 외(하이픈 포함 등)는 "은행코드:계좌번호" 문자열을 키로 사용합니다. (Long 키와 충돌하지 않음)
+     */
+    static Object toKey(String bankCode, String accountNumber) {
+        if (isDigits(bankCode) && bankCode.length() == BANK_CODE_LENGTH
+                && isDigits(accountNumber) && accountNumber.length() <= MAX_PACKED_ACCOUNT_LENGTH) {
+            long bank = Long.parseLong(bankCode);
+            long length = accountNumber.length();
+            long value = Long.parseLong(accountNumber);
+            return (bank << BANK_CODE_SHIFT) | (length << LENGTH_SHIFT) | value;
+        }
+        return bankCode + ':' + accountNumber;
+    }
+
+    private static boolean isDigits(String value) {
+        if (value == null || value.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 캐시에 저장되는 계좌 정보
+     * End User ID가 UUID 형식이면 문자열 대신 long 두 개로 보관합니다.
+     */
+    public static final class CachedAccount {
+
+        private final long accountId;
+        private final long endUserIdMsb;
+        private final long endUserIdLsb;
+        private final String rawEndUserId;
+
+        private CachedAccount(long accountId, long endUserIdMsb, long endUserIdLsb, String rawEndUserId) {
+            this.accountId = accountId;
+            this.endUserIdMsb = endUserIdMsb;
+            this.endUserIdLsb = endUserIdLsb;
+            this.rawEndUserId = rawEndUserId;
+        }
+
+        static CachedAccount from(AccountRef accountRef) {
+            String endUserId = accountRef.endUserId();
+            try {
+                UUID uuid = UUID.fromString(endUserId);
+                if (uuid.toString().equals(endUserId)) {
+                    return new CachedAccount(accountRef.accountId(),
+                            uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), null);
+                }
+            } catch (IllegalArgumentException ignored) {
+                // UUID 형식이 아닌 기존 End User ID
+            }
+            return new CachedAccount(accountRef.accountId(), 0L, 0L, endUserId);
+        }
+
+        public long getAccountId() {
+            return accountId;
+        }
+
+        public String getEndUserId() {
+            return rawEndUserId != null ? rawEndUserId : new UUID(endUserIdMsb, endUserIdLsb).toString();
+        }
+    }
+}
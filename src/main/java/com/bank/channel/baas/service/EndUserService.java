@@ -1,104 +1,185 @@
 package com.bank.channel.baas.service;
 
-import com.bank.channel.baas.domain.BaasEndUser;
-import com.bank.channel.baas.domain.BaasUserAccount;
-import com.bank.channel.baas.domain.Merchant;
 import com.bank.channel.baas.domain.enums.Bank;
 import com.bank.channel.baas.dto.NonBank.AccountInfoWithPhone;
-import com.bank.channel.baas.dto.NonBank.BasicAccountInfo;
 import com.bank.channel.baas.dto.NonBank.PaymentAuthorizeRequest;
-import com.bank.channel.baas.repository.BaasEndUserRepository;
-import com.bank.channel.baas.repository.BaasUserAccountRepository;
-import lombok.RequiredArgsConstructor;
+import com.bank.channel.baas.repository.EndUserUpsertRepository;
+import com.bank.channel.baas.repository.EndUserUpsertRepository.AccountRef;
+import com.bank.channel.baas.service.MerchantApiKeyCache.CachedMerchant;
+import com.bank.channel.global.config.AsyncConfig;
+import com.bank.channel.global.exception.CustomException;
+import com.bank.channel.global.exception.ErrorCode;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.SQLException;
+import java.util.Set;
 import java.util.UUID;
 
 
 /**
  * BaaS End User 및 계좌 관리 서비스
  * PaymentAuthorizeRequest에 merchantUserId가 없으므로, Payer의 계좌 정보를 기준으로 사용자 및 계좌를 식별하고 저장합니다.
+ *
+ * 계좌(account_number, bank_code) unique 제약을 기준으로 native upsert합니다.
+ * - 가맹점: MerchantApiKeyCache로 존재/활성 여부를 먼저 확인 (기존 계좌도 포함, 계정계 호출 전에 차단)
+ * - 이미 등록된 계좌: EndUserAccountCache 히트 시 DB 접근 없음 (미스 시 unique 인덱스 조회 한 번 후 캐싱)
+ * - 신규 계좌: End User INSERT 후 계좌 INSERT ... ON DUPLICATE KEY UPDATE를 한 트랜잭션으로 처리
+ *   (중간 실패 또는 동시 요청으로 계좌가 다른 End User에 먼저 연결된 경우 방금 만든 End User까지 rollback)
+ *
+ * 신규 계좌 트랜잭션은 READ COMMITTED로 실행합니다.
+ * REPEATABLE READ에서는 NOT EXISTS 조회가 계좌 인덱스에 gap lock을 잡아, 같은 계좌를 동시에 등록하는 요청끼리
+ * INSERT 시점에 deadlock이 발생하며, 계좌 upsert 직후 조회가 동시 요청이 커밋한 행을 보지 못할 수 있습니다.
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class EndUserService {
 
-    private final BaasEndUserRepository endUserRepository;
-    private final BaasUserAccountRepository accountRepository;
-    private final MerchantService merchantService;
+    // 참조하는 부모 행이 없는 FK 위반 (MySQL ER_NO_REFERENCED_ROW / ER_NO_REFERENCED_ROW_2)
+    private static final Set<Integer> MYSQL_NO_REFERENCED_ROW_ERROR_CODES = Set.of(1216, 1452);
+    // H2 REFERENTIAL_INTEGRITY_VIOLATED_PARENT_MISSING (테스트)
+    private static final String H2_PARENT_MISSING_SQL_STATE = "23506";
+
+    private final EndUserUpsertRepository endUserUpsertRepository;
+    private final EndUserAccountCache endUserAccountCache;
+    private final MerchantApiKeyCache merchantApiKeyCache;
+    private final TransactionTemplate transactionTemplate;
+
+    public EndUserService(EndUserUpsertRepository endUserUpsertRepository,
+                          EndUserAccountCache endUserAccountCache,
+                          MerchantApiKeyCache merchantApiKeyCache,
+                          PlatformTransactionManager transactionManager) {
+        this.endUserUpsertRepository = endUserUpsertRepository;
+        this.endUserAccountCache = endUserAccountCache;
+        this.merchantApiKeyCache = merchantApiKeyCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+    }
 
     /**
-     * 결제 요청 정보를 바탕으로 End User 및 계좌 정보를 저장하거나 업데이트합니다.
-     * 이 메서드는 PaymentService에서 결제 인증 전에 호출됩니다.
+     * 결제 요청 정보를 바탕으로 End User 및 계좌 정보를 저장합니다. (이미 등록된 계좌면 변경 없음)
+     * 이 메서드는 PaymentService에서 결제 인증 전에 호출됩니다. (end-user.upsert-mode: SYNC)
+     *
+     * @throws CustomException 가맹점 정보가 존재하지 않거나 활성 상태가 아닌 경우 (MERCHANT_NOT_FOUND)
      */
     public void saveOrUpdateUserAndAccount(PaymentAuthorizeRequest request) {
         log.info("[EndUser/Account Upsert] Start processing for Merchant ID: {}", request.getMerchantId());
 
-        // 1. Merchant 조회
-        Merchant merchant = merchantService.getMerchantById(request.getMerchantId());
-
-        // 2. BaaS End User 처리 (조회 또는 신규 생성)
-        BaasEndUser endUser = findOrCreateEndUser(request, merchant);
+        // 1. 가맹점 확인 (기존 계좌는 FK 검사를 거치지 않으므로 항상 먼저 확인)
+        requireActiveMerchant(request.getMerchantId());
 
-        // 3. Payer 계좌 정보 처리 (조회 또는 신규 생성)
-        saveOrUpdateAccount(endUser, request.getPayerInfo());
+        AccountInfoWithPhone payerInfo = request.getPayerInfo();
 
-        log.info("[EndUser/Account Upsert] Success for EndUserId: {}", endUser.getEndUserId());
+        // 2. 이미 등록된 계좌면 종료 (재결제 Payer가 대부분)
+        if (endUserAccountCache.find(payerInfo.getBankCode(), payerInfo.getAccountNo()).isPresent()) {
+            log.info("[EndUser/Account Upsert] Account already registered. Merchant ID: {}", request.getMerchantId());
+            return;
+        }
+
+        // 3. 계좌가 없을 때만 BaaS End User와 계좌를 한 트랜잭션으로 저장 (BaaS 내부 PK (endUserId): UUID 사용)
+        String endUserId = generateUniqueId();
+        AccountRef linked;
+        try {
+            linked = transactionTemplate.execute(status -> {
+                boolean created = endUserUpsertRepository.insertEndUserIfAccountAbsent(
+                        endUserId,
+                        request.getMerchantId(),
+                        request.getUserName(),
+                        payerInfo.getPhone(),
+                        payerInfo.getAccountNo(),
+                        payerInfo.getBankCode());
+                if (!created) {
+                    return null;
+                }
+
+                AccountRef saved = endUserUpsertRepository.upsertAccount(
+                        endUserId,
+                        payerInfo.getBankCode(),
+                        getBankName(payerInfo.getBankCode()),
+                        payerInfo.getAccountNo(),
+                        payerInfo.getName());
+
+                // 동시 요청으로 계좌가 다른 End User에 먼저 연결된 경우 방금 생성한 End User는 저장하지 않음
+                if (!endUserId.equals(saved.endUserId())) {
+                    status.setRollbackOnly();
+                }
+                return saved;
+            });
+        } catch (DataIntegrityViolationException e) {
+            if (!isMissingParentRow(e)) {
+                throw e;
+            }
+            // 가맹점 확인 이후 가맹점이 삭제된 경우 (캐시 TTL 이내)
+            log.error("[EndUser/Account Upsert] Merchant not found for ID: {}", request.getMerchantId());
+            throw new CustomException(ErrorCode.MERCHANT_NOT_FOUND);
+        }
+
+        if (linked == null) {
+            // 조회 이후 동시 요청으로 등록됨 (다음 요청에서 캐싱)
+            log.info("[EndUser/Account Upsert] Account already registered. Merchant ID: {}", request.getMerchantId());
+            return;
+        }
+        endUserAccountCache.put(payerInfo.getBankCode(), payerInfo.getAccountNo(), linked);
+
+        if (!endUserId.equals(linked.endUserId())) {
+            log.info("[EndUser/Account Upsert] Account registered concurrently. EndUserId: {}", linked.endUserId());
+            return;
+        }
+
+        log.info("[EndUser/Account Upsert] Success for EndUserId: {}", endUserId);
     }
 
     /**
-     * 계좌 정보를 기준으로 BaaS End User를 조회하거나 새로 생성합니다.
-     * merchantUserId가 없으므로, 계좌번호와 은행코드로 기존 BaasUserAccount를 먼저 조회합니다.
+     * 결제 요청 가맹점이 존재하고 활성 상태인지 확인합니다. (MerchantApiKeyCache 기준, DB 조회는 캐시 미스 시에만)
+     *
+     * @throws CustomException 가맹점 정보가 존재하지 않거나 정지/해지된 경우 (MERCHANT_NOT_FOUND)
      */
-    private BaasEndUser findOrCreateEndUser(PaymentAuthorizeRequest request, Merchant merchant) {
-        AccountInfoWithPhone payerInfo = request.getPayerInfo();
-
-        // 1. Payer의 계좌번호/은행코드로 기존 BaasUserAccount를 조회
-        return accountRepository
-                .findByAccountNumberAndBankCode(
-                        payerInfo.getAccountNo(),
-                        payerInfo.getBankCode())
-                .map(BaasUserAccount::getEndUser) // 기존 계좌가 있으면 연결된 EndUser 반환 (재활용)
-                .orElseGet(() -> {
-                    // 2. 계좌 정보가 없으면, 신규 BaaS End User 생성
-                    // BaaS 내부 PK (endUserId) 생성: UUID 사용
-                    String generatedEndUserId = generateUniqueId();
-
-                    // 3. BaaS End User 엔티티 생성 및 저장
-                    BaasEndUser newEndUser = BaasEndUser.builder()
-                            .endUserId(generatedEndUserId)
-                            .merchant(merchant)
-                            .userName(request.getUserName())
-                            .phoneNumber(payerInfo.getPhone())
-                            .build();
-
-                    return endUserRepository.save(newEndUser);
+    public void requireActiveMerchant(String merchantId) {
+        CachedMerchant merchant = merchantApiKeyCache.findByMerchantId(merchantId)
+                .orElseThrow(() -> {
+                    log.error("[EndUser/Account Upsert] Merchant not found for ID: {}", merchantId);
+                    return new CustomException(ErrorCode.MERCHANT_NOT_FOUND);
                 });
+
+        if (!merchant.isActive()) {
+            log.warn("[EndUser/Account Upsert] Merchant is not active - merchantId: {}, status: {}",
+                    merchantId, merchant.status());
+            throw new CustomException(ErrorCode.MERCHANT_NOT_FOUND);
+        }
     }
 
     /**
-     * EndUser에 연결된 Payer 계좌 정보를 저장하거나 업데이트합니다.
+     * 결제 인증 성공 후 End User 및 계좌 정보를 비동기로 저장합니다. (end-user.upsert-mode: ASYNC)
+     * 실패해도 결제 인증 결과에는 영향을 주지 않으며, 다음 결제 요청 시 다시 저장됩니다.
      */
-    private void saveOrUpdateAccount(BaasEndUser endUser, BasicAccountInfo payerInfo) {
-        // BaasEndUser와 계좌번호, 은행코드를 기준으로 계좌 조회
-        accountRepository.findByEndUserAndAccountNumberAndBankCode(
-                        endUser,
-                        payerInfo.getAccountNo(),
-                        payerInfo.getBankCode())
-                .orElseGet(() -> {
-                    // 존재하지 않으면 신규 생성
-                    BaasUserAccount newAccount = BaasUserAccount.builder()
-                            .endUser(endUser)
-                            .bankCode(payerInfo.getBankCode())
-                            .bankName(getBankName(payerInfo.getBankCode()))
-                            .accountNumber(payerInfo.getAccountNo())
-                            .accountHolderName(payerInfo.getName())
-                            .isVerified(true)
-                            .build();
-                    return accountRepository.save(newAccount);
-                });
+    @Async(AsyncConfig.END_USER_UPSERT_EXECUTOR)
+    public void saveOrUpdateUserAndAccountAsync(PaymentAuthorizeRequest request) {
+        try {
+            saveOrUpdateUserAndAccount(request);
+        } catch (Exception e) {
+            log.error("[EndUser/Account Upsert] Async upsert failed for Merchant ID: {}. Error: {}",
+                    request.getMerchantId(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 참조하는 부모 행이 없는 FK 위반 여부 (baas_end_users의 FK는 merchant_id 하나뿐)
+     *
+     * 메시지 대신 vendor error code / SQLState로 판단합니다.
+     */
+    private boolean isMissingParentRow(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException) {
+                return MYSQL_NO_REFERENCED_ROW_ERROR_CODES.contains(sqlException.getErrorCode())
+                        || H2_PARENT_MISSING_SQL_STATE.equals(sqlException.getSQLState());
+            }
+        }
+        return false;
     }
 
     /**
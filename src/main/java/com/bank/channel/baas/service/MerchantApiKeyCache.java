@@ -0,0 +1,172 @@
+package com.bank.channel.baas.service;
+
+import com.bank.channel.baas.domain.Merchant;
+import com.bank.channel.baas.domain.enums.MerchantStatus;
+import com.bank.channel.baas.repository.MerchantRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * API Key → Merchant 인메모리 캐시
+ *
+ * 문제:
+ * - 인증이 필요한 모든 요청마다 merchants 테이블을 조회 (테이블은 작고 거의 변경되지 않음)
+ *
+ * 해결:
+ * - API Key 기준으로 merchantId, status를 TTL 캐싱
+ * - 미스 시 cache.get(key, loader)로 조회하여 같은 Key의 동시 요청은 DB를 한 번만 조회하고 결과를 공유 (load coalescing)
+ * - 존재하지 않는 API Key는 별도의 작은 캐시에 짧은 TTL(negative-ttl)로 캐싱
+ *   (Key 무작위 대입 시 DB 부하를 막으면서, 무작위 Key가 정상 Key 캐시의 용량을 차지하지 않음)
+ * - 가맹점 상태 변경은 최대 TTL 이내 반영되며, evict 메서드로 즉시 반영 가능
+ * - 결제 처리 중 가맹점 확인(EndUserService)을 위해 merchantId 기준 조회도 같은 정책으로 캐싱
+ *
+ * loader는 ConcurrentHashMap bin lock(synchronized) 안에서 실행되므로 JDK 21 virtual thread에서는
+ * 조회하는 동안 carrier thread가 고정되지만, 미스는 Key별로 TTL당 한 번뿐이라 coalescing을 우선합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MerchantApiKeyCache {
+
+    private static final String CACHE_NAME = "merchantApiKeyCache";
+    private static final String MERCHANT_ID_CACHE_NAME = "merchantIdCache";
+    private static final String NEGATIVE_SUFFIX = ".negative";
+
+    private final MerchantRepository merchantRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${merchant-cache.maximum-size:1000}")
+    private long maximumSize;
+
+    @Value("${merchant-cache.ttl:60s}")
+    private Duration ttl;
+
+    @Value("${merchant-cache.negative-ttl:10s}")
+    private Duration negativeTtl;
+
+    @Value("${merchant-cache.negative-maximum-size:10000}")
+    private long negativeMaximumSize;
+
+    private LookupCache apiKeyCache;
+    private LookupCache merchantIdCache;
+
+    @PostConstruct
+    void init() {
+        this.apiKeyCache = new LookupCache(CACHE_NAME, merchantRepository::findByApiKey);
+        this.merchantIdCache = new LookupCache(MERCHANT_ID_CACHE_NAME, merchantRepository::findByMerchantId);
+    }
+
+    /**
+     * API Key로 가맹점 조회 (캐시 미스 시 DB 조회 후 캐싱)
+     *
+     * @param apiKey Bearer 접두어가 제거된 API Key
+     * @return 가맹점 정보 (존재하지 않으면 empty)
+     */
+    public Optional<CachedMerchant> findByApiKey(String apiKey) {
+        return apiKeyCache.find(apiKey);
+    }
+
+    /**
+     * 가맹점 ID로 가맹점 조회 (캐시 미스 시 DB 조회 후 캐싱)
+     *
+     * @param merchantId 가맹점 ID
+     * @return 가맹점 정보 (존재하지 않으면 empty)
+     */
+    public Optional<CachedMerchant> findByMerchantId(String merchantId) {
+        return merchantIdCache.find(merchantId);
+    }
+
+    /**
+     * 특정 가맹점의 캐시 항목 제거 (가맹점 정지/해지, API Key 재발급 시 호출)
+     *
+     * @param merchantId 가맹점 ID
+     */
+    public void evictByMerchantId(String merchantId) {
+        apiKeyCache.found.asMap().values().removeIf(cached -> merchantId.equals(cached.merchantId()));
+        merchantIdCache.found.invalidate(merchantId);
+        merchantIdCache.notFound.invalidate(merchantId);
+        log.info("[MERCHANT_CACHE] Evicted entries for merchantId: {}", merchantId);
+    }
+
+    /**
+     * 전체 캐시 항목 제거
+     */
+    public void evictAll() {
+        apiKeyCache.invalidateAll();
+        merchantIdCache.invalidateAll();
+        log.info("[MERCHANT_CACHE] Evicted all entries");
+    }
+
+    /**
+     * 캐시에 저장되는 가맹점 정보 (Entity 대신 필요한 값만 보관)
+     */
+    public record CachedMerchant(String merchantId, MerchantStatus status) {
+
+        static CachedMerchant from(Merchant merchant) {
+            return new CachedMerchant(merchant.getMerchantId(), merchant.getStatus());
+        }
+
+        public boolean isActive() {
+            // status 컬럼은 nullable이며, 값이 없는 기존 데이터는 활성 가맹점으로 취급
+            return status == null || status == MerchantStatus.ACTIVE;
+        }
+    }
+
+    /**
+     * 조회 기준(API Key / merchantId)별 캐시 (존재하는 가맹점 + 존재하지 않는 Key)
+     */
+    private class LookupCache {
+
+        private final Cache<String, CachedMerchant> found;
+        private final Cache<String, Boolean> notFound;
+        private final Function<String, Optional<Merchant>> loader;
+
+        LookupCache(String name, Function<String, Optional<Merchant>> loader) {
+            this.found = Caffeine.newBuilder()
+                    .maximumSize(maximumSize)
+                    .expireAfterWrite(ttl)
+                    .recordStats()
+                    .build();
+            this.notFound = Caffeine.newBuilder()
+                    .maximumSize(negativeMaximumSize)
+                    .expireAfterWrite(negativeTtl)
+                    .recordStats()
+                    .build();
+            this.loader = loader;
+
+            // cache.gets{result=hit|miss}, cache.evictions 등을 actuator metrics로 노출
+            CaffeineCacheMetrics.monitor(meterRegistry, found, name);
+            CaffeineCacheMetrics.monitor(meterRegistry, notFound, name + NEGATIVE_SUFFIX);
+        }
+
+        Optional<CachedMerchant> find(String key) {
+            if (notFound.getIfPresent(key) != null) {
+                return Optional.empty();
+            }
+
+            // loader가 null을 반환하면 found에는 저장되지 않음
+            CachedMerchant cached = found.get(key, k -> loader.apply(k).map(CachedMerchant::from).orElse(null));
+            if (cached == null) {
+                notFound.put(key, Boolean.TRUE);
+                return Optional.empty();
+            }
+            return Optional.of(cached);
+        }
+
+        void invalidateAll() {
+            found.invalidateAll();
+            notFound.invalidateAll();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.bank.channel.baas.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가맹점 캐시 무효화용 Actuator Endpoint
+ *
+ * DB에서 가맹점 상태(MerchantStatus)를 직접 변경한 경우 TTL 만료를 기다리지 않고 즉시 반영하기 위해 사용합니다.
+ * - DELETE /actuator/merchantcache              : 전체 무효화
+ * - DELETE /actuator/merchantcache/{merchantId} : 특정 가맹점 무효화
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "merchantcache")
+public class MerchantApiKeyCacheEndpoint {
+
+    private final MerchantApiKeyCache merchantApiKeyCache;
+
+    @DeleteOperation
+    public void evictAll() {
+        merchantApiKeyCache.evictAll();
+    }
+
+    @DeleteOperation
+    public void evictByMerchantId(@Selector String merchantId) {
+        merchantApiKeyCache.evictByMerchantId(merchantId);
+    }
+}
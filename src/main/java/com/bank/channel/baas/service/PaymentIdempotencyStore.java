@@ -0,0 +1,183 @@
+package com.bank.channel.baas.service;
+
+import com.bank.channel.global.exception.CustomException;
+import com.bank.channel.global.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 결제 API 멱등성 저장소 (authorize / approval / confirm)
+ *
+ * 문제:
+ * - 타임아웃 후 클라이언트가 재시도하면 계정계까지 전체 왕복을 다시 수행 (에스크로 이중 홀딩 가능)
+ * - 재시도 폭주 시 같은 요청이 계정계에 중복 부하로 전달됨
+ *
+ * 해결:
+ * - (API, 가맹점, 멱등성 키)별로 처리 중/완료된 응답을 CompletableFuture로 보관
+ * - 처리 중인 요청과 같은 키의 요청은 새로 호출하지 않고 같은 future의 결과를 기다림 (coalescing)
+ * - 완료된 응답은 TTL 동안 그대로 재사용 (최대 maximum-size개, W-TinyLFU eviction)
+ * - 예외 또는 재사용하지 않을 응답(실패 응답 등)은 즉시 제거하여 다음 재시도가 새로 처리되도록 함
+ *
+ * 안전장치:
+ * - API Key로 인증된 가맹점의 요청만 저장 (가맹점 미식별 요청끼리 키가 겹쳐 다른 호출자의 응답을 받지 않도록)
+ * - 요청 본문 hash를 함께 보관하여, 같은 키로 다른 요청이 오면 422(COMMON_011)로 거절
+ * - 처리 중인 요청은 크기 제한 eviction 대상에서 제외 (weight 0, 완료 시 1)
+ *   (eviction 후 같은 키의 재시도가 계정계를 다시 호출하지 않도록)
+ *
+ * 인스턴스 메모리에 보관하므로, 여러 인스턴스로 운영하는 경우 같은 키의 재시도가 같은 인스턴스로 라우팅되어야 효과가 있습니다.
+ */
+@Slf4j
+@Component
+public class PaymentIdempotencyStore {
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Duration waitTimeout;
+    private final Cache<String, StoredResponse> responses;
+
+    public PaymentIdempotencyStore(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${idempotency.maximum-size:10000}") long maximumSize,
+            @Value("${idempotency.ttl:10m}") Duration ttl,
+            @Value("${idempotency.wait-timeout:10s}") Duration waitTimeout
+    ) {
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.waitTimeout = waitTimeout;
+        this.responses = Caffeine.newBuilder()
+                .maximumWeight(maximumSize)
+                .weigher((String key, StoredResponse stored) -> stored.response().isDone() ? 1 : 0)
+                .expireAfterWrite(ttl)
+                .build();
+
+        Gauge.builder("idempotency.store.size", responses, Cache::estimatedSize)
+                .description("멱등성 저장소에 보관 중인 응답 수 (처리 중 포함)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 멱등성 키 기준으로 요청을 한 번만 처리
+     *
+     * @param operation API 구분 (authorize, approval, confirm)
+     * @param merchantId API Key로 인증된 가맹점 ID (없으면 저장소를 거치지 않고 바로 처리)
+     * @param idempotencyKey 멱등성 키 (없으면 저장소를 거치지 않고 바로 처리)
+     * @param request 요청 본문 (같은 키의 요청이 같은 요청인지 비교)
+     * @param action 실제 처리 로직
+     * @param replayable 완료된 응답을 재사용할지 여부 (false이면 완료 즉시 제거)
+     * @return 처리 결과 (중복 요청이면 최초 요청의 결과)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, String merchantId, String idempotencyKey, Object request,
+                         Supplier<T> action, Predicate<? super T> replayable) {
+        if (merchantId == null || idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+
+        String key = operation + ':' + merchantId + ':' + idempotencyKey;
+        StoredResponse created = new StoredResponse(hash(request), new CompletableFuture<>());
+        StoredResponse existing = responses.asMap().putIfAbsent(key, created);
+
+        if (existing != null) {
+            if (!existing.requestHash().equals(created.requestHash())) {
+                log.warn("[IDEMPOTENCY] Key reused with different request. Operation: {}, MerchantId: {}, Key: {}",
+                        operation, merchantId, idempotencyKey);
+                count(operation, "mismatched");
+                throw new CustomException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+            }
+
+            // 같은 키의 요청이 처리 중이거나 이미 완료됨
+            boolean inFlight = !existing.response().isDone();
+            log.info("[IDEMPOTENCY] Duplicate request. Operation: {}, Key: {}, InFlight: {}", operation, idempotencyKey, inFlight);
+            count(operation, inFlight ? "coalesced" : "replayed");
+            return (T) await(existing.response());
+        }
+
+        count(operation, "executed");
+        try {
+            T result = action.get();
+            created.response().complete(result);
+            if (replayable.test(result)) {
+                // 완료된 응답으로 다시 저장하여 weight 갱신 (크기 제한 eviction 대상에 포함)
+                responses.asMap().replace(key, created, new StoredResponse(created.requestHash(), created.response()));
+            } else {
+                responses.asMap().remove(key, created);
+            }
+            return result;
+        } catch (RuntimeException | Error e) {
+            // 실패한 요청은 저장하지 않음 (대기 중인 중복 요청에는 같은 예외 전달)
+            responses.asMap().remove(key, created);
+            created.response().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 완료된 응답을 항상 재사용하는 execute
+     */
+    public <T> T execute(String operation, String merchantId, String idempotencyKey, Object request, Supplier<T> action) {
+        return execute(operation, merchantId, idempotencyKey, request, action, result -> true);
+    }
+
+    private void count(String operation, String result) {
+        // idempotency.requests{result=executed|coalesced|replayed|mismatched}: coalesced + replayed = 계정계 호출을 생략한 건수
+        Counter.builder("idempotency.requests")
+                .tag("operation", operation)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private Object await(CompletableFuture<Object> future) {
+        try {
+            return future.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new CustomException(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 요청 본문 SHA-256 (DTO를 JSON으로 직렬화하여 필드 순서/공백 차이와 무관하게 비교)
+     */
+    private String hash(Object request) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(request);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(json));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Failed to hash idempotent request", e);
+        }
+    }
+
+    /**
+     * 저장된 요청 hash와 처리 중/완료된 응답
+     */
+    private record StoredResponse(String requestHash, CompletableFuture<Object> response) {
+    }
+}
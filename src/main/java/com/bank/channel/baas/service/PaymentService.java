@@ -10,10 +10,11 @@ import com.bank.channel.global.exception.ErrorCode;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import feign.FeignException;
+import feign.RetryableException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Map;
 
@@ -30,17 +31,28 @@ public class PaymentService {
     private final MerchantService merchantService;
     private final ObjectMapper objectMapper;
 
+    // End User/계좌 저장 시점 (SYNC: 계정계 호출 전 / ASYNC: 인증 성공 후 비동기)
+    @Value("${end-user.upsert-mode:SYNC}")
+    private EndUserUpsertMode endUserUpsertMode;
+
     /**
      * 결제 인증 로직
      * 응답: orderNo, confirmToken, escrowId
+     *
+     * 트랜잭션을 열지 않으므로 계정계 호출 동안 DB 커넥션을 점유하지 않습니다.
+     * (End User/계좌 저장은 EndUserService의 native upsert가 자체적으로 처리)
      */
-    @Transactional
     public PaymentAuthorizeResponse authorizePayment(PaymentAuthorizeRequest request) {
-        log.info("[PAYMENT_AUTHORIZE] Start processing request. OrderNo: {}", request.getOrderNo());
+        log.debug("[PAYMENT_AUTHORIZE] Start processing request. OrderNo: {}", request.getOrderNo());
 
-        // 0. BaaS End User 및 계좌 정보 저장/업데이트 (트랜잭션 내에서 처리됨)
+        // 0. BaaS End User 및 계좌 정보 저장 (SYNC 모드)
         //merchantService.saveOrUpdate(request); // merchant table은 mock 데이터 사용
-        endUserService.saveOrUpdateUserAndAccount(request);
+        // ASYNC 모드에서도 존재하지 않거나 정지된 가맹점의 요청은 계정계 호출 전에 차단
+        if (endUserUpsertMode == EndUserUpsertMode.SYNC) {
+            endUserService.saveOrUpdateUserAndAccount(request);
+        } else {
+            endUserService.requireActiveMerchant(request.getMerchantId());
+        }
 
         // 1. 외부 요청 DTO를 계정계 전용 DTO로 변환/가공
         BankPaymentAuthorizeRequest accountRequest = convertToAccountSystemRequest(request);
@@ -49,6 +61,11 @@ public class PaymentService {
             // 2. 계정계 Feign Client 호출 (가공된 DTO 사용)
             BankPaymentAuthorizeResponse response = accountSystemClient.authorizePayment(accountRequest).getData();
             log.info("[PAYMENT_AUTHORIZE] Successfully received response from core system. ConfirmToken: {}, EscrowId: {}", response.getConfirmToken(), response.getEscrowId());
+
+            // 2-1. ASYNC 모드: 인증 성공 후 End User 및 계좌 정보 비동기 저장
+            if (endUserUpsertMode == EndUserUpsertMode.ASYNC) {
+                endUserService.saveOrUpdateUserAndAccountAsync(request);
+            }
             return PaymentAuthorizeResponse.success(response);
         } catch (FeignException e) {
             // 3. Feign 통신 오류 및 계정계 응답 오류 처리
@@ -56,8 +73,13 @@ public class PaymentService {
             ErrorCode mappedError = mapFeignExceptionToErrorCode(e);
             return PaymentAuthorizeResponse.fail(mappedError);
 
+        } catch (CustomException e) {
+            // 4. 계정계 장애로 호출이 차단된 경우 (Circuit Breaker OPEN, Bulkhead 초과)
+            log.warn("[PAYMENT_AUTHORIZE] Core system call rejected. ErrorCode: {}", e.getErrorCode());
+            return PaymentAuthorizeResponse.fail(e.getErrorCode());
+
         } catch (Exception e) {
-            // 4. 그 외 예상치 못한 예외 처리
+            // 5. 그 외 예상치 못한 예외 처리
             log.error("[PAYMENT_AUTHORIZE] Unexpected error during request processing.", e);
             return PaymentAuthorizeResponse.fail(ErrorCode.INTERNAL_SERVER_ERROR);
         }
@@ -69,7 +91,7 @@ public class PaymentService {
      * 응답: escrowId
      */
     public PaymentApprovalResponse approvePayment(PaymentApprovalRequest request) {
-        log.info("[PAYMENT_APPROVAL] Start processing request. EscrowId: {}", request.getEscrowId());
+        log.debug("[PAYMENT_APPROVAL] Start processing request. EscrowId: {}", request.getEscrowId());
 
         try {
             // 1. 계정계 Feign Client 호출
@@ -91,6 +113,10 @@ public class PaymentService {
             // 계정계 응답을 분석하여 커스텀 예외로 변환
             ErrorCode mappedError = mapFeignExceptionToErrorCode(e);
             throw new CustomException(mappedError);
+        } catch (CustomException e) {
+            // 계정계 장애로 호출이 차단된 경우 (Circuit Breaker OPEN, Bulkhead 초과)
+            log.warn("[PAYMENT_APPROVAL] Core system call rejected. ErrorCode: {}", e.getErrorCode());
+            throw e;
         } catch (Exception e) {
             log.error("[PAYMENT_APPROVAL] Unexpected error during request processing.", e);
             throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
@@ -103,7 +129,7 @@ public class PaymentService {
      * 응답: paymentId
      */
     public PaymentConfirmResponse confirmPayment(PaymentConfirmRequest request) {
-        log.info("[PAYMENT_CONFIRM] Start processing request. EscrowId: {}", request.getEscrowId());
+        log.debug("[PAYMENT_CONFIRM] Start processing request. EscrowId: {}", request.getEscrowId());
 
         try {
             // 1. 계정계 Feign Client 호출
@@ -119,6 +145,10 @@ public class PaymentService {
             // 계정계 응답을 분석하여 커스텀 예외로 변환
             ErrorCode mappedError = mapFeignExceptionToErrorCode(e);
             throw new CustomException(mappedError);
+        } catch (CustomException e) {
+            // 계정계 장애로 호출이 차단된 경우 (Circuit Breaker OPEN, Bulkhead 초과)
+            log.warn("[PAYMENT_CONFIRM] Core system call rejected. ErrorCode: {}", e.getErrorCode());
+            throw e;
         } catch (Exception e) {
             log.error("[PAYMENT_CONFIRM] Unexpected error during request processing.", e);
             throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
@@ -128,9 +158,9 @@ public class PaymentService {
 
 
     /**
-     * 결제 인증 요청 전용 DTO 변환
+     * 결제 인증 요청 전용 DTO 변환 (벤치마크에서 직접 호출하도록 package-private)
      */
-    private BankPaymentAuthorizeRequest convertToAccountSystemRequest(PaymentAuthorizeRequest channelRequest) {
+    static BankPaymentAuthorizeRequest convertToAccountSystemRequest(PaymentAuthorizeRequest channelRequest) {
 
         // 1. PayerInfo 변환
         BasicAccountInfo payerInfo = BasicAccountInfo.builder()
@@ -162,6 +192,12 @@ public class PaymentService {
      * @return 매핑된 ErrorCode (매핑 실패 시 INTERNAL_SERVER_ERROR 반환)
      */
     private ErrorCode mapFeignExceptionToErrorCode(FeignException e) {
+        // 0. 타임아웃 / 연결 실패 (응답 자체를 받지 못한 경우)
+        if (e instanceof RetryableException) {
+            log.error("[Account System Error] Core system did not respond. Message: {}", e.getMessage());
+            return ErrorCode.CORE_SYSTEM_UNAVAILABLE;
+        }
+
         // 1. 은행 서버 에러 (당/타행) 처리
         if (e.status() >= 500) {
             log.error("[Account System Error] Downstream system returned status. Status: {}", e.status());
@@ -203,4 +239,11 @@ public class PaymentService {
         return ErrorCode.INTERNAL_SERVER_ERROR;
     }
 
+    /**
+     * End User/계좌 저장 시점
+     */
+    public enum EndUserUpsertMode {
+        SYNC,   // 계정계 호출 전에 저장 (가맹점이 없으면 MERCHANT_NOT_FOUND)
+        ASYNC   // 인증 성공 후 비동기 저장 (결제 응답 지연에 포함되지 않음)
+    }
 }
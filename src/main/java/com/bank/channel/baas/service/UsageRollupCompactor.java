@@ -0,0 +1,119 @@
+package com.bank.channel.baas.service;
+
+import com.bank.channel.baas.repository.UsageRollupRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+/**
+ * API 사용량 Rollup Compactor
+ *
+ * 문제:
+ * - 사용량 조회마다 요청 기간 전체의 api_call_logs를 GROUP BY → 트래픽과 조회 기간에 비례해 느려짐
+ *
+ * 해결:
+ * - 주기적으로 정시 단위 구간을 api_usage_rollups로 집계하고 watermark(rolled_up_until)를 전진
+ * - 사용량 조회는 watermark 이전은 rollup, 이후 tail만 원본 로그로 집계 (UsageRollupRepository)
+ *
+ * 정확성:
+ * - 한 시간 구간의 집계와 watermark 전진은 watermark 행을 잠근 하나의 트랜잭션에서 수행
+ * - 이미 집계된 시간대의 로그(spill 재적재 등)는 ApiCallLogWriter가 INSERT와 같은 트랜잭션에서
+ *   watermark를 되돌리므로 조회 결과는 항상 원본 집계와 일치하며, 되돌린 구간은 다음 실행 시 다시 집계
+ * - settle-delay: 현재 시간대는 로그가 계속 쌓이므로 일정 시간이 지난 구간만 집계 (불필요한 재집계 방지)
+ * - lookback: watermark 직전 구간을 매 실행마다 다시 집계 (애플리케이션 외부에서 적재된 로그 대비)
+ */
+@Slf4j
+@Component
+public class UsageRollupCompactor {
+
+    private final UsageRollupRepository usageRollupRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration settleDelay;
+    private final Duration lookback;
+    private final int maxHoursPerRun;
+
+    public UsageRollupCompactor(
+            UsageRollupRepository usageRollupRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${usage-rollup.settle-delay:5m}") Duration settleDelay,
+            @Value("${usage-rollup.lookback:1h}") Duration lookback,
+            @Value("${usage-rollup.max-hours-per-run:24}") int maxHoursPerRun
+    ) {
+        this.usageRollupRepository = usageRollupRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.settleDelay = settleDelay;
+        this.lookback = lookback;
+        this.maxHoursPerRun = maxHoursPerRun;
+    }
+
+    @Scheduled(fixedDelayString = "${usage-rollup.compact-interval:1m}", initialDelayString = "${usage-rollup.initial-delay:30s}")
+    public void compact() {
+        try {
+            int compacted = compact(LocalDateTime.now());
+            if (compacted > 0) {
+                log.debug("[USAGE_ROLLUP] Compacted {} hours", compacted);
+            }
+        } catch (Exception e) {
+            log.error("[USAGE_ROLLUP] Compaction failed. Error: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 기준 시각까지 집계 가능한 시간대를 rollup
+     *
+     * @param now 기준 시각
+     * @return 집계한 시간대 수
+     */
+    int compact(LocalDateTime now) {
+        LocalDateTime target = now.minus(settleDelay).truncatedTo(ChronoUnit.HOURS);
+
+        Optional<LocalDateTime> watermark = usageRollupRepository.findWatermark();
+        LocalDateTime hour;
+        if (watermark.isPresent()) {
+            hour = watermark.get().minus(lookback).truncatedTo(ChronoUnit.HOURS);
+        } else {
+            // 최초 실행: 가장 오래된 로그의 시간대부터 집계
+            hour = usageRollupRepository.findOldestRequestAt()
+                    .map(requestAt -> requestAt.truncatedTo(ChronoUnit.HOURS))
+                    .filter(oldest -> oldest.isBefore(target))
+                    .orElse(target);
+            if (usageRollupRepository.createWatermark(hour)) {
+                log.info("[USAGE_ROLLUP] Created watermark at {}", hour);
+            }
+        }
+
+        int compacted = 0;
+        while (hour.isBefore(target) && compacted < maxHoursPerRun) {
+            hour = compactHour(hour);
+            compacted++;
+        }
+        return compacted;
+    }
+
+    /**
+     * 한 시간 구간 집계
+     *
+     * @return 다음에 집계할 시간대
+     */
+    private LocalDateTime compactHour(LocalDateTime requestedHour) {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime watermark = usageRollupRepository.lockWatermark();
+
+            // 늦게 도착한 로그로 watermark가 되돌려진 경우 그 시간대부터 다시 집계
+            LocalDateTime hour = watermark.isBefore(requestedHour) ? watermark : requestedHour;
+            usageRollupRepository.recomputeHour(hour);
+
+            if (!hour.isBefore(watermark)) {
+                usageRollupRepository.updateWatermark(hour.plusHours(1));
+            }
+            return hour.plusHours(1);
+        });
+    }
+}
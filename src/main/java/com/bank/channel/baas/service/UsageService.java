@@ -2,23 +2,20 @@ package com.bank.channel.baas.service;
 
 import com.bank.channel.baas.domain.ApiBillingPolicy;
 import com.bank.channel.baas.dto.NonBank.UsageResponse;
-import com.bank.channel.baas.repository.PolicyRepository;
-import com.bank.channel.baas.repository.UsageAggregationResult;
-import com.bank.channel.baas.repository.UsageRepository;
+import com.bank.channel.baas.repository.UsageRollupRepository;
 import com.bank.channel.global.exception.CustomException;
 import com.bank.channel.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -29,46 +26,53 @@ public class UsageService {
     private static final BigDecimal DEFAULT_SUCCESS_PRICE =  BigDecimal.valueOf(10);
     private static final BigDecimal DEFAULT_FAIL_PRICE =  BigDecimal.valueOf(10);
 
-    private final UsageRepository usageRepository; // 집계 Repository 추가
-    private final PolicyRepository policyRepository; // 정책 Repository 추가
+    private final UsageRollupRepository usageRollupRepository; // 집계 Repository (rollup + 미집계 tail)
+    private final BillingPolicyCache billingPolicyCache; // 요금 정책 캐시 (API별 정책 + 전역 정책)
 
+    // watermark / rollup / 원본 tail을 같은 스냅샷에서 읽기 위한 읽기 전용 트랜잭션
+    @Transactional(readOnly = true)
     public UsageResponse getUsages(String merchantId, String startDate, String endDate) {
         // Service 시작 전, 날짜 유효성 검증 수행
         validateUsageRequest(startDate,endDate);
 
-        // 1. startDate ~ endDate 집계 결과 results
-        List<UsageAggregationResult> results = usageRepository.aggregateUsagesByMerchantIdAndPeriod(
-                merchantId, startDate, endDate
+        // 1~2. startDate ~ endDate API별 상태 그룹별 집계 결과 countsByEndpoint
+        // (startDate 00:00:00 ~ endDate 다음 날 00:00:00 반열린 구간, endDate 하루 전체 포함)
+        Map<String, Map<String, Long>> countsByEndpoint = usageRollupRepository.countByEndpointAndStatusGroup(
+                merchantId,
+                LocalDate.parse(startDate).atStartOfDay(),
+                LocalDate.parse(endDate).plusDays(1).atStartOfDay()
         );
 
-        // 2. Group별 count를 매핑한 결과 countMap
-        Map<String, Long> countMap = results.stream()
-                .collect(Collectors.toMap(
-                        UsageAggregationResult::getStatusGroup,
-                        UsageAggregationResult::getCount
-                ));
-
-        // 3. 건수 집계
-        Long totalSuccessCount = countMap.getOrDefault("2XX", 0L);
-        Long totalClientErrorCount = countMap.getOrDefault("4XX", 0L);
-        Long totalServerErrorCount = countMap.getOrDefault("5XX", 0L);
-        Long totalFailureCount = totalClientErrorCount + totalServerErrorCount; // 실패 건수 합산
-        Long totalCount = totalSuccessCount + totalFailureCount;
-
-        // 4. 유효한 비용 정책 조회
-        // 현재 날짜 기준 비용 정책 불러오기
-        ApiBillingPolicy policy = policyRepository.findActiveGlobalPolicyByMerchantIdAndDate(
-                merchantId, LocalDateTime.now()
-        );
-        log.info("[policy] "+policy.getPolicyId());
+        // 3~5. API별 건수 집계 및 현재 날짜 기준 API별 비용 정책으로 비용 산정
+        LocalDateTime now = LocalDateTime.now();
+        long totalSuccessCount = 0;
+        long totalClientErrorCount = 0;
+        long totalServerErrorCount = 0;
+        BigDecimal estimatedTotalCost = BigDecimal.ZERO.setScale(4, RoundingMode.HALF_UP);
+
+        for (Map.Entry<String, Map<String, Long>> entry : countsByEndpoint.entrySet()) {
+            Map<String, Long> countMap = entry.getValue();
+            long successCount = countMap.getOrDefault("2XX", 0L);
+            long clientErrorCount = countMap.getOrDefault("4XX", 0L);
+            long serverErrorCount = countMap.getOrDefault("5XX", 0L);
+
+            ApiBillingPolicy policy = billingPolicyCache.findActivePolicy(merchantId, entry.getKey(), now)
+                    .orElse(null);
+
+            estimatedTotalCost = estimatedTotalCost.add(calculateCost(
+                    successCount,
+                    clientErrorCount,
+                    serverErrorCount,
+                    policy // 조회된 정책 전달 (없으면 기본 요금)
+            ));
+
+            totalSuccessCount += successCount;
+            totalClientErrorCount += clientErrorCount;
+            totalServerErrorCount += serverErrorCount;
+        }
 
-        // 5. 동적 비용 산정 로직 호출
-        BigDecimal estimatedTotalCost = calculateCost(
-                totalSuccessCount,
-                totalClientErrorCount,
-                totalServerErrorCount,
-                policy // 조회된 정책 전달
-        );
+        long totalFailureCount = totalClientErrorCount + totalServerErrorCount; // 실패 건수 합산
+        long totalCount = totalSuccessCount + totalFailureCount;
 
         // 6. 최종 응답 DTO 생성 및 반환
         return new UsageResponse(
@@ -81,9 +85,9 @@ public class UsageService {
     }
 
     /**
-     * 성공/실패 건수와 비용 정책을 기반으로 예상 총 비용을 산정합니다.
+     * 성공/실패 건수와 비용 정책을 기반으로 예상 총 비용을 산정합니다. (벤치마크에서 직접 호출하도록 package-private)
      */
-    private BigDecimal calculateCost(
+    static BigDecimal calculateCost(
             Long successCount,
             Long clientFailureCount,
             Long serverFailureCount,
@@ -95,6 +99,7 @@ public class UsageService {
         BigDecimal serverErrorPrice;
 
         if (policy != null ) {
+            log.debug("[BILLING POLICY] Applied policyId: {}, apiEndpoint: {}", policy.getPolicyId(), policy.getApiEndpoint());
             successPrice = policy.getUnitSuccessPrice();
             clientErrorPrice = policy.getUnitClientErrorPrice();
             serverErrorPrice = policy.getUnitServcerErrorPrice();
@@ -103,7 +108,7 @@ public class UsageService {
             successPrice = DEFAULT_SUCCESS_PRICE;
             clientErrorPrice = DEFAULT_FAIL_PRICE;
             serverErrorPrice = DEFAULT_FAIL_PRICE;
-            log.info("[BILLING POLICY] The basic rate policy, not the customer-specific rate, was applied.");
+            log.debug("[BILLING POLICY] The basic rate policy, not the customer-specific rate, was applied.");
         }
 
         // 2. 비용 계산
@@ -0,0 +1,56 @@
+package com.bank.channel.global.common;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * tick 간격으로 갱신되는 벽시계 (요청 시각/응답 시각 기록용)
+ *
+ * 요청마다 LocalDateTime.now()를 두 번 호출하는 대신 백그라운드 스레드가 tick마다 만든 값을 공유합니다.
+ * 정밀도는 tick 간격(기본 1ms)이며, 소요 시간은 이 시계가 아닌 System.nanoTime으로 측정해야 합니다.
+ * (벽시계는 NTP 보정으로 뒤로 가거나 건너뛸 수 있음)
+ */
+@Slf4j
+@Component
+public class CoarseClock {
+
+    private final long tickMillis;
+
+    private volatile LocalDateTime now = LocalDateTime.now();
+    private ScheduledExecutorService ticker;
+
+    public CoarseClock(@Value("${coarse-clock.tick-ms:1}") long tickMillis) {
+        this.tickMillis = tickMillis;
+    }
+
+    @PostConstruct
+    void start() {
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "coarse-clock");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(() -> now = LocalDateTime.now(), tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        log.info("[COARSE_CLOCK] Started - tick: {}ms", tickMillis);
+    }
+
+    @PreDestroy
+    void stop() {
+        ticker.shutdownNow();
+    }
+
+    /**
+     * 최근 tick 시점의 현재 시각 (최대 tick 간격만큼 늦을 수 있음)
+     */
+    public LocalDateTime now() {
+        return now;
+    }
+}
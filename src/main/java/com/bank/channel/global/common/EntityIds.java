@@ -0,0 +1,30 @@
+package com.bank.channel.global.common;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 쓰기 빈도가 높은 테이블(api_call_logs, core_banking_events, baas_user_accounts)의 PK 발급
+ *
+ * Hibernate(@SnowflakeId)와 JDBC 배치 Repository가 같은 발급기를 사용합니다.
+ * 노드 ID는 기동 시 EntityIdConfig가 설정하며(entity-id.node-id), 설정 전에는 임의 노드 ID를 사용합니다.
+ */
+public final class EntityIds {
+
+    private static volatile SnowflakeIdGenerator generator =
+            new SnowflakeIdGenerator(ThreadLocalRandom.current().nextInt(SnowflakeIdGenerator.MAX_NODE_ID + 1));
+
+    private EntityIds() {
+    }
+
+    public static long next() {
+        return generator.nextId();
+    }
+
+    public static void useNode(int nodeId) {
+        use(new SnowflakeIdGenerator(nodeId));
+    }
+
+    public static void use(SnowflakeIdGenerator idGenerator) {
+        generator = idGenerator;
+    }
+}
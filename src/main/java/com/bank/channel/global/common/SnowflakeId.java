@@ -0,0 +1,19 @@
+package com.bank.channel.global.common;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * INSERT 전에 애플리케이션에서 PK를 발급 (EntityIds)
+ *
+ * IDENTITY와 달리 INSERT 결과에서 ID를 받아 올 필요가 없어 Hibernate가 INSERT를 JDBC 배치로 묶을 수 있습니다.
+ */
+@IdGeneratorType(SnowflakeIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface SnowflakeId {
+}
@@ -0,0 +1,21 @@
+package com.bank.channel.global.common;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * TraceId(hex 32자) ↔ BINARY(16) 컬럼 변환
+ */
+@Converter
+public class TraceIdBinaryConverter implements AttributeConverter<String, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(String traceId) {
+        return TraceIds.toBytes(traceId);
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] bytes) {
+        return TraceIds.fromBytes(bytes);
+    }
+}
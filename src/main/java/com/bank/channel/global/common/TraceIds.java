@@ -0,0 +1,101 @@
+package com.bank.channel.global.common;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * TraceId 표현 변환
+ *
+ * TraceId는 128bit 값이며 두 가지 형태로 다룹니다.
+ * - 헤더/MDC/로그: 소문자 hex 32자 (하이픈 없는 UUID 형식)
+ * - DB (api_call_logs.trace_id, core_banking_events.trace_id): BINARY(16)
+ *
+ * 중간 문자열(UUID.toString, replace) 없이 byte 배열에 직접 인코딩합니다.
+ */
+public final class TraceIds {
+
+    public static final int HEX_LENGTH = 32;
+    public static final int BYTE_LENGTH = 16;
+
+    private static final int HYPHENATED_LENGTH = 36;
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private TraceIds() {
+    }
+
+    /**
+     * 상위/하위 64bit → hex 32자
+     */
+    public static String toHex(long msb, long lsb) {
+        byte[] chars = new byte[HEX_LENGTH];
+        writeHex(msb, chars, 0);
+        writeHex(lsb, chars, 16);
+        return new String(chars, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * 외부에서 받은 TraceId를 hex 32자로 정규화
+     *
+     * @param value hex 32자 또는 하이픈 포함 UUID 36자 (대소문자 무관)
+     * @return 정규화된 TraceId, 형식이 맞지 않으면 null
+     */
+    public static String normalize(String value) {
+        byte[] bytes = toBytes(value);
+        return bytes != null ? fromBytes(bytes) : null;
+    }
+
+    /**
+     * TraceId → BINARY(16)
+     *
+     * @return 16 byte, null이거나 형식이 맞지 않으면 null
+     */
+    public static byte[] toBytes(String traceId) {
+        if (traceId == null) {
+            return null;
+        }
+        int length = traceId.length();
+        if (length != HEX_LENGTH && length != HYPHENATED_LENGTH) {
+            return null;
+        }
+
+        byte[] bytes = new byte[BYTE_LENGTH];
+        int index = 0;
+        for (int i = 0; i < length; i++) {
+            char c = traceId.charAt(i);
+            if (c == '-' && length == HYPHENATED_LENGTH && (i == 8 || i == 13 || i == 18 || i == 23)) {
+                continue;
+            }
+            int digit = Character.digit(c, 16);
+            if (digit < 0 || index >= HEX_LENGTH) {
+                return null;
+            }
+            bytes[index >> 1] |= (byte) ((index & 1) == 0 ? digit << 4 : digit);
+            index++;
+        }
+        return index == HEX_LENGTH ? bytes : null;
+    }
+
+    /**
+     * BINARY(16) → TraceId
+     */
+    public static String fromBytes(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        if (bytes.length != BYTE_LENGTH) {
+            throw new IllegalArgumentException("TraceId must be " + BYTE_LENGTH + " bytes: " + bytes.length);
+        }
+        byte[] chars = new byte[HEX_LENGTH];
+        for (int i = 0; i < BYTE_LENGTH; i++) {
+            chars[i * 2] = HEX_DIGITS[(bytes[i] >> 4) & 0x0F];
+            chars[i * 2 + 1] = HEX_DIGITS[bytes[i] & 0x0F];
+        }
+        return new String(chars, StandardCharsets.ISO_8859_1);
+    }
+
+    private static void writeHex(long value, byte[] chars, int offset) {
+        for (int i = 15; i >= 0; i--) {
+            chars[offset + i] = HEX_DIGITS[(int) (value & 0x0F)];
+            value >>>= 4;
+        }
+    }
+}
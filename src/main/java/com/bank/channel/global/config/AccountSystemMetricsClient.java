@@ -0,0 +1,74 @@
+package com.bank.channel.global.config;
+
+import com.bank.channel.global.exception.CustomException;
+import feign.Client;
+import feign.MethodMetadata;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.http.HttpTimeoutException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 계정계 호출 Timer Feign Client
+ *
+ * AccountSystemClient 메서드별 호출 소요 시간을 percentile histogram으로 기록합니다.
+ * Bulkhead/Circuit Breaker 바깥에서 측정하므로 차단되어 즉시 실패한 호출도 포함됩니다.
+ *
+ * - core.banking.client{method, status}
+ *   method: AccountSystemClient 메서드명 (authorizePayment / approvePayment / confirmPayment)
+ *   status: 계정계 HTTP 상태 코드, 응답을 받지 못한 경우 TIMEOUT / IO_ERROR,
+ *           Bulkhead/Circuit Breaker 차단 시 ErrorCode (EXTERNAL_003)
+ */
+public class AccountSystemMetricsClient implements Client {
+
+    private static final String METRIC_NAME = "core.banking.client";
+
+    private final Client delegate;
+    private final MeterRegistry meterRegistry;
+
+    public AccountSystemMetricsClient(Client delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        long startNanos = System.nanoTime();
+        String status = "IO_ERROR";
+        try {
+            Response response = delegate.execute(request, options);
+            status = String.valueOf(response.status());
+            return response;
+        } catch (CustomException e) {
+            status = e.getErrorCode().getCode();
+            throw e;
+        } catch (InterruptedIOException | HttpTimeoutException e) {
+            status = "TIMEOUT";
+            throw e;
+        } finally {
+            Timer.builder(METRIC_NAME)
+                    .description("계정계 API 호출 소요 시간")
+                    .tag("method", resolveMethod(request))
+                    .tag("status", status)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Feign 요청을 만든 AccountSystemClient 메서드명 (메타데이터가 없으면 API 경로의 마지막 segment)
+     */
+    private static String resolveMethod(Request request) {
+        MethodMetadata metadata = request.requestTemplate() != null ? request.requestTemplate().methodMetadata() : null;
+        if (metadata != null && metadata.method() != null) {
+            return metadata.method().getName();
+        }
+        return AccountSystemResilientClient.resolveEndpoint(request.url());
+    }
+}
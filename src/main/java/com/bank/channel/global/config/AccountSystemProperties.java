@@ -0,0 +1,96 @@
+package com.bank.channel.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 계정계(Core) 연동 설정
+ *
+ * external.api.account-system 하위 설정을 바인딩합니다.
+ * endpoints의 키는 계정계 API 경로의 마지막 segment입니다. (authorize, approval, confirm)
+ *
+ * @param url 계정계 Base URL
+ * @param defaults endpoints에 정의되지 않은 API에 적용할 기본 정책
+ * @param endpoints API별 타임아웃/동시 호출 제한
+ * @param circuitBreaker API별 Circuit Breaker 공통 정책
+ * @param transport 계정계 HTTP 전송 계층(커넥션 풀) 설정
+ */
+@ConfigurationProperties(prefix = "external.api.account-system")
+public record AccountSystemProperties(
+        String url,
+        @DefaultValue EndpointPolicy defaults,
+        @DefaultValue Map<String, EndpointPolicy> endpoints,
+        @DefaultValue CircuitBreakerPolicy circuitBreaker,
+        @DefaultValue Transport transport
+) {
+
+    /**
+     * API 경로에 해당하는 정책 조회 (없으면 기본 정책)
+     */
+    public EndpointPolicy endpointPolicy(String endpoint) {
+        return endpoints.getOrDefault(endpoint, defaults);
+    }
+
+    /**
+     * API별 정책
+     *
+     * @param connectTimeout 연결 타임아웃
+     * @param readTimeout 응답 대기 타임아웃
+     * @param maxConcurrentCalls 동시 호출 허용 수 (Semaphore Bulkhead)
+     */
+    public record EndpointPolicy(
+            @DefaultValue("1s") Duration connectTimeout,
+            @DefaultValue("5s") Duration readTimeout,
+            @DefaultValue("50") int maxConcurrentCalls
+    ) {
+    }
+
+    /**
+     * Circuit Breaker 정책
+     *
+     * @param failureRateThreshold 실패율 임계치(%) - 5xx 응답, 타임아웃, 연결 실패를 실패로 집계
+     * @param slowCallRateThreshold 지연 호출 비율 임계치(%)
+     * @param slowCallDurationThreshold 지연 호출 기준 시간
+     * @param slidingWindowSize 실패율 계산에 사용하는 최근 호출 수
+     * @param minimumNumberOfCalls 실패율 계산을 시작하는 최소 호출 수
+     * @param waitDurationInOpenState OPEN 상태 유지 시간 (이후 HALF_OPEN 전환)
+     * @param permittedNumberOfCallsInHalfOpenState HALF_OPEN 상태에서 허용하는 시험 호출 수
+     */
+    public record CircuitBreakerPolicy(
+            @DefaultValue("50") float failureRateThreshold,
+            @DefaultValue("80") float slowCallRateThreshold,
+            @DefaultValue("3s") Duration slowCallDurationThreshold,
+            @DefaultValue("50") int slidingWindowSize,
+            @DefaultValue("20") int minimumNumberOfCalls,
+            @DefaultValue("10s") Duration waitDurationInOpenState,
+            @DefaultValue("5") int permittedNumberOfCallsInHalfOpenState
+    ) {
+    }
+
+    /**
+     * HTTP 전송 계층 설정
+     *
+     * @param type 사용할 HTTP Client (HC5: Apache HttpClient 5, JDK: java.net.http.HttpClient)
+     * @param maxConnections 전체 최대 커넥션 수 (HC5 전용)
+     * @param maxConnectionsPerRoute 계정계 호스트당 최대 커넥션 수 (HC5 전용)
+     * @param idleEvictionTimeout 유휴 커넥션 정리 기준 시간 (계정계/LB의 keep-alive timeout보다 짧게 설정)
+     * @param connectionTimeToLive 커넥션 최대 수명 (DNS/LB 변경 반영용, HC5 전용)
+     * @param http2 HTTP/2 사용 여부 (JDK 전용, 계정계가 지원하지 않으면 HTTP/1.1로 협상)
+     */
+    public record Transport(
+            @DefaultValue("HC5") TransportType type,
+            @DefaultValue("200") int maxConnections,
+            @DefaultValue("100") int maxConnectionsPerRoute,
+            @DefaultValue("30s") Duration idleEvictionTimeout,
+            @DefaultValue("5m") Duration connectionTimeToLive,
+            @DefaultValue("false") boolean http2
+    ) {
+    }
+
+    public enum TransportType {
+        HC5, JDK
+    }
+}
@@ -0,0 +1,159 @@
+package com.bank.channel.global.config;
+
+import com.bank.channel.global.config.AccountSystemProperties.CircuitBreakerPolicy;
+import com.bank.channel.global.config.AccountSystemProperties.EndpointPolicy;
+import com.bank.channel.global.exception.CustomException;
+import com.bank.channel.global.exception.ErrorCode;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 계정계 호출용 Feign Client (타임아웃 / Bulkhead / Circuit Breaker)
+ *
+ * 문제:
+ * - 기본 Feign 설정은 타임아웃, 동시 호출 제한, 장애 차단이 없어
+ *   계정계가 느려지면 Tomcat 워커 스레드가 PaymentService에서 모두 대기 → /usages 등 전체 API 정지
+ *
+ * 해결 (API 경로별로 독립 적용):
+ * 1. API별 connect/read 타임아웃
+ * 2. Semaphore Bulkhead로 동시 호출 수 제한 (초과 시 대기 없이 즉시 실패)
+ * 3. Circuit Breaker로 5xx/타임아웃/연결 실패가 누적되면 일정 시간 호출 차단
+ *
+ * 차단된 호출은 CustomException(CORE_SYSTEM_UNAVAILABLE)으로 즉시 실패하며,
+ * 4xx 응답은 계정계의 정상적인 비즈니스 오류이므로 실패로 집계하지 않습니다.
+ */
+@Slf4j
+public class AccountSystemResilientClient implements Client {
+
+    private static final String NAME_PREFIX = "account-system-";
+
+    private final Client delegate;
+    private final AccountSystemProperties properties;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final ConcurrentMap<String, EndpointGuard> guards = new ConcurrentHashMap<>();
+
+    public AccountSystemResilientClient(Client delegate, AccountSystemProperties properties, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.properties = properties;
+        this.circuitBreakerRegistry = CircuitBreakerRegistry.of(toCircuitBreakerConfig(properties.circuitBreaker()));
+        this.bulkheadRegistry = BulkheadRegistry.ofDefaults();
+
+        // resilience4j.circuitbreaker.state{state=closed|open|half_open}, resilience4j.bulkhead.available.concurrent.calls 등 노출
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        String endpoint = resolveEndpoint(request.url());
+        EndpointGuard guard = guards.computeIfAbsent(endpoint, this::createGuard);
+
+        // 1. Bulkhead: 동시 호출 수 초과 시 즉시 실패
+        if (!guard.bulkhead().tryAcquirePermission()) {
+            log.warn("[CORE_RESILIENCE] Bulkhead full - endpoint: {}", endpoint);
+            throw new CustomException(ErrorCode.CORE_SYSTEM_UNAVAILABLE);
+        }
+
+        try {
+            // 2. Circuit Breaker: OPEN 상태면 즉시 실패
+            CircuitBreaker circuitBreaker = guard.circuitBreaker();
+            try {
+                circuitBreaker.acquirePermission();
+            } catch (CallNotPermittedException e) {
+                log.warn("[CORE_RESILIENCE] Circuit breaker {} - endpoint: {}", circuitBreaker.getState(), endpoint);
+                throw new CustomException(ErrorCode.CORE_SYSTEM_UNAVAILABLE);
+            }
+
+            // 3. API별 타임아웃 적용 후 실제 호출
+            long start = circuitBreaker.getCurrentTimestamp();
+            try {
+                Response response = delegate.execute(request, guard.options(options));
+                long duration = circuitBreaker.getCurrentTimestamp() - start;
+
+                if (response.status() >= 500) {
+                    circuitBreaker.onError(duration, circuitBreaker.getTimestampUnit(),
+                            new IOException("Core system responded " + response.status()));
+                } else {
+                    circuitBreaker.onSuccess(duration, circuitBreaker.getTimestampUnit());
+                }
+                return response;
+            } catch (IOException | RuntimeException e) {
+                // 타임아웃, 연결 실패 등
+                circuitBreaker.onError(circuitBreaker.getCurrentTimestamp() - start, circuitBreaker.getTimestampUnit(), e);
+                throw e;
+            }
+        } finally {
+            guard.bulkhead().onComplete();
+        }
+    }
+
+    /**
+     * 요청 URL의 마지막 경로 segment를 API 식별자로 사용 (/payment/authorize → authorize)
+     */
+    static String resolveEndpoint(String url) {
+        int queryStart = url.indexOf('?');
+        String path = queryStart >= 0 ? url.substring(0, queryStart) : url;
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+
+    private EndpointGuard createGuard(String endpoint) {
+        EndpointPolicy policy = properties.endpointPolicy(endpoint);
+
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(NAME_PREFIX + endpoint, BulkheadConfig.custom()
+                .maxConcurrentCalls(policy.maxConcurrentCalls())
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(NAME_PREFIX + endpoint);
+
+        log.info("[CORE_RESILIENCE] Registered endpoint: {}, connectTimeout: {}, readTimeout: {}, maxConcurrentCalls: {}",
+                endpoint, policy.connectTimeout(), policy.readTimeout(), policy.maxConcurrentCalls());
+        return new EndpointGuard(policy, bulkhead, circuitBreaker);
+    }
+
+    private static CircuitBreakerConfig toCircuitBreakerConfig(CircuitBreakerPolicy policy) {
+        return CircuitBreakerConfig.custom()
+                .failureRateThreshold(policy.failureRateThreshold())
+                .slowCallRateThreshold(policy.slowCallRateThreshold())
+                .slowCallDurationThreshold(policy.slowCallDurationThreshold())
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(policy.slidingWindowSize())
+                .minimumNumberOfCalls(policy.minimumNumberOfCalls())
+                .waitDurationInOpenState(policy.waitDurationInOpenState())
+                .permittedNumberOfCallsInHalfOpenState(policy.permittedNumberOfCallsInHalfOpenState())
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .build();
+    }
+
+    /**
+     * API별 정책과 Bulkhead/Circuit Breaker 묶음
+     */
+    private record EndpointGuard(EndpointPolicy policy, Bulkhead bulkhead, CircuitBreaker circuitBreaker) {
+
+        Request.Options options(Request.Options defaults) {
+            return new Request.Options(
+                    policy.connectTimeout().toMillis(), TimeUnit.MILLISECONDS,
+                    policy.readTimeout().toMillis(), TimeUnit.MILLISECONDS,
+                    defaults.isFollowRedirects()
+            );
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.bank.channel.global.config;
+
+import com.bank.channel.global.config.AccountSystemProperties.Transport;
+import feign.Client;
+import feign.hc5.ApacheHttp5Client;
+import feign.http2client.Http2Client;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.util.concurrent.Executors;
+
+/**
+ * 계정계 호출용 HTTP 전송 계층 (커넥션 풀)
+ *
+ * 문제:
+ * - Feign 기본 Client(HttpURLConnection)는 커넥션 풀/keep-alive 설정이 없어
+ *   부하 상황에서 authorize/approval/confirm마다 TCP 연결 비용이 추가로 발생
+ *
+ * 해결 (external.api.account-system.transport.type):
+ * - HC5: Apache HttpClient 5 커넥션 풀 (전체/호스트당 최대 커넥션, 유휴/만료 커넥션 정리, 풀 메트릭)
+ * - JDK: java.net.http.HttpClient (선택적 HTTP/2, 커넥션 풀은 JDK 내부 관리)
+ *
+ * virtual thread 모드:
+ * - Feign 호출은 요청을 처리하는 스레드에서 실행되므로 두 구현 모두 요청의 virtual thread에서 블로킹 I/O 수행
+ * - HC5 커넥션 풀은 synchronized 대신 ReentrantLock을 사용하므로 pinning 없음
+ * - JDK HttpClient의 내부 비동기 작업도 virtual thread executor에서 실행
+ *
+ * 타임아웃은 AccountSystemResilientClient가 API별 Request.Options로 전달하며, 두 구현 모두 요청 단위로 적용합니다.
+ *
+ * feign.Client를 구현하지 않습니다. (Client Bean이 둘이 되면 OpenFeign이 Client를 찾지 못하고 기본 Client로 대체하므로
+ * FeignConfig.feignClient만 Client Bean으로 등록하고, 이 클래스는 client()로 전송 계층만 제공)
+ */
+@Slf4j
+public class AccountSystemTransport implements Closeable {
+
+    static final String POOL_NAME = "account-system";
+
+    private final Client client;
+    private final Closeable resource;
+
+    private AccountSystemTransport(Client client, Closeable resource) {
+        this.client = client;
+        this.resource = resource;
+    }
+
+    /**
+     * 설정에 맞는 전송 계층 생성
+     */
+    public static AccountSystemTransport create(AccountSystemProperties properties, MeterRegistry meterRegistry, boolean virtualThreads) {
+        Transport transport = properties.transport();
+        log.info("[CORE_TRANSPORT] type: {}, maxConnections: {}, maxConnectionsPerRoute: {}, idleEvictionTimeout: {}, http2: {}, virtualThreads: {}",
+                transport.type(), transport.maxConnections(), transport.maxConnectionsPerRoute(),
+                transport.idleEvictionTimeout(), transport.http2(), virtualThreads);
+
+        return switch (transport.type()) {
+            case HC5 -> createApacheHttp5(transport, meterRegistry);
+            case JDK -> createJdk(properties, transport, virtualThreads);
+        };
+    }
+
+    /**
+     * 풀링된 HTTP Client (FeignConfig.feignClient 체인의 가장 안쪽)
+     */
+    public Client client() {
+        return client;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (resource != null) {
+            resource.close();
+        }
+    }
+
+    private static AccountSystemTransport createApacheHttp5(Transport transport, MeterRegistry meterRegistry) {
+        if (transport.http2()) {
+            log.warn("[CORE_TRANSPORT] http2 is supported only by the JDK transport. HC5 uses HTTP/1.1.");
+        }
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(transport.maxConnections())
+                .setMaxConnPerRoute(transport.maxConnectionsPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setTimeToLive(TimeValue.ofMilliseconds(transport.connectionTimeToLive().toMillis()))
+                        // 일정 시간 이상 유휴였던 커넥션은 재사용 전 상태 확인 (서버가 먼저 끊은 커넥션 재사용 방지)
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(transport.idleEvictionTimeout().toMillis()))
+                // 재시도는 계정계 멱등성이 보장되지 않으므로 하지 않음 (Circuit Breaker에서 실패로 집계)
+                .disableAutomaticRetries()
+                .build();
+
+        // httpcomponents.httpclient.pool.total.max / total.connections{state=available|leased} / total.pending
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, POOL_NAME).bindTo(meterRegistry);
+
+        return new AccountSystemTransport(new ApacheHttp5Client(httpClient), httpClient);
+    }
+
+    private static AccountSystemTransport createJdk(AccountSystemProperties properties, Transport transport, boolean virtualThreads) {
+        // JDK HttpClient의 커넥션 풀은 시스템 프로퍼티로만 설정 가능 (최초 HttpClient 생성 시점에 한 번 읽힘)
+        setIfAbsent("jdk.httpclient.keepalive.timeout", String.valueOf(transport.idleEvictionTimeout().toSeconds()));
+        setIfAbsent("jdk.httpclient.connectionPoolSize", String.valueOf(transport.maxConnections()));
+
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .version(transport.http2() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .connectTimeout(properties.defaults().connectTimeout())
+                .followRedirects(HttpClient.Redirect.NEVER);
+        if (virtualThreads) {
+            // 기본 executor(platform thread cached pool) 대신 요청마다 virtual thread 사용
+            builder.executor(Executors.newVirtualThreadPerTaskExecutor());
+        }
+        HttpClient httpClient = builder.build();
+
+        return new AccountSystemTransport(new Http2Client(httpClient), null);
+    }
+
+    private static void setIfAbsent(String key, String value) {
+        if (System.getProperty(key) == null) {
+            System.setProperty(key, value);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.bank.channel.global.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Map;
+
+/**
+ * 비동기 작업(@Async) 설정
+ *
+ * - 결제 인증 이후 End User/계좌 저장(end-user.upsert-mode: ASYNC)을 전용 executor에서 실행
+ * - 요청 스레드의 MDC(traceId)를 작업 스레드로 복사하여 로그에 traceId가 유지되도록 함
+ * - 큐가 가득 차면 작업을 버림 (요청 스레드에서 실행하면 다시 결제 응답 지연에 포함되므로)
+ */
+@Slf4j
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    public static final String END_USER_UPSERT_EXECUTOR = "endUserUpsertExecutor";
+
+    @Bean(name = END_USER_UPSERT_EXECUTOR)
+    public ThreadPoolTaskExecutor endUserUpsertExecutor(
+            @Value("${end-user.upsert-async.pool-size:4}") int poolSize,
+            @Value("${end-user.upsert-async.queue-capacity:1000}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("end-user-upsert-");
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        executor.setRejectedExecutionHandler((task, pool) ->
+                log.warn("[ASYNC] End user upsert queue full - task discarded"));
+        // 종료 시 대기 중인 저장 작업 처리
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    /**
+     * 작업 제출 시점의 MDC를 작업 실행 스레드에 복사
+     */
+    static class MdcTaskDecorator implements TaskDecorator {
+
+        @Override
+        public Runnable decorate(Runnable runnable) {
+            Map<String, String> contextMap = MDC.getCopyOfContextMap();
+            return () -> {
+                Map<String, String> previous = MDC.getCopyOfContextMap();
+                if (contextMap != null) {
+                    MDC.setContextMap(contextMap);
+                } else {
+                    MDC.clear();
+                }
+                try {
+                    runnable.run();
+                } finally {
+                    if (previous != null) {
+                        MDC.setContextMap(previous);
+                    } else {
+                        MDC.clear();
+                    }
+                }
+            };
+        }
+    }
+}
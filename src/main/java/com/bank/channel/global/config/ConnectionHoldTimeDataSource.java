@@ -0,0 +1,103 @@
+package com.bank.channel.global.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 커넥션 점유 시간 Timer DataSource
+ *
+ * 풀에서 커넥션을 받은 시점부터 반환(close)까지의 시간을 요청 endpoint별로 기록합니다.
+ * (HikariCP의 hikaricp.connections.usage는 풀 전체 값이라 어느 API가 커넥션을 오래 잡는지 알 수 없음)
+ *
+ * - db.connection.hold{endpoint}
+ *   endpoint: 반환 시점 요청의 매핑 패턴 (/api/v1/payments/authorize),
+ *             매핑 전(Filter 단계) 사용은 UNMATCHED, 요청 스레드가 아닌 경우(배치 저장, 스케줄러 등) BACKGROUND
+ *
+ * 계정계 호출 동안 커넥션을 잡고 있으면 해당 endpoint의 점유 시간이 계정계 응답 시간만큼 늘어납니다.
+ */
+public class ConnectionHoldTimeDataSource extends DelegatingDataSource {
+
+    private static final String METRIC_NAME = "db.connection.hold";
+    private static final String UNMATCHED_ENDPOINT = "UNMATCHED";
+    private static final String BACKGROUND_ENDPOINT = "BACKGROUND";
+
+    private final MeterRegistry meterRegistry;
+
+    public ConnectionHoldTimeDataSource(DataSource targetDataSource, MeterRegistry meterRegistry) {
+        super(targetDataSource);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return track(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return track(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection track(Connection connection) {
+        long acquiredNanos = System.nanoTime();
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                ConnectionHoldTimeDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "close" -> {
+                        try {
+                            yield invoke(connection, method, args);
+                        } finally {
+                            // 중복 close는 한 번만 기록
+                            if (released.compareAndSet(false, true)) {
+                                record(System.nanoTime() - acquiredNanos);
+                            }
+                        }
+                    }
+                    default -> invoke(connection, method, args);
+                });
+    }
+
+    private static Object invoke(Connection connection, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(connection, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private void record(long holdNanos) {
+        Timer.builder(METRIC_NAME)
+                .description("커넥션 점유 시간 (풀에서 받은 시점부터 반환까지)")
+                .tag("endpoint", resolveEndpoint())
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(holdNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static String resolveEndpoint() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return BACKGROUND_ENDPOINT;
+        }
+        Object pattern = servletAttributes.getRequest().getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNMATCHED_ENDPOINT;
+    }
+}
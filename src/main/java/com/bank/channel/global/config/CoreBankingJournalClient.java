@@ -0,0 +1,121 @@
+package com.bank.channel.global.config;
+
+import com.bank.channel.baas.domain.CoreBankingEvent;
+import com.bank.channel.baas.domain.enums.CoreSystemType;
+import com.bank.channel.baas.domain.enums.EventStatus;
+import com.bank.channel.baas.service.CoreBankingJournal;
+import com.bank.channel.global.filter.TraceIdGenerator;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import feign.Util;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 계정계 호출 이력 기록용 Feign Client
+ *
+ * 실제 계정계로 나가는 모든 호출을 CoreBankingEvent로 기록합니다. (CoreBankingJournal에 비동기 적재)
+ * - 호출 전: REQUESTED + 요청 payload
+ * - 호출 후: 응답 payload + 응답 시각 + 최종 상태
+ *   (2xx SUCCESS / 4xx FAIL / 그 외 응답 ERROR / 타임아웃 TIMEOUT / 연결 실패 등 ERROR)
+ *
+ * AccountSystemResilientClient 안쪽에서 동작하므로 Bulkhead/Circuit Breaker로 차단된 호출은 기록하지 않습니다.
+ * 응답 payload 기록을 위해 응답 본문을 메모리로 읽은 뒤 같은 내용으로 Response를 다시 만들어 반환합니다.
+ * channelTxId는 TraceIdGenerator(기본 UUIDv7)로 발급하여 uk_core_banking_events_channel_tx_id에 시간 순으로 추가되도록 합니다.
+ */
+public class CoreBankingJournalClient implements Client {
+
+    private static final String TRACE_ID_HEADER = "X-Trace-Id";
+
+    private final Client delegate;
+    private final CoreBankingJournal coreBankingJournal;
+    private final TraceIdGenerator channelTxIdGenerator;
+
+    public CoreBankingJournalClient(Client delegate, CoreBankingJournal coreBankingJournal, TraceIdGenerator channelTxIdGenerator) {
+        this.delegate = delegate;
+        this.coreBankingJournal = coreBankingJournal;
+        this.channelTxIdGenerator = channelTxIdGenerator;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        CoreBankingEvent requested = CoreBankingEvent.builder()
+                .traceId(firstHeader(request, TRACE_ID_HEADER))
+                .channelTxId(channelTxIdGenerator.generate())
+                .apiName(AccountSystemResilientClient.resolveEndpoint(request.url()))
+                .coreSystemType(CoreSystemType.DEPOSIT)
+                .coreEndpoint(URI.create(request.url()).getPath())
+                .requestPayload(request.body() != null ? new String(request.body(), charsetOf(request)) : null)
+                .requestTime(LocalDateTime.now())
+                .status(EventStatus.REQUESTED)
+                .build();
+        coreBankingJournal.record(requested);
+
+        Response response;
+        try {
+            response = delegate.execute(request, options);
+        } catch (IOException | RuntimeException e) {
+            boolean timeout = e instanceof InterruptedIOException || e instanceof HttpTimeoutException;
+            coreBankingJournal.record(requested.toBuilder()
+                    .responseTime(LocalDateTime.now())
+                    .status(timeout ? EventStatus.TIMEOUT : EventStatus.ERROR)
+                    .build());
+            throw e;
+        }
+
+        byte[] body = null;
+        try {
+            if (response.body() != null) {
+                body = Util.toByteArray(response.body().asInputStream());
+            }
+        } catch (IOException e) {
+            // 응답 본문을 읽는 중 타임아웃/연결 종료
+            coreBankingJournal.record(requested.toBuilder()
+                    .responseTime(LocalDateTime.now())
+                    .status(e instanceof InterruptedIOException ? EventStatus.TIMEOUT : EventStatus.ERROR)
+                    .build());
+            throw e;
+        } finally {
+            response.close();
+        }
+
+        coreBankingJournal.record(requested.toBuilder()
+                .responsePayload(body != null ? new String(body, StandardCharsets.UTF_8) : null)
+                .responseTime(LocalDateTime.now())
+                .status(toEventStatus(response.status()))
+                .build());
+
+        return response.toBuilder().body(body).build();
+    }
+
+    /**
+     * HTTP 응답 상태 → 이력 상태
+     */
+    public static EventStatus toEventStatus(int httpStatus) {
+        if (httpStatus >= 200 && httpStatus < 300) {
+            return EventStatus.SUCCESS;
+        }
+        if (httpStatus >= 400 && httpStatus < 500) {
+            // 잔액 부족 등 계정계의 정상적인 비즈니스 오류
+            return EventStatus.FAIL;
+        }
+        return EventStatus.ERROR;
+    }
+
+    private static String firstHeader(Request request, String name) {
+        Collection<String> values = request.headers().get(name);
+        return (values == null || values.isEmpty()) ? null : values.iterator().next();
+    }
+
+    private static Charset charsetOf(Request request) {
+        return request.charset() != null ? request.charset() : StandardCharsets.UTF_8;
+    }
+}
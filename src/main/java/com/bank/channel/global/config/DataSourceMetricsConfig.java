@@ -0,0 +1,65 @@
+package com.bank.channel.global.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * 커넥션 풀 지표 설정
+ *
+ * HikariCP 기본 지표(Spring Boot 자동 등록)에 더해 다음을 발행합니다.
+ * - hikaricp.connections{,.active,.idle,.pending}: 전체/사용 중/유휴/대기 중인 요청 수 (자동 등록)
+ * - hikaricp.connections.acquire / usage: 커넥션 획득 대기 시간 / 점유 시간 (자동 등록, percentile histogram은 application.yml)
+ * - db.connection.hold{endpoint}: endpoint별 커넥션 점유 시간 (ConnectionHoldTimeDataSource)
+ * - db.pool.saturation: (사용 중 + 대기 중) / 최대 풀 크기
+ *   1 미만이면 여유 있음, 1 이상이면 커넥션을 기다리는 요청이 있음 (예: 5분간 max >= 1 알림)
+ */
+@Configuration
+public class DataSourceMetricsConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "datasource-metrics.hold-time.enabled", havingValue = "true", matchIfMissing = true)
+    public static BeanPostProcessor connectionHoldTimeDataSourcePostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionHoldTimeDataSource)) {
+                    return new ConnectionHoldTimeDataSource(dataSource, meterRegistry.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder dataSourceSaturationMetrics(DataSource dataSource) {
+        HikariDataSource hikariDataSource = DataSourceUnwrapper.unwrap(dataSource, HikariDataSource.class);
+        return registry -> {
+            if (hikariDataSource == null) {
+                return;
+            }
+            Gauge.builder("db.pool.saturation", hikariDataSource, DataSourceMetricsConfig::saturation)
+                    .description("(사용 중 커넥션 + 커넥션 대기 요청) / 최대 풀 크기")
+                    .tag("pool", String.valueOf(hikariDataSource.getPoolName()))
+                    .register(registry);
+        };
+    }
+
+    static double saturation(HikariDataSource dataSource) {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        if (pool == null) {
+            return 0; // 첫 커넥션 요청 전 (풀 미생성)
+        }
+        return (double) (pool.getActiveConnections() + pool.getThreadsAwaitingConnection()) / dataSource.getMaximumPoolSize();
+    }
+}
@@ -0,0 +1,38 @@
+package com.bank.channel.global.config;
+
+import com.bank.channel.global.common.EntityIds;
+import com.bank.channel.global.common.SnowflakeIdGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * PK 발급기(EntityIds) 노드 ID 설정
+ *
+ * 같은 DB에 쓰는 인스턴스마다 다른 값(0 ~ 1023)을 지정해야 합니다. (예: StatefulSet ordinal)
+ * 두 인스턴스가 같은 노드 ID를 쓰면 같은 PK가 발급될 수 있으므로, 지정하지 않으면(-1) 기동에 실패합니다.
+ * 인스턴스가 하나뿐인 환경(local, loadtest, 테스트)만 entity-id.allow-random-node-id로 임의 노드 ID를 허용합니다.
+ */
+@Slf4j
+@Configuration
+public class EntityIdConfig {
+
+    public EntityIdConfig(
+            @Value("${entity-id.node-id:-1}") int nodeId,
+            @Value("${entity-id.allow-random-node-id:false}") boolean allowRandomNodeId
+    ) {
+        if (nodeId < 0) {
+            if (!allowRandomNodeId) {
+                throw new IllegalStateException("entity-id.node-id (ENTITY_ID_NODE_ID) must be set to a unique value per instance (0 ~ "
+                        + SnowflakeIdGenerator.MAX_NODE_ID + ")");
+            }
+            log.warn("[ENTITY_ID] entity-id.node-id is not set. Using a random node id (single instance only)");
+            return;
+        }
+        if (nodeId > SnowflakeIdGenerator.MAX_NODE_ID) {
+            throw new IllegalArgumentException("entity-id.node-id must be between 0 and " + SnowflakeIdGenerator.MAX_NODE_ID + ": " + nodeId);
+        }
+        EntityIds.useNode(nodeId);
+        log.info("[ENTITY_ID] Node id: {}", nodeId);
+    }
+}
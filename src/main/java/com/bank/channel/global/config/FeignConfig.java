@@ -1,9 +1,17 @@
 package com.bank.channel.global.config;
 
+import com.bank.channel.baas.service.CoreBankingJournal;
+import com.bank.channel.global.filter.TraceIdGenerator;
+import feign.Client;
 import feign.Logger;
 import feign.RequestInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 
 /**
  * Feign Client 전역 설정
@@ -11,12 +19,16 @@ import org.springframework.context.annotation.Configuration;
  * [설정 내용]
  * 1. TraceId 전파용 Interceptor 등록
  * 2. Feign 로깅 레벨 설정
+ * 3. 계정계 호출 타임아웃 / Bulkhead / Circuit Breaker 적용 (AccountSystemResilientClient)
+ * 4. 계정계 HTTP 전송 계층 선택 및 커넥션 풀 설정 (AccountSystemTransport)
+ * 5. 계정계 호출 이력 기록 (CoreBankingJournalClient → core_banking_events)
  * 
  * [적용 범위]
  * - @FeignClient가 붙은 모든 클라이언트에 자동 적용
  * - AccountSystemClient에 자동으로 Interceptor 추가됨
  */
 @Configuration
+@EnableConfigurationProperties(AccountSystemProperties.class)
 public class FeignConfig {
 
     /**
@@ -36,9 +48,35 @@ public class FeignConfig {
      * BASIC: 요청 메서드, URL, 응답 상태, 실행 시간만
      * HEADERS: BASIC + 요청/응답 헤더
      * FULL: 모든 것 (개발 환경)
+     *
+     * 기본값은 NONE이며 local 프로필에서 BASIC (feign-logging.level)
      */
     @Bean
-    public Logger.Level feignLoggerLevel() {
-        return Logger.Level.BASIC;  // 운영 환경에서는 NONE으로 변경
+    public Logger.Level feignLoggerLevel(@Value("${feign-logging.level:NONE}") Logger.Level level) {
+        return level;
+    }
+
+    /**
+     * 계정계 HTTP 전송 계층 (HC5 커넥션 풀 또는 JDK HttpClient)
+     */
+    @Bean(destroyMethod = "close")
+    public AccountSystemTransport accountSystemTransport(AccountSystemProperties accountSystemProperties, MeterRegistry meterRegistry, Environment environment) {
+        // spring.threads.virtual.enabled=true 이면 JDK HttpClient도 virtual thread executor 사용
+        return AccountSystemTransport.create(accountSystemProperties, meterRegistry, Threading.VIRTUAL.isActive(environment));
+    }
+
+    /**
+     * 계정계 호출용 Feign Client
+     *
+     * 풀링된 전송 계층을 호출 이력 기록 → API별 타임아웃 / Bulkhead / Circuit Breaker → 메서드별 Timer 순으로 감쌉니다.
+     * (차단되어 실제로 계정계에 나가지 않은 호출은 이력에 기록하지 않고, Timer에는 차단 ErrorCode로 기록)
+     */
+    @Bean
+    public Client feignClient(AccountSystemTransport accountSystemTransport, CoreBankingJournal coreBankingJournal,
+                              TraceIdGenerator traceIdGenerator, AccountSystemProperties accountSystemProperties,
+                              MeterRegistry meterRegistry) {
+        Client journaled = new CoreBankingJournalClient(accountSystemTransport.client(), coreBankingJournal, traceIdGenerator);
+        Client resilient = new AccountSystemResilientClient(journaled, accountSystemProperties, meterRegistry);
+        return new AccountSystemMetricsClient(resilient, meterRegistry);
     }
 }
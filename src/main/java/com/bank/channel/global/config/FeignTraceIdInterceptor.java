@@ -16,6 +16,10 @@ import org.slf4j.MDC;
  * 3. HTTP 헤더에 X-Trace-Id 추가
  * 4. 계정계로 전송
  * 
+ * [virtual thread 모드]
+ * - Interceptor는 Feign을 호출한 요청 스레드(virtual thread)에서 실행되므로 MDC 값을 그대로 읽을 수 있음
+ * - 다른 스레드(@Async 등)에서 Feign을 호출하는 경우에는 호출 전에 MDC를 복사해야 함
+ * 
  * [RestTemplate Interceptor와의 차이]
  * - RestTemplate: ClientHttpRequestInterceptor 구현
  * - Feign: RequestInterceptor 구현 (더 간단!)
@@ -35,9 +39,12 @@ public class FeignTraceIdInterceptor implements RequestInterceptor {
             // HTTP 헤더에 traceId 추가
             template.header(TRACE_ID_HEADER, traceId);
             
-            log.debug("Feign Request - URL: {}, TraceId: {}", 
-                    template.url(), 
-                    traceId);
+            // template.url()은 호출마다 문자열을 만들므로 DEBUG가 꺼져 있으면 호출하지 않음
+            if (log.isDebugEnabled()) {
+                log.debug("Feign Request - URL: {}, TraceId: {}",
+                        template.url(),
+                        traceId);
+            }
         } else {
             log.warn("Feign Request - URL: {}, TraceId가 MDC에 없습니다!", 
                     template.url());
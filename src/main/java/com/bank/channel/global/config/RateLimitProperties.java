@@ -0,0 +1,78 @@
+package com.bank.channel.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 가맹점별 호출 한도(Rate Limit) 설정
+ *
+ * rate-limit 하위 설정을 바인딩합니다.
+ * 한도는 (가맹점, API 경로) 단위로 적용되며, 적용 우선순위는 다음과 같습니다.
+ * 가맹점 API별 한도(정확히 일치 → 경로 prefix가 가장 긴 한도) → 가맹점 기본 한도 → 전역 기본 한도
+ *
+ * @param enabled 사용 여부
+ * @param defaults merchants에 정의되지 않은 가맹점/API에 적용할 기본 한도
+ * @param merchants 가맹점 ID → 가맹점별 한도
+ * @param maxBuckets 메모리에 유지할 최대 (가맹점, API) 버킷 수
+ * @param idleTimeout 호출이 없는 버킷을 정리하는 기준 시간 (정리된 버킷은 가득 찬 상태로 다시 생성)
+ */
+@ConfigurationProperties(prefix = "rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue Limit defaults,
+        @DefaultValue Map<String, MerchantLimits> merchants,
+        @DefaultValue("10000") long maxBuckets,
+        @DefaultValue("10m") Duration idleTimeout
+) {
+
+    /**
+     * (가맹점, API 경로)에 적용할 한도 조회
+     */
+    public Limit limitFor(String merchantId, String apiEndpoint) {
+        MerchantLimits merchantLimits = merchants.get(merchantId);
+        if (merchantLimits == null) {
+            return defaults;
+        }
+
+        // 1. 정확히 일치 → 2. 경로 prefix가 가장 긴 한도 (segment 단위)
+        String path = apiEndpoint;
+        while (path != null) {
+            Limit limit = merchantLimits.endpoints().get(path);
+            if (limit != null) {
+                return limit;
+            }
+            int slash = path.lastIndexOf('/');
+            path = slash > 0 ? path.substring(0, slash) : null;
+        }
+
+        // 3. 가맹점 기본 한도 → 전역 기본 한도
+        return merchantLimits.defaults() != null ? merchantLimits.defaults() : defaults;
+    }
+
+    /**
+     * 토큰 버킷 한도
+     *
+     * @param requestsPerSecond 초당 보충되는 요청 수 (지속 처리량)
+     * @param burst 버킷 크기 (유휴 상태에서 한 번에 허용하는 최대 요청 수)
+     */
+    public record Limit(
+            @DefaultValue("100") double requestsPerSecond,
+            @DefaultValue("200") int burst
+    ) {
+    }
+
+    /**
+     * 가맹점별 한도
+     *
+     * @param defaults 가맹점 기본 한도 (없으면 전역 기본 한도)
+     * @param endpoints API 경로 → 한도 (예: /api/v1/payments/authorize, /api/v1/payments)
+     */
+    public record MerchantLimits(
+            Limit defaults,
+            @DefaultValue Map<String, Limit> endpoints
+    ) {
+    }
+}
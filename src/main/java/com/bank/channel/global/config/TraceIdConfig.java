@@ -0,0 +1,22 @@
+package com.bank.channel.global.config;
+
+import com.bank.channel.global.filter.TimeOrderedTraceIdGenerator;
+import com.bank.channel.global.filter.TraceIdGenerator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * TraceId 발급기 설정
+ *
+ * 다른 TraceIdGenerator Bean이 등록되어 있지 않으면 UUIDv7 발급기를 사용합니다.
+ */
+@Configuration
+public class TraceIdConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(TraceIdGenerator.class)
+    public TraceIdGenerator traceIdGenerator() {
+        return new TimeOrderedTraceIdGenerator();
+    }
+}
@@ -34,17 +34,25 @@ public enum ErrorCode {
     // 405 Method Not Allowed
     METHOD_NOT_ALLOWED(HttpStatus.METHOD_NOT_ALLOWED, "COMMON_005", "지원하지 않는 HTTP 메서드입니다."),
 
+    // 413 Payload Too Large
+    PAYLOAD_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE, "COMMON_008", "요청 본문 크기가 허용 범위를 초과했습니다."),
+
     // 409 Conflict
     ESCROW_ALREADY_RELEASED(HttpStatus.CONFLICT, "ESC_4091", "이미 지급확정된 에스크로입니다."),
     ESCROW_ALREADY_CANCELLED(HttpStatus.CONFLICT, "ESC_4092", "이미 취소된 에스크로입니다."),
     ESCROW_NOT_ACTIVE(HttpStatus.CONFLICT, "ESC_4093", "활성 상태가 아닌 에스크로입니다."),
     PAYEE_ACCOUNT_NOT_ACTIVE(HttpStatus.CONFLICT, "ESC_4094", "수취인 계좌가 활성 상태가 아닙니다."),
     PLATFORM_ACCOUNT_NOT_ACTIVE(HttpStatus.CONFLICT, "ESC_4095", "플랫폼 계좌가 활성 상태가 아닙니다."),
+    IDEMPOTENT_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "COMMON_010", "동일한 멱등성 키의 요청이 처리 중입니다. 잠시 후 다시 시도해주세요."),
 
     // 422 Unprocessable Entity
     INVALID_ESCROW_AMOUNT(HttpStatus.UNPROCESSABLE_ENTITY, "ESC_4221", "에스크로 보유 금액이 유효하지 않습니다."),
     MERCHANT_ID_MISMATCH(HttpStatus.UNPROCESSABLE_ENTITY, "ESC_4222", "고객사 ID가 일치하지 않습니다."),
     AMOUNT_MISMATCH(HttpStatus.UNPROCESSABLE_ENTITY, "ESC_4223", "에스크로 금액 합계가 일치하지 않습니다."),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "COMMON_011", "동일한 멱등성 키로 다른 요청이 전달되었습니다."),
+
+    // 429 Too Many Requests
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "COMMON_009", "호출 한도를 초과했습니다. 잠시 후 다시 시도해주세요."),
 
 
     // 500 Internal Server Error
@@ -55,6 +63,8 @@ public enum ErrorCode {
     // 501 Not Implemented
     NOT_IMPLEMENTED(HttpStatus.NOT_IMPLEMENTED, "COMMON_007", "아직 구현되지 않은 기능입니다."),
 
+    // 503 Service Unavailable
+    CORE_SYSTEM_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "EXTERNAL_003", "계정계 시스템이 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해주세요."),
 
     // merchant 관련 에러
     MERCHANT_NOT_FOUND(HttpStatus.NOT_FOUND, "MRCH_4001", "해당 가맹점 정보를 찾을 수 없습니다."),
@@ -1,6 +1,8 @@
 package com.bank.channel.global.exception;
 
+import com.bank.channel.global.filter.RequestPipelineMetrics;
 import com.bank.channel.global.response.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -19,15 +21,13 @@ public class GlobalExceptionHandler {
      * @return ApiResponse.failure()
      */
     @ExceptionHandler(CustomException.class)
-    protected ResponseEntity<ApiResponse<Void>> handleCustomException(CustomException e) {
+    protected ResponseEntity<ApiResponse<Void>> handleCustomException(CustomException e, HttpServletRequest request) {
 
         ErrorCode errorCode = e.getErrorCode();
 
         log.error("[CustomException] {} - {}", errorCode.getCode(), errorCode.getMessage(), e);
 
-        return ResponseEntity
-                .status(errorCode.getStatus())
-                .body(ApiResponse.failure(errorCode.getCode(), errorCode.getMessage()));
+        return failure(request, errorCode);
     }
 
     /**
@@ -37,12 +37,10 @@ public class GlobalExceptionHandler {
      * @return
      */
     @ExceptionHandler(HttpMessageNotReadableException.class)
-    protected ResponseEntity<ApiResponse<Void>> handleJsonParseException(HttpMessageNotReadableException e) {
+    protected ResponseEntity<ApiResponse<Void>> handleJsonParseException(HttpMessageNotReadableException e, HttpServletRequest request) {
         ErrorCode error = ErrorCode.INVALID_JSON;
         log.error("[JSON Parse Error] {}", e.getMessage());
-        return ResponseEntity
-                .status(error.getStatus())
-                .body(ApiResponse.failure(error.getCode(), error.getMessage()));
+        return failure(request, error);
     }
 
     /**
@@ -52,12 +50,10 @@ public class GlobalExceptionHandler {
      * @return
      */
     @ExceptionHandler(HttpRequestMethodNotSupportedException.class)
-    protected ResponseEntity<ApiResponse<Void>> handleMethodNotSupported(HttpRequestMethodNotSupportedException e) {
+    protected ResponseEntity<ApiResponse<Void>> handleMethodNotSupported(HttpRequestMethodNotSupportedException e, HttpServletRequest request) {
         ErrorCode error = ErrorCode.METHOD_NOT_ALLOWED;
         log.error("[Method Not Allowed] {}", e.getMessage());
-        return ResponseEntity
-                .status(error.getStatus())
-                .body(ApiResponse.failure(error.getCode(), error.getMessage()));
+        return failure(request, error);
     }
 
     /**
@@ -67,14 +63,22 @@ public class GlobalExceptionHandler {
      * @return
      */
     @ExceptionHandler(Exception.class)
-    protected ResponseEntity<ApiResponse<Void>> handleException(Exception e) {
+    protected ResponseEntity<ApiResponse<Void>> handleException(Exception e, HttpServletRequest request) {
 
         log.error("[Unexpected Exception] {}", e.getMessage(), e);
 
         ErrorCode error = ErrorCode.INTERNAL_SERVER_ERROR;
 
+        return failure(request, error);
+    }
+
+    /**
+     * ApiResponse.failure 응답 생성 (ErrorCode는 요청 처리 Timer의 errorCode 태그로도 기록)
+     */
+    private ResponseEntity<ApiResponse<Void>> failure(HttpServletRequest request, ErrorCode errorCode) {
+        request.setAttribute(RequestPipelineMetrics.ERROR_CODE_ATTRIBUTE, errorCode.getCode());
         return ResponseEntity
-                .status(error.getStatus())
-                .body(ApiResponse.failure(error.getCode(), error.getMessage()));
+                .status(errorCode.getStatus())
+                .body(ApiResponse.failure(errorCode.getCode(), errorCode.getMessage()));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,51 @@
+package com.bank.channel.global.filter;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Request Body 캐싱용 byte[] 버퍼 풀
+ *
+ * 요청마다 Body 크기만큼 byte[]를 새로 할당하면 높은 RPS에서 GC 부담이 커지므로,
+ * 고정 크기 버퍼를 재사용합니다. 버퍼 크기를 넘는 Body는 풀을 거치지 않고 필요한 크기만큼만 할당합니다.
+ *
+ * ThreadLocal이 아닌 공유 큐를 사용하므로 virtual thread 환경에서도 재사용 효과가 유지됩니다.
+ */
+@Component
+public class BodyBufferPool {
+
+    private final int bufferSize;
+    private final BlockingQueue<byte[]> buffers;
+
+    public BodyBufferPool(
+            @Value("${request-body.pool.buffer-size:16384}") int bufferSize,
+            @Value("${request-body.pool.max-pooled:256}") int maxPooled
+    ) {
+        this.bufferSize = bufferSize;
+        this.buffers = new ArrayBlockingQueue<>(maxPooled);
+    }
+
+    /**
+     * 풀에서 버퍼를 꺼냅니다. 풀이 비어 있으면 새로 할당합니다.
+     */
+    public byte[] acquire() {
+        byte[] buffer = buffers.poll();
+        return buffer != null ? buffer : new byte[bufferSize];
+    }
+
+    /**
+     * 버퍼를 풀에 반환합니다. 풀이 가득 찼거나 크기가 다른 버퍼는 GC에 맡깁니다.
+     */
+    public void release(byte[] buffer) {
+        if (buffer != null && buffer.length == bufferSize) {
+            buffers.offer(buffer);
+        }
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+}
@@ -0,0 +1,15 @@
+package com.bank.channel.global.filter;
+
+import java.io.IOException;
+
+/**
+ * Request Body가 허용 크기(request-body.max-bytes)를 초과한 경우
+ *
+ * TraceIdFilter에서 413 Payload Too Large 응답으로 변환됩니다.
+ */
+public class BodyTooLargeException extends IOException {
+
+    public BodyTooLargeException(int maxBodyBytes) {
+        super("Request body exceeds " + maxBodyBytes + " bytes");
+    }
+}
@@ -4,94 +4,294 @@ import jakarta.servlet.ReadListener;
 import jakarta.servlet.ServletInputStream;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletRequestWrapper;
-import org.springframework.util.StreamUtils;
 
 import java.io.*;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
 /**
  * Request Body를 여러 번 읽을 수 있도록 캐싱하는 Wrapper
- * 
+ *
  * 문제:
  * - HttpServletRequest의 InputStream은 한 번만 읽을 수 있음
  * - Filter에서 merchantId 추출 시 Body를 읽으면, Controller에서 다시 읽을 수 없음
- * 
+ *
  * 해결:
  * - Request Body를 byte[]로 캐싱
  * - getInputStream()이 호출될 때마다 캐시된 데이터 반환
+ *
+ * 할당 최소화:
+ * - Body는 최초 접근 시점에 한 번만 읽음 (lazy)
+ * - BodyBufferPool의 버퍼에 직접 읽고, 버퍼보다 큰 Body는 Content-Length 크기로 한 번만 할당
+ * - 캐싱된 버퍼를 복사 없이 그대로 제공하며, 요청 종료 시 release()로 풀에 반환
+ * - max-bytes를 넘는 Body는 BodyTooLargeException으로 즉시 중단
+ *
+ * 반환된 버퍼는 다른 요청이 재사용하므로, release() 이후에는 이전에 열어 둔 InputStream/Reader를 포함해
+ * 모든 읽기가 IOException으로 실패합니다. (다른 요청의 Body를 읽는 대신 명시적으로 실패)
  */
 public class CachedBodyHttpServletRequest extends HttpServletRequestWrapper {
 
-    private final byte[] cachedBody;
+    private final BodyBufferPool bodyBufferPool;
+    private final int maxBodyBytes;
     private final String characterEncoding;
 
-    public CachedBodyHttpServletRequest(HttpServletRequest request) throws IOException {
+    private byte[] cachedBody;
+    private int cachedBodyLength;
+    private boolean pooledBuffer;
+    private String cachedBodyString;
+    private volatile boolean released;
+
+    public CachedBodyHttpServletRequest(HttpServletRequest request, BodyBufferPool bodyBufferPool, int maxBodyBytes) {
         super(request);
+        this.bodyBufferPool = bodyBufferPool;
+        this.maxBodyBytes = maxBodyBytes;
         this.characterEncoding = request.getCharacterEncoding(); // 요청의 인코딩 저장
-        this.cachedBody = StreamUtils.copyToByteArray(request.getInputStream()); // 바디 캐싱
+    }
+
+    /**
+     * Body를 읽어 캐싱합니다. 이미 캐싱된 경우 아무 동작도 하지 않습니다.
+     *
+     * @throws BodyTooLargeException Body가 max-bytes를 초과한 경우
+     */
+    public void cacheBody() throws IOException {
+        checkNotReleased();
+        if (this.cachedBody != null) {
+            return;
+        }
+
+        int contentLength = getRequest().getContentLength();
+        if (contentLength > maxBodyBytes) {
+            throw new BodyTooLargeException(maxBodyBytes);
+        }
+
+        // Content-Length를 알고 버퍼보다 크면 정확한 크기로 한 번만 할당, 그 외에는 풀의 버퍼 사용
+        boolean pooled = contentLength <= bodyBufferPool.getBufferSize();
+        byte[] buffer = pooled ? bodyBufferPool.acquire() : new byte[contentLength];
+        int length = 0;
+
+        try {
+            InputStream inputStream = getRequest().getInputStream();
+            while (true) {
+                if (length == buffer.length) {
+                    // 버퍼가 정확히 찬 경우 EOF인지 먼저 확인 (Content-Length와 일치하면 확장/복사 없음)
+                    int next = inputStream.read();
+                    if (next == -1) {
+                        break;
+                    }
+                    if (length >= maxBodyBytes) {
+                        throw new BodyTooLargeException(maxBodyBytes);
+                    }
+
+                    // Content-Length가 없거나(chunked) 실제 Body가 더 큰 경우에만 확장
+                    byte[] grown = Arrays.copyOf(buffer, (int) Math.min((long) length * 2, maxBodyBytes));
+                    if (pooled) {
+                        bodyBufferPool.release(buffer);
+                        pooled = false;
+                    }
+                    buffer = grown;
+                    buffer[length++] = (byte) next;
+                    continue;
+                }
+
+                int read = inputStream.read(buffer, length, buffer.length - length);
+                if (read == -1) {
+                    break;
+                }
+                length += read;
+
+                if (length > maxBodyBytes) {
+                    throw new BodyTooLargeException(maxBodyBytes);
+                }
+            }
+        } catch (IOException e) {
+            if (pooled) {
+                bodyBufferPool.release(buffer);
+            }
+            throw e;
+        }
+
+        this.cachedBody = buffer;
+        this.cachedBodyLength = length;
+        this.pooledBuffer = pooled;
+    }
+
+    /**
+     * 캐싱에 사용한 버퍼를 풀에 반환 (Filter에서 요청 처리가 끝난 뒤 호출)
+     *
+     * 반환 이후 이 요청의 Body 읽기는 모두 실패합니다.
+     */
+    public void release() {
+        if (this.released) {
+            return;
+        }
+        this.released = true;
+        if (this.pooledBuffer) {
+            bodyBufferPool.release(this.cachedBody);
+        }
+        this.cachedBody = null;
+        this.cachedBodyLength = 0;
+        this.pooledBuffer = false;
+        this.cachedBodyString = null;
     }
 
     @Override
     public ServletInputStream getInputStream() throws IOException {
-        return new CachedBodyServletInputStream(this.cachedBody);
+        cacheBody();
+        return new CachedBodyServletInputStream(this.cachedBody, this.cachedBodyLength);
     }
 
     @Override
     public BufferedReader getReader() throws IOException {
-        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(this.cachedBody);
+        cacheBody();
+        return new BufferedReader(new InputStreamReader(
+                new CachedBodyServletInputStream(this.cachedBody, this.cachedBodyLength), resolveCharset()));
+    }
 
-        Charset charset = (this.characterEncoding != null)
-                ? Charset.forName(this.characterEncoding)
-                : StandardCharsets.UTF_8;
+    /**
+     * 캐싱된 Body 버퍼 반환 (복사 없이 내부 버퍼를 그대로 반환하므로 수정 금지)
+     * 유효한 데이터는 [0, getCachedBodyLength()) 구간이며, release() 이후에는 참조를 유지하면 안 됩니다.
+     */
+    public byte[] getCachedBodyBuffer() throws IOException {
+        cacheBody();
+        return this.cachedBody;
+    }
 
-        return new BufferedReader(new InputStreamReader(byteArrayInputStream, charset));
+    /**
+     * 캐싱된 Body 길이 반환
+     */
+    public int getCachedBodyLength() throws IOException {
+        cacheBody();
+        return this.cachedBodyLength;
     }
 
     /**
-     * 캐싱된 Body를 문자열로 반환 (요청의 charset 적용)
+     * 캐싱된 Body를 문자열로 반환 (요청의 charset 적용, 최초 호출 시 한 번만 변환)
      */
-    public String getCachedBody() {
-        Charset charset = (this.characterEncoding != null)
+    public String getCachedBody() throws IOException {
+        cacheBody();
+        if (this.cachedBodyString == null) {
+            this.cachedBodyString = new String(this.cachedBody, 0, this.cachedBodyLength, resolveCharset());
+        }
+        return this.cachedBodyString;
+    }
+
+    private void checkNotReleased() throws IOException {
+        if (this.released) {
+            throw new IOException("Request body has been released");
+        }
+    }
+
+    private Charset resolveCharset() {
+        return (this.characterEncoding != null)
                 ? Charset.forName(this.characterEncoding)
                 : StandardCharsets.UTF_8;
-
-        return new String(this.cachedBody, charset);
     }
 
     /**
      * 캐싱된 Body를 다시 읽을 수 있는 InputStream 구현
+     *
+     * ByteArrayInputStream의 synchronized 메서드를 거치지 않고 버퍼를 직접 읽으며, 벌크 읽기를 지원합니다.
+     * 읽을 때마다 release() 여부를 확인하여 풀에 반환된(다른 요청이 재사용 중인) 버퍼를 읽지 않습니다.
      */
-    private static class CachedBodyServletInputStream extends ServletInputStream {
+    private class CachedBodyServletInputStream extends ServletInputStream {
 
-        private final InputStream cachedBodyInputStream;
+        private final byte[] buffer;
+        private final int length;
+        private int position;
+        private ReadListener readListener;
 
-        public CachedBodyServletInputStream(byte[] cachedBody) {
-            this.cachedBodyInputStream = new ByteArrayInputStream(cachedBody);
+        public CachedBodyServletInputStream(byte[] buffer, int length) {
+            this.buffer = buffer;
+            this.length = length;
         }
 
         @Override
         public boolean isFinished() {
-            try {
-                return cachedBodyInputStream.available() == 0;
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
+            return position >= length;
         }
 
         @Override
         public boolean isReady() {
+            // 데이터가 모두 메모리에 있으므로 항상 블로킹 없이 읽을 수 있음
             return true;
         }
 
+        /**
+         * 비동기 서블릿 읽기 지원
+         *
+         * Servlet 규약대로 비동기 처리가 시작된 요청에서 한 번만 등록할 수 있습니다.
+         * 데이터가 이미 모두 메모리에 있으므로 컨테이너 스레드(AsyncContext.start)에서 onDataAvailable → onAllDataRead 순으로 통지합니다.
+         */
         @Override
         public void setReadListener(ReadListener readListener) {
-            throw new UnsupportedOperationException();
+            if (readListener == null) {
+                throw new NullPointerException("ReadListener must not be null");
+            }
+            if (!isAsyncStarted()) {
+                throw new IllegalStateException("Async processing has not been started");
+            }
+            if (this.readListener != null) {
+                throw new IllegalStateException("ReadListener has already been set");
+            }
+            this.readListener = readListener;
+
+            getAsyncContext().start(() -> {
+                try {
+                    if (!isFinished()) {
+                        readListener.onDataAvailable();
+                    }
+                    if (isFinished()) {
+                        readListener.onAllDataRead();
+                    }
+                } catch (Throwable t) {
+                    readListener.onError(t);
+                }
+            });
         }
 
         @Override
         public int read() throws IOException {
-            return cachedBodyInputStream.read();
+            checkNotReleased();
+            return position < length ? buffer[position++] & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] target, int offset, int len) throws IOException {
+            checkNotReleased();
+            if (len == 0) {
+                return 0;
+            }
+            if (position >= length) {
+                return -1;
+            }
+
+            int count = Math.min(len, length - position);
+            System.arraycopy(buffer, position, target, offset, count);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public byte[] readAllBytes() throws IOException {
+            checkNotReleased();
+            byte[] remaining = Arrays.copyOfRange(buffer, position, length);
+            position = length;
+            return remaining;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            checkNotReleased();
+            long skipped = Math.max(0, Math.min(n, length - position));
+            position += (int) skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            checkNotReleased();
+            return length - position;
         }
     }
 }
@@ -0,0 +1,73 @@
+package com.bank.channel.global.filter;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Request Body에서 최상위 merchantId 필드를 추출하는 스트리밍 파서
+ *
+ * 문제:
+ * - Body 전체를 String으로 변환한 뒤 readTree로 JSON 트리를 만들어 필드 하나만 읽음
+ * - contractDescription처럼 긴 텍스트가 포함된 요청일수록 불필요한 할당이 커짐
+ *
+ * 해결:
+ * - 캐싱된 byte[]를 JsonParser로 직접 읽음 (String 변환 없음)
+ * - 최상위 필드만 순회하고, 중첩 객체/배열은 skipChildren()으로 건너뜀 (트리 생성 없음)
+ *
+ * 주의:
+ * - merchantId를 찾아도 바로 종료하지 않고 최상위 객체 끝까지 순회하여 마지막 값을 반환합니다.
+ *   Controller의 @RequestBody 바인딩은 중복 키의 마지막 값을 사용하므로,
+ *   첫 값만 검증하면 {"merchantId":"A","merchantId":"B"} 형태로 교차 검증을 우회할 수 있습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MerchantIdExtractor {
+
+    private static final String MERCHANT_ID_FIELD = "merchantId";
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * JSON Body에서 최상위 merchantId 값을 추출합니다.
+     *
+     * @param body Body 버퍼
+     * @param offset 시작 위치
+     * @param length Body 길이
+     * @return merchantId (없거나 null이면 null)
+     * @throws IOException JSON 형식이 잘못된 경우
+     */
+    public String extract(byte[] body, int offset, int length) throws IOException {
+        if (length == 0) {
+            return null;
+        }
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(body, offset, length)) {
+            // 최상위가 객체가 아니면 merchantId가 존재할 수 없음
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+
+            String merchantId = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                JsonToken valueToken = parser.nextToken();
+
+                if (MERCHANT_ID_FIELD.equals(fieldName)) {
+                    // 스칼라 값은 문자열로, null/객체/배열은 merchantId 없음으로 취급 (기존 asText() 동작과 동일)
+                    merchantId = valueToken.isScalarValue() && valueToken != JsonToken.VALUE_NULL
+                            ? parser.getValueAsString()
+                            : null;
+                }
+
+                // 중첩 객체/배열은 materialize 하지 않고 건너뜀 (스칼라 값에서는 no-op)
+                parser.skipChildren();
+            }
+            return merchantId;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.bank.channel.global.filter;
+
+import com.bank.channel.global.config.RateLimitProperties;
+import com.bank.channel.global.config.RateLimitProperties.Limit;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 가맹점별 호출 한도 제한기 (TraceIdFilter에서 Body를 읽기 전에 적용)
+ *
+ * 문제:
+ * - ApiKeyAuthService만 통과하면 호출 수 제한이 없어, 한 가맹점의 과도한 호출이 Controller와 계정계까지 그대로 전달됨
+ *
+ * 해결:
+ * - (가맹점, API 경로)별 토큰 버킷을 GCRA(Generic Cell Rate Algorithm)로 구현
+ *   API 경로는 URL 디코딩, matrix parameter(;...) 제거, 중복/끝 슬래시 정리 후 값을 사용
+ *   (같은 API를 다른 표기로 호출하여 한도를 우회하거나, 버킷을 늘려 다른 가맹점 버킷을 밀어내지 않도록)
+ *   버킷 상태는 "다음 요청이 허용되는 이론적 도착 시각(TAT)" long 하나이며, AtomicLong CAS로만 갱신 (락 없음)
+ * - 버킷은 Caffeine에 보관하여 호출이 없는 버킷은 idle-timeout 후 정리 (최대 max-buckets개 유지)
+ * - 한도 초과 시 다음 요청이 허용되기까지의 대기 시간을 반환 → 429 + Retry-After
+ */
+@Component
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class MerchantRateLimiter {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final UrlPathHelper URL_PATH_HELPER = createUrlPathHelper();
+
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier nanoClock;
+    private final Cache<String, Bucket> buckets;
+
+    @Autowired
+    public MerchantRateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    MerchantRateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.nanoClock = nanoClock;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.maxBuckets())
+                .expireAfterAccess(properties.idleTimeout())
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * 요청 1건 허용 여부 확인 (API 경로는 정규화한 값 사용)
+     *
+     * @param merchantId API Key로 식별한 가맹점 ID
+     * @param request 요청
+     * @return 0이면 허용, 양수이면 거절 (다음 요청이 허용되기까지 남은 시간, 나노초)
+     */
+    public long tryAcquire(String merchantId, HttpServletRequest request) {
+        return tryAcquire(merchantId, normalizePath(request));
+    }
+
+    /**
+     * 요청 1건 허용 여부 확인
+     *
+     * @param merchantId API Key로 식별한 가맹점 ID
+     * @param apiEndpoint 정규화된 API 경로 (normalizePath)
+     * @return 0이면 허용, 양수이면 거절 (다음 요청이 허용되기까지 남은 시간, 나노초)
+     */
+    public long tryAcquire(String merchantId, String apiEndpoint) {
+        long now = nanoClock.getAsLong();
+        Bucket bucket = buckets.get(merchantId + ' ' + apiEndpoint,
+                key -> new Bucket(properties.limitFor(merchantId, apiEndpoint), now));
+
+        long waitNanos = bucket.tryAcquire(now);
+        if (waitNanos > 0) {
+            Counter.builder("rate.limit.rejected")
+                    .description("가맹점별 호출 한도 초과로 거절된 요청 수")
+                    .tag("merchantId", merchantId)
+                    .register(meterRegistry)
+                    .increment();
+        }
+        return waitNanos;
+    }
+
+    /**
+     * 한도 적용 기준 API 경로 (Spring MVC가 Handler를 찾는 경로와 같은 방식으로 정규화)
+     *
+     * /api/v1/payments/authorize;x=1, /api/v1/payments/%61uthorize, //api/v1/payments/authorize/
+     * → /api/v1/payments/authorize
+     */
+    static String normalizePath(HttpServletRequest request) {
+        String path = URL_PATH_HELPER.getLookupPathForRequest(request);
+        int end = path.length();
+        while (end > 1 && path.charAt(end - 1) == '/') {
+            end--;
+        }
+        return path.substring(0, end);
+    }
+
+    private static UrlPathHelper createUrlPathHelper() {
+        UrlPathHelper urlPathHelper = new UrlPathHelper();
+        urlPathHelper.setAlwaysUseFullPath(true);
+        urlPathHelper.setUrlDecode(true);
+        urlPathHelper.setRemoveSemicolonContent(true);
+        return urlPathHelper;
+    }
+
+    /**
+     * Retry-After 헤더 값 (초 단위 올림, 최소 1초)
+     */
+    public static long toRetryAfterSeconds(long waitNanos) {
+        return Math.max(1, (waitNanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND);
+    }
+
+    /**
+     * GCRA 토큰 버킷
+     *
+     * - 요청 간격(emissionInterval) = 1초 / requestsPerSecond
+     * - 허용 오차(burstTolerance) = emissionInterval * (burst - 1)
+     * - 요청 시각 now에 TAT - now > burstTolerance 이면 거절, 아니면 TAT = max(TAT, now) + emissionInterval
+     */
+    static final class Bucket {
+
+        private final long emissionIntervalNanos;
+        private final long burstToleranceNanos;
+        private final AtomicLong theoreticalArrivalTime;
+
+        Bucket(Limit limit, long now) {
+            this.emissionIntervalNanos = Math.max(1L, Math.round(NANOS_PER_SECOND / limit.requestsPerSecond()));
+            this.burstToleranceNanos = emissionIntervalNanos * (Math.max(1, limit.burst()) - 1);
+            this.theoreticalArrivalTime = new AtomicLong(now);
+        }
+
+        long tryAcquire(long now) {
+            while (true) {
+                long tat = theoreticalArrivalTime.get();
+                // nanoTime은 overflow 가능성이 있으므로 차이로 비교
+                long base = (tat - now > 0) ? tat : now;
+                long waitNanos = base - now - burstToleranceNanos;
+                if (waitNanos > 0) {
+                    return waitNanos;
+                }
+                if (theoreticalArrivalTime.compareAndSet(tat, base + emissionIntervalNanos)) {
+                    return 0;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.bank.channel.global.filter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 처리 단계별 소요 시간 Timer
+ *
+ * TraceIdFilter가 요청 하나를 처리하는 동안 단계별 소요 시간을 StageTimer에 모아 두었다가,
+ * 응답 후 한 번에 기록합니다. (endpoint 태그는 Controller 매핑이 끝나야 알 수 있으므로)
+ *
+ * - channel.request.stage{stage, endpoint, merchantId}: 단계별 소요 시간
+ *   (rate_limit / body_cache / auth / handler / log_persist)
+ * - channel.request{endpoint, merchantId, status, errorCode}: Filter 진입부터 로그 저장까지 전체 소요 시간
+ *
+ * 모든 Timer는 percentile histogram을 발행하므로 Prometheus에서 histogram_quantile로 p99/p999를 계산할 수 있습니다.
+ * endpoint는 URI가 아닌 매핑 패턴(/api/v1/usages/{merchantId})이며, 매핑 전에 거절된 요청은 UNMATCHED입니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestPipelineMetrics {
+
+    /**
+     * 응답 ErrorCode를 전달하는 request attribute 이름 (GlobalExceptionHandler, Controller, TraceIdFilter에서 설정)
+     */
+    public static final String ERROR_CODE_ATTRIBUTE = RequestPipelineMetrics.class.getName() + ".errorCode";
+
+    private static final String UNMATCHED_ENDPOINT = "UNMATCHED";
+    private static final String NO_ERROR_CODE = "NONE";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 요청 처리 단계
+     */
+    public enum Stage {
+        RATE_LIMIT("rate_limit"),   // 가맹점별 호출 한도 확인
+        BODY_CACHE("body_cache"),   // Request Body 캐싱
+        AUTH("auth"),               // merchantId 추출 + API Key 조회 + 교차 검증
+        HANDLER("handler"),         // Controller (계정계 Feign 호출 포함)
+        LOG_PERSIST("log_persist"); // API 호출 로그 저장
+
+        private final String tag;
+
+        Stage(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    public StageTimer startRequest() {
+        return new StageTimer();
+    }
+
+    /**
+     * 요청 종료 시 단계별/전체 소요 시간 기록
+     */
+    public void record(HttpServletRequest request, HttpServletResponse response, String merchantId, StageTimer stageTimer) {
+        long totalNanos = System.nanoTime() - stageTimer.startNanos;
+        String endpoint = resolveEndpoint(request);
+        String merchantTag = merchantId != null ? merchantId : "UNKNOWN";
+
+        for (Stage stage : Stage.values()) {
+            long nanos = stageTimer.stageNanos[stage.ordinal()];
+            if (nanos < 0) {
+                continue; // 실행되지 않은 단계
+            }
+            Timer.builder("channel.request.stage")
+                    .description("요청 처리 단계별 소요 시간")
+                    .tag("stage", stage.tag)
+                    .tag("endpoint", endpoint)
+                    .tag("merchantId", merchantTag)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        Object errorCode = request.getAttribute(ERROR_CODE_ATTRIBUTE);
+        Timer.builder("channel.request")
+                .description("Filter 진입부터 API 호출 로그 저장까지 전체 소요 시간")
+                .tag("endpoint", endpoint)
+                .tag("merchantId", merchantTag)
+                .tag("status", String.valueOf(response.getStatus()))
+                .tag("errorCode", errorCode != null ? errorCode.toString() : NO_ERROR_CODE)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(totalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static String resolveEndpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNMATCHED_ENDPOINT;
+    }
+
+    /**
+     * 요청 하나의 단계별 소요 시간 (요청 스레드 전용)
+     */
+    public static final class StageTimer {
+
+        private final long startNanos = System.nanoTime();
+        private final long[] stageNanos = new long[Stage.values().length];
+
+        private StageTimer() {
+            Arrays.fill(stageNanos, -1L);
+        }
+
+        /**
+         * Filter 진입 이후 경과 시간 (System.nanoTime 기준)
+         */
+        public long elapsedNanos() {
+            return System.nanoTime() - startNanos;
+        }
+
+        /**
+         * @param stage 단계
+         * @param stageStartNanos 단계 시작 시 System.nanoTime()
+         */
+        public void record(Stage stage, long stageStartNanos) {
+            long elapsed = System.nanoTime() - stageStartNanos;
+            int index = stage.ordinal();
+            stageNanos[index] = stageNanos[index] < 0 ? elapsed : stageNanos[index] + elapsed;
+        }
+    }
+}
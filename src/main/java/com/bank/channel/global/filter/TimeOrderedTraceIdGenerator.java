@@ -0,0 +1,27 @@
+package com.bank.channel.global.filter;
+
+import com.bank.channel.global.common.TraceIds;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 시간 순 TraceId 발급기 (UUIDv7, RFC 9562)
+ *
+ * - 상위 48bit: Unix epoch 밀리초 → 발급 순서대로 정렬되어 로그 테이블 인덱스에 순차 삽입됨
+ * - 나머지 74bit: ThreadLocalRandom (UUID.randomUUID의 SecureRandom과 달리 엔트로피 부족으로 대기하지 않음)
+ *
+ * 추측 불가능성이 필요한 값(인증 토큰 등)에는 사용하지 않습니다.
+ */
+public class TimeOrderedTraceIdGenerator implements TraceIdGenerator {
+
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+
+    @Override
+    public String generate() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long msb = (System.currentTimeMillis() << 16) | VERSION | (random.nextLong() & 0x0FFFL);
+        long lsb = VARIANT | (random.nextLong() & 0x3FFF_FFFF_FFFF_FFFFL);
+        return TraceIds.toHex(msb, lsb);
+    }
+}
@@ -3,8 +3,14 @@ package com.bank.channel.global.filter;
 import com.bank.channel.baas.service.ApiCallLogService;
 import com.bank.channel.baas.service.ApiKeyAuthService;
 import com.bank.channel.baas.service.ApiKeyAuthService.MerchantAuthResult;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.bank.channel.global.common.CoarseClock;
+import com.bank.channel.global.common.TraceIds;
+import com.bank.channel.global.exception.ErrorCode;
+import com.bank.channel.global.filter.RequestPipelineMetrics.Stage;
+import com.bank.channel.global.filter.RequestPipelineMetrics.StageTimer;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -12,23 +18,32 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
-import java.util.UUID;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * TraceId 발급 및 관리 Filter
  * 
  * 기능:
- * 1. 각 API 호출마다 고유한 traceId 발급 (UUID)
+ * 1. 각 API 호출마다 고유한 traceId 발급 (TraceIdGenerator, 기본 UUIDv7)
  * 2. MDC에 저장하여 로그에 자동 포함
  * 3. 응답 헤더에 traceId 추가
  * 4. API Key 기반 보안 인증 + Request Body 교차 검증
  * 5. 보안 위협 감지 시 즉시 차단 (403 응답)
  * 6. API 호출 로그 저장 (사용량 측정)
+ * 7. 허용 크기를 넘는 Body 차단 (413 응답)
+ * 8. 가맹점별 호출 한도 초과 차단 (429 응답 + Retry-After, Body를 읽기 전에 수행)
+ * 9. 단계별 소요 시간 Timer 기록 (RequestPipelineMetrics)
+ *
+ * virtual thread 모드(spring.threads.virtual.enabled=true)에서도 요청마다 하나의 virtual thread가
+ * Filter → Controller → Feign 호출까지 처리하므로 MDC(ThreadLocal) 전파는 동일하게 동작합니다.
+ * 요청 종료 시 MDC를 반드시 정리합니다.
  */
 @Slf4j
 @Component
@@ -37,11 +52,27 @@ public class TraceIdFilter extends OncePerRequestFilter {
 
     private final ApiCallLogService apiCallLogService;
     private final ApiKeyAuthService apiKeyAuthService;
+    private final MerchantIdExtractor merchantIdExtractor;
+    private final BodyBufferPool bodyBufferPool;
+    private final MerchantRateLimiter merchantRateLimiter;
+    private final RequestPipelineMetrics requestPipelineMetrics;
+    private final CoarseClock coarseClock;
+    private final TraceIdGenerator traceIdGenerator;
     private final ObjectMapper objectMapper;
 
     private static final String TRACE_ID_HEADER = "X-Trace-Id";
     private static final String MDC_TRACE_ID_KEY = "traceId";
     private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final String RETRY_AFTER_HEADER = "Retry-After";
+
+    /**
+     * API Key로 인증된 merchantId를 Controller에 전달하는 request attribute 이름 (미인증 요청은 없음)
+     */
+    public static final String MERCHANT_ID_ATTRIBUTE = TraceIdFilter.class.getName() + ".merchantId";
+    private static final Set<String> BODY_METHODS = Set.of("POST", "PUT", "PATCH");
+
+    @Value("${request-body.max-bytes:1048576}")
+    private int maxBodyBytes;
 
     @Override
     protected void doFilterInternal(
@@ -50,70 +81,208 @@ public class TraceIdFilter extends OncePerRequestFilter {
             FilterChain filterChain
     ) throws ServletException, IOException {
 
-        // 1. Request Body를 여러 번 읽을 수 있도록 래핑
-        CachedBodyHttpServletRequest cachedRequest = new CachedBodyHttpServletRequest(request);
-
-        // 2. 요청 헤더에서 traceId 확인 (계정계에서 전달받은 경우)
-        String traceId = cachedRequest.getHeader(TRACE_ID_HEADER);
+        // 1. 요청 헤더에서 traceId 확인 (계정계에서 전달받은 경우, hex 32자로 정규화)
+        String traceHeader = request.getHeader(TRACE_ID_HEADER);
+        String traceId = TraceIds.normalize(traceHeader);
         
-        // 3. 없으면 새로 생성 (최초 요청인 경우)
-        if (!org.springframework.util.StringUtils.hasText(traceId)) {
-            traceId = generateTraceId();
+        // 2. 없거나 형식이 맞지 않으면 새로 생성 (최초 요청인 경우)
+        if (traceId == null) {
+            traceId = traceIdGenerator.generate();
+            if (org.springframework.util.StringUtils.hasText(traceHeader)) {
+                log.debug("Invalid X-Trace-Id replaced - Received: {}, TraceId: {}", traceHeader, traceId);
+            }
         }
 
-        // 4. MDC에 저장 (로그에 자동 포함됨)
+        // 3. MDC에 저장 (로그에 자동 포함됨)
         MDC.put(MDC_TRACE_ID_KEY, traceId);
 
-        // 5. 응답 헤더에 추가 (클라이언트가 확인 가능)
+        // 4. 응답 헤더에 추가 (클라이언트가 확인 가능)
         response.addHeader(TRACE_ID_HEADER, traceId);
 
-        // 6. 요청 시각 기록
-        LocalDateTime requestAt = LocalDateTime.now();
+        // 5. 요청 시각 기록 (시각은 CoarseClock, 소요 시간은 StageTimer에 System.nanoTime 기준으로 기록)
+        LocalDateTime requestAt = coarseClock.now();
+        StageTimer stageTimer = requestPipelineMetrics.startRequest();
         
-        // 7. 요청 로깅
-        log.info("API Request - Method: {}, URI: {}, TraceId: {}", 
-                cachedRequest.getMethod(), 
-                cachedRequest.getRequestURI(), 
+        // 6. 요청 로깅 (요청 단위 INFO는 응답 로그 한 줄로 남김)
+        log.debug("API Request - Method: {}, URI: {}, TraceId: {}", 
+                request.getMethod(), 
+                request.getRequestURI(), 
                 traceId);
 
-        // 8. merchantId 추출 및 보안 검증 (FilterChain 이전에 수행!)
-        String merchantId = extractAndValidateMerchantId(cachedRequest);
-        
-        // 9. 보안 위협 감지 시 즉시 차단!
-        if ("SECURITY_THREAT".equals(merchantId) || "INVALID_API_KEY".equals(merchantId)) {
-            handleSecurityThreat(cachedRequest, response, traceId, merchantId, requestAt);
-            return; // ⚠️ 여기서 종료! FilterChain 진행 안 함
+        // 7. Content-Length가 허용 크기를 넘으면 Body를 읽기 전에 즉시 차단 (413)
+        if (request.getContentLengthLong() > maxBodyBytes) {
+            rejectRequest(request, response, traceId, "UNKNOWN", requestAt, ErrorCode.PAYLOAD_TOO_LARGE, stageTimer);
+            return;
         }
 
+        // 8. 가맹점별 호출 한도 확인 (Body 캐싱/파싱 비용을 쓰기 전에 API Key로 식별한 가맹점 기준으로 차단)
+        long stageStart = System.nanoTime();
+        String rateLimitedMerchantId = checkRateLimit(request, response);
+        stageTimer.record(Stage.RATE_LIMIT, stageStart);
+        if (rateLimitedMerchantId != null) {
+            rejectRequest(request, response, traceId, rateLimitedMerchantId, requestAt, ErrorCode.TOO_MANY_REQUESTS, stageTimer);
+            return;
+        }
+
+        // 9. 교차 검증이 필요한 요청만 Body를 캐싱 (그 외 요청은 원본 스트림을 그대로 사용)
+        CachedBodyHttpServletRequest cachedRequest = null;
+        if (needsBodyCrossCheck(request)) {
+            stageStart = System.nanoTime();
+            cachedRequest = new CachedBodyHttpServletRequest(request, bodyBufferPool, maxBodyBytes);
+            try {
+                cachedRequest.cacheBody();
+            } catch (BodyTooLargeException e) {
+                // chunked 요청 등 Content-Length 없이 허용 크기를 넘은 경우
+                cachedRequest.release();
+                stageTimer.record(Stage.BODY_CACHE, stageStart);
+                rejectRequest(request, response, traceId, "UNKNOWN", requestAt, ErrorCode.PAYLOAD_TOO_LARGE, stageTimer);
+                return;
+            }
+            stageTimer.record(Stage.BODY_CACHE, stageStart);
+        }
+        HttpServletRequest requestToUse = (cachedRequest != null) ? cachedRequest : request;
+
         try {
-            // 10. 검증 통과한 요청만 Filter Chain 진행
-            filterChain.doFilter(cachedRequest, response);
-        } finally {
-            // 11. 응답 시각 기록
-            LocalDateTime responseAt = LocalDateTime.now();
-            
-            // 12. 응답 로깅
-            log.info("API Response - Status: {}, TraceId: {}", 
-                    response.getStatus(), 
-                    traceId);
-            
-            // 13. API 호출 로그 저장 (정상 처리된 요청)
+            // 10. merchantId 추출 및 보안 검증 (FilterChain 이전에 수행!)
+            stageStart = System.nanoTime();
+            String merchantId = extractAndValidateMerchantId(request, cachedRequest);
+            stageTimer.record(Stage.AUTH, stageStart);
+
+            // 11. 보안 위협 감지 시 즉시 차단!
+            if ("SECURITY_THREAT".equals(merchantId) || "INVALID_API_KEY".equals(merchantId)) {
+                handleSecurityThreat(request, response, traceId, merchantId, requestAt, stageTimer);
+                return; // ⚠️ 여기서 종료! FilterChain 진행 안 함
+            }
+
+            // Controller에서 가맹점 단위 처리(멱등성 키 등)에 사용 (API Key로 인증된 가맹점만, UNKNOWN/ERROR는 설정하지 않음)
+            if (!"UNKNOWN".equals(merchantId) && !"ERROR".equals(merchantId)) {
+                request.setAttribute(MERCHANT_ID_ATTRIBUTE, merchantId);
+            }
+
+            long handlerStart = System.nanoTime();
             try {
-                apiCallLogService.saveApiCallLog(
-                    traceId,
-                    merchantId,
-                    cachedRequest.getRequestURI(),
-                    cachedRequest.getMethod(),
-                    requestAt,
-                    responseAt,
-                    response.getStatus()
-                );
-            } catch (Exception e) {
-                log.error("API 로그 저장 실패 - TraceId: {}", traceId, e);
+                // 12. 검증 통과한 요청만 Filter Chain 진행
+                filterChain.doFilter(requestToUse, response);
+            } finally {
+                stageTimer.record(Stage.HANDLER, handlerStart);
+
+                // 13. 응답 시각 기록
+                LocalDateTime responseAt = coarseClock.now();
+
+                // 14. 응답 로깅
+                log.info("API Response - Method: {}, URI: {}, Status: {}, TraceId: {}",
+                        request.getMethod(),
+                        request.getRequestURI(),
+                        response.getStatus(),
+                        traceId);
+
+                // 15. API 호출 로그 저장 (정상 처리된 요청)
+                long logStart = System.nanoTime();
+                try {
+                    apiCallLogService.saveApiCallLog(
+                        traceId,
+                        merchantId,
+                        request.getRequestURI(),
+                        request.getMethod(),
+                        requestAt,
+                        responseAt,
+                        stageTimer.elapsedNanos(),
+                        response.getStatus()
+                    );
+                } catch (Exception e) {
+                    log.error("API 로그 저장 실패 - TraceId: {}", traceId, e);
+                }
+                stageTimer.record(Stage.LOG_PERSIST, logStart);
+                requestPipelineMetrics.record(request, response, merchantId, stageTimer);
+
+                // 16. MDC 정리 (메모리 누수 방지)
+                MDC.remove(MDC_TRACE_ID_KEY);
             }
-            
-            // 14. MDC 정리 (메모리 누수 방지)
-            MDC.remove(MDC_TRACE_ID_KEY);
+        } finally {
+            // 17. 캐싱 버퍼 반환 (Controller까지 Body 사용이 끝난 뒤)
+            if (cachedRequest != null) {
+                releaseCachedBody(request, cachedRequest);
+            }
+        }
+    }
+
+    /**
+     * 캐싱 버퍼 반환
+     *
+     * 비동기 처리가 시작된 요청은 Filter 종료 후에도 Body를 읽을 수 있으므로 비동기 처리가 끝날 때 반환합니다.
+     */
+    private void releaseCachedBody(HttpServletRequest request, CachedBodyHttpServletRequest cachedRequest) {
+        if (!request.isAsyncStarted()) {
+            cachedRequest.release();
+            return;
+        }
+
+        request.getAsyncContext().addListener(new AsyncListener() {
+            @Override
+            public void onComplete(AsyncEvent event) {
+                cachedRequest.release();
+            }
+
+            @Override
+            public void onTimeout(AsyncEvent event) {
+                // timeout 이후 onComplete가 호출되므로 그때 반환
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+                // error 이후 onComplete가 호출되므로 그때 반환
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+                // 새 비동기 주기에서도 종료 통지를 받도록 다시 등록
+                event.getAsyncContext().addListener(this);
+            }
+        });
+    }
+
+    /**
+     * Body 교차 검증 대상 여부
+     * 
+     * API Key가 있고 Body를 가질 수 있는 메서드인 경우에만 Body를 캐싱합니다.
+     * (API Key가 없으면 교차 검증을 하지 않으므로 Body를 미리 읽을 필요가 없음)
+     */
+    private boolean needsBodyCrossCheck(HttpServletRequest request) {
+        String apiKey = request.getHeader(AUTHORIZATION_HEADER);
+        return apiKey != null && !apiKey.isBlank() && BODY_METHODS.contains(request.getMethod());
+    }
+
+    /**
+     * 가맹점별 호출 한도 확인
+     *
+     * API Key로 가맹점을 식별할 수 있는 요청만 대상으로 하며(MerchantApiKeyCache 조회), 한도 초과 시 Retry-After 헤더를 설정합니다.
+     * 유효하지 않은 API Key는 이후 교차 검증 단계에서 403으로 처리됩니다.
+     *
+     * @return 한도를 초과한 가맹점 ID (허용된 요청이면 null)
+     */
+    private String checkRateLimit(HttpServletRequest request, HttpServletResponse response) {
+        String apiKey = request.getHeader(AUTHORIZATION_HEADER);
+        if (!merchantRateLimiter.isEnabled() || apiKey == null || apiKey.isBlank()) {
+            return null;
+        }
+
+        try {
+            Optional<String> merchantId = apiKeyAuthService.extractMerchantIdFromApiKey(apiKey);
+            if (merchantId.isEmpty()) {
+                return null;
+            }
+
+            long waitNanos = merchantRateLimiter.tryAcquire(merchantId.get(), request);
+            if (waitNanos == 0) {
+                return null;
+            }
+
+            response.setHeader(RETRY_AFTER_HEADER, String.valueOf(MerchantRateLimiter.toRetryAfterSeconds(waitNanos)));
+            return merchantId.get();
+        } catch (Exception e) {
+            // 한도 확인 실패로 정상 요청을 막지 않음 (인증은 이후 단계에서 다시 수행)
+            log.error("[RATE_LIMIT] Error checking rate limit", e);
+            return null;
         }
     }
 
@@ -125,33 +294,32 @@ public class TraceIdFilter extends OncePerRequestFilter {
      * @param traceId TraceId
      * @param merchantId merchantId (SECURITY_THREAT 또는 INVALID_API_KEY)
      * @param requestAt 요청 시각
+     * @param stageTimer 단계별 소요 시간
      */
     private void handleSecurityThreat(
-            CachedBodyHttpServletRequest request,
+            HttpServletRequest request,
             HttpServletResponse response,
             String traceId,
             String merchantId,
-            LocalDateTime requestAt
+            LocalDateTime requestAt,
+            StageTimer stageTimer
     ) throws IOException {
-        LocalDateTime responseAt = LocalDateTime.now();
+        LocalDateTime responseAt = coarseClock.now();
         
         // 1. 403 Forbidden 응답
-        response.setStatus(HttpServletResponse.SC_FORBIDDEN);
-        response.setContentType("application/json; charset=UTF-8");
-        
         String errorMessage = "SECURITY_THREAT".equals(merchantId) 
                 ? "인증 실패: Merchant ID 불일치" 
                 : "인증 실패: 유효하지 않은 API Key";
 
-        response.getWriter().write(objectMapper.writeValueAsString(
-                com.bank.channel.global.response.ApiResponse.failure("AUTH_001", errorMessage)
-        ));
+        writeFailureResponse(response, HttpServletResponse.SC_FORBIDDEN, "AUTH_001", errorMessage);
+        request.setAttribute(RequestPipelineMetrics.ERROR_CODE_ATTRIBUTE, "AUTH_001");
         
         // 2. 보안 위협 로그 기록
         log.error("[BLOCKED] {} - URI: {}, TraceId: {}", 
                 merchantId, request.getRequestURI(), traceId);
         
         // 3. API 호출 로그 저장 (보안 모니터링용)
+        long logStart = System.nanoTime();
         try {
             apiCallLogService.saveApiCallLog(
                 traceId,
@@ -160,22 +328,88 @@ public class TraceIdFilter extends OncePerRequestFilter {
                 request.getMethod(),
                 requestAt,
                 responseAt,
+                stageTimer.elapsedNanos(),
                 403
             );
         } catch (Exception e) {
             log.error("보안 위협 로그 저장 실패 - TraceId: {}", traceId, e);
         }
+        stageTimer.record(Stage.LOG_PERSIST, logStart);
+        requestPipelineMetrics.record(request, response, merchantId, stageTimer);
         
         // 4. MDC 정리
         MDC.remove(MDC_TRACE_ID_KEY);
     }
 
     /**
-     * TraceId 생성
-     * UUID에서 하이픈(-) 제거하여 32자 문자열로 생성
+     * Filter 단계에서 요청 거절 (ErrorCode 기반 응답 + 로그 저장)
+     * 
+     * Controller까지 가지 않은 요청도 api_call_logs에 기록하여 사용량 집계에 포함합니다.
+     * 
+     * @param request 요청
+     * @param response 응답
+     * @param traceId TraceId
+     * @param merchantId merchantId
+     * @param requestAt 요청 시각
+     * @param errorCode 거절 사유
+     * @param stageTimer 단계별 소요 시간
+     */
+    private void rejectRequest(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            String traceId,
+            String merchantId,
+            LocalDateTime requestAt,
+            ErrorCode errorCode,
+            StageTimer stageTimer
+    ) throws IOException {
+        LocalDateTime responseAt = coarseClock.now();
+
+        // 1. ErrorCode 응답
+        writeFailureResponse(response, errorCode.getStatus().value(), errorCode.getCode(), errorCode.getMessage());
+        request.setAttribute(RequestPipelineMetrics.ERROR_CODE_ATTRIBUTE, errorCode.getCode());
+
+        // 2. 거절 로그 기록
+        log.warn("[REJECTED] {} - URI: {}, TraceId: {}", 
+                errorCode.getCode(), request.getRequestURI(), traceId);
+
+        // 3. API 호출 로그 저장
+        long logStart = System.nanoTime();
+        try {
+            apiCallLogService.saveApiCallLog(
+                traceId,
+                merchantId,
+                request.getRequestURI(),
+                request.getMethod(),
+                requestAt,
+                responseAt,
+                stageTimer.elapsedNanos(),
+                errorCode.getStatus().value()
+            );
+        } catch (Exception e) {
+            log.error("거절 요청 로그 저장 실패 - TraceId: {}", traceId, e);
+        }
+        stageTimer.record(Stage.LOG_PERSIST, logStart);
+        requestPipelineMetrics.record(request, response, merchantId, stageTimer);
+
+        // 4. MDC 정리
+        MDC.remove(MDC_TRACE_ID_KEY);
+    }
+
+    /**
+     * 실패 응답 작성 (ApiResponse.failure 형식)
      */
-    private String generateTraceId() {
-        return UUID.randomUUID().toString().replace("-", "");
+    private void writeFailureResponse(
+            HttpServletResponse response,
+            int status,
+            String code,
+            String message
+    ) throws IOException {
+        response.setStatus(status);
+        response.setContentType("application/json; charset=UTF-8");
+        response.getWriter().write(objectMapper.writeValueAsString(
+                com.bank.channel.global.response.ApiResponse.failure(code, message)
+        ));
     }
 
     /**
@@ -187,10 +421,14 @@ public class TraceIdFilter extends OncePerRequestFilter {
      * 3. 불일치 시 보안 위협으로 간주 → "SECURITY_THREAT" 반환
      * 4. API Key 무효 시 → "INVALID_API_KEY" 반환
      * 
-     * @param request CachedBodyHttpServletRequest
+     * @param request 요청
+     * @param cachedRequest Body가 캐싱된 요청 (교차 검증 대상이 아니면 null)
      * @return merchantId (검증 통과) 또는 "UNKNOWN" / "SECURITY_THREAT" / "INVALID_API_KEY"
      */
-    private String extractAndValidateMerchantId(CachedBodyHttpServletRequest request) {
+    private String extractAndValidateMerchantId(
+            HttpServletRequest request,
+            CachedBodyHttpServletRequest cachedRequest
+    ) {
         try {
             // 1. Authorization 헤더에서 API Key 추출
             String apiKey = request.getHeader(AUTHORIZATION_HEADER);
@@ -201,7 +439,7 @@ public class TraceIdFilter extends OncePerRequestFilter {
             }
 
             // 2. Request Body에서 merchantId 추출 (있다면)
-            String requestMerchantId = extractMerchantIdFromBody(request);
+            String requestMerchantId = (cachedRequest != null) ? extractMerchantIdFromBody(cachedRequest) : null;
 
             // 3. API Key 기반 인증 + 교차 검증
             MerchantAuthResult authResult = apiKeyAuthService.validateMerchantWithCrossCheck(
@@ -234,28 +472,15 @@ public class TraceIdFilter extends OncePerRequestFilter {
     /**
      * Request Body에서 merchantId 추출
      * 
-     * JSON 파싱하여 "merchantId" 필드 추출
+     * 캐싱된 byte[]를 스트리밍 파싱하여 최상위 "merchantId" 필드 추출 (JSON 트리 생성 없음)
      * 
      * @param request CachedBodyHttpServletRequest
      * @return merchantId (Optional)
      */
     private String extractMerchantIdFromBody(CachedBodyHttpServletRequest request) {
         try {
-            String body = request.getCachedBody();
-            
-            if (body == null || body.isBlank()) {
-                return null;
-            }
-
-            // JSON 파싱
-            JsonNode jsonNode = objectMapper.readTree(body);
-            JsonNode merchantIdNode = jsonNode.get("merchantId");
-
-            if (merchantIdNode != null && !merchantIdNode.isNull()) {
-                return merchantIdNode.asText();
-            }
-
-            return null;
+            return merchantIdExtractor.extract(
+                    request.getCachedBodyBuffer(), 0, request.getCachedBodyLength());
         } catch (Exception e) {
             // JSON 파싱 실패는 에러가 아님 (GET 요청 등 Body가 없을 수 있음)
             log.debug("[MERCHANT_AUTH] Failed to parse merchantId from request body", e);
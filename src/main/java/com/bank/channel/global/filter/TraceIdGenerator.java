@@ -0,0 +1,12 @@
+package com.bank.channel.global.filter;
+
+/**
+ * TraceId 발급기
+ *
+ * 발급한 값은 hex 32자(128bit)여야 합니다. (DB에 BINARY(16)으로 저장, TraceIds 참고)
+ * 기본 구현은 TimeOrderedTraceIdGenerator이며, TraceIdGenerator Bean을 직접 등록하면 교체됩니다.
+ */
+public interface TraceIdGenerator {
+
+    String generate();
+}
@@ -0,0 +1,110 @@
+/*
+기준 스키마 (Flyway 도입 전 운영 DB 스키마와 동일)
+
+Flyway 도입 전부터 운영 중인 DB는 spring.flyway.baseline-on-migrate로 이 버전을 적용된 것으로 간주하고 V2부터 적용합니다.
+따라서 이 파일은 수정하지 않으며, 이후의 모든 변경(인덱스/제약 조건 포함)은 V2 이후 버전으로 추가합니다.
+상태/유형 컬럼은 Hibernate MySQL 매핑과 같은 ENUM으로 정의합니다.
+*/
+
+CREATE TABLE merchants (
+    merchant_id         VARCHAR(50)  NOT NULL,
+    merchant_name       VARCHAR(100) NOT NULL,
+    business_reg_number VARCHAR(20)  NOT NULL,
+    merchant_type       ENUM('PLATFORM') NOT NULL,
+    api_key             VARCHAR(200) NOT NULL,
+    status              ENUM('ACTIVE', 'SUSPENDED', 'CLOSED'),
+    created_at          DATETIME(6)  NOT NULL,
+    updated_at          DATETIME(6)  NOT NULL,
+    PRIMARY KEY (merchant_id)
+);
+
+CREATE TABLE baas_end_users (
+    end_user_id  VARCHAR(255) NOT NULL,
+    merchant_id  VARCHAR(50)  NOT NULL,
+    user_name    VARCHAR(100) NOT NULL,
+    phone_number VARCHAR(20),
+    status       ENUM('ACTIVE', 'SUSPENDED', 'DORMANT'),
+    passcode     VARCHAR(200),
+    created_at   DATETIME(6)  NOT NULL,
+    updated_at   DATETIME(6)  NOT NULL,
+    PRIMARY KEY (end_user_id),
+    CONSTRAINT fk_baas_end_users_merchant_id FOREIGN KEY (merchant_id) REFERENCES merchants (merchant_id)
+);
+
+CREATE TABLE baas_user_accounts (
+    account_id          BIGINT       NOT NULL AUTO_INCREMENT,
+    end_user_id         VARCHAR(255) NOT NULL,
+    bank_code           VARCHAR(10)  NOT NULL,
+    bank_name           VARCHAR(50)  NOT NULL,
+    account_number      VARCHAR(50)  NOT NULL,
+    account_holder_name VARCHAR(100) NOT NULL,
+    is_verified         BOOLEAN,
+    created_at          DATETIME(6)  NOT NULL,
+    updated_at          DATETIME(6)  NOT NULL,
+    PRIMARY KEY (account_id),
+    -- 결제 인증 시 계좌로 End User 조회 / 중복 등록 방지 (EndUserUpsertRepository)
+    UNIQUE KEY uk_baas_user_accounts_account_number_bank_code (account_number, bank_code),
+    CONSTRAINT fk_baas_user_accounts_end_user_id FOREIGN KEY (end_user_id) REFERENCES baas_end_users (end_user_id)
+);
+
+CREATE TABLE api_billing_policies (
+    policy_id               BIGINT         NOT NULL AUTO_INCREMENT,
+    merchant_id             VARCHAR(50)    NOT NULL,
+    api_endpoint            VARCHAR(64)    NOT NULL,
+    unit_success_price      DECIMAL(19, 4) NOT NULL,
+    unit_client_error_price DECIMAL(19, 4) NOT NULL,
+    unit_server_error_price DECIMAL(19, 4) NOT NULL,
+    effective_start_date    DATETIME(6),
+    effective_end_date      DATETIME(6),
+    created_at              DATETIME(6),
+    updated_at              DATETIME(6),
+    PRIMARY KEY (policy_id)
+);
+
+CREATE TABLE contract_data (
+    contract_id           VARCHAR(50)    NOT NULL,
+    payment_tid           VARCHAR(50)    NOT NULL,
+    contract_title        VARCHAR(200),
+    contract_description  LONGTEXT,
+    name                  VARCHAR(50),
+    phone                 VARCHAR(20),
+    business_sector       VARCHAR(100),
+    business_sector_years BIGINT,
+    annual_total_income   DECIMAL(38, 2),
+    contract_url          LONGTEXT,
+    hash                  VARCHAR(255),
+    created_at            DATETIME(6)    NOT NULL,
+    updated_at            DATETIME(6)    NOT NULL,
+    PRIMARY KEY (contract_id)
+);
+
+CREATE TABLE api_call_logs (
+    log_id       BIGINT       NOT NULL AUTO_INCREMENT,
+    trace_id     VARCHAR(50)  NOT NULL,
+    merchant_id  VARCHAR(50)  NOT NULL,
+    api_endpoint VARCHAR(200) NOT NULL,
+    http_method  ENUM('GET', 'POST') NOT NULL,
+    request_at   DATETIME(6)  NOT NULL,
+    response_at  DATETIME(6)  NOT NULL,
+    latency_ms   INT          NOT NULL,
+    status_code  INT          NOT NULL,
+    PRIMARY KEY (log_id)
+);
+
+-- 계정계 호출 이력 (channel_tx_id unique key / 정리 Job 인덱스는 V8)
+CREATE TABLE core_banking_events (
+    event_id         BIGINT       NOT NULL AUTO_INCREMENT,
+    trace_id         VARCHAR(50),
+    channel_tx_id    VARCHAR(64)  NOT NULL,
+    api_name         VARCHAR(100) NOT NULL,
+    core_system_type ENUM('DEPOSIT') NOT NULL,
+    core_endpoint    VARCHAR(255) NOT NULL,
+    request_payload  JSON         NOT NULL,
+    request_time     DATETIME(6)  NOT NULL,
+    response_payload JSON,
+    response_time    DATETIME(6),
+    status           ENUM('REQUESTED', 'SUCCESS', 'FAIL', 'TIMEOUT', 'ERROR') NOT NULL,
+    created_at       DATETIME(6)  NOT NULL,
+    updated_at       DATETIME(6)  NOT NULL,
+    PRIMARY KEY (event_id)
+);
@@ -0,0 +1,25 @@
+/*
+API 사용량 시간대별 Rollup (UsageRollupCompactor가 관리)
+
+api_usage_rollups: 가맹점 / 시간(정시) / API / 상태 그룹별 호출 건수
+usage_rollup_checkpoints: rolled_up_until 이전 시간대는 rollup이 api_call_logs와 일치함을 보장
+
+H2(MySQL 모드) 단위 테스트와 부하 테스트 프로필에서도 이 스크립트를 그대로 실행합니다.
+*/
+
+CREATE TABLE IF NOT EXISTS api_usage_rollups (
+    merchant_id   VARCHAR(50)  NOT NULL,
+    bucket_start  DATETIME     NOT NULL,
+    api_endpoint  VARCHAR(200) NOT NULL,
+    status_group  VARCHAR(5)   NOT NULL,
+    call_count    BIGINT       NOT NULL,
+    PRIMARY KEY (merchant_id, bucket_start, api_endpoint, status_group),
+    INDEX idx_api_usage_rollups_bucket_start (bucket_start)
+);
+
+CREATE TABLE IF NOT EXISTS usage_rollup_checkpoints (
+    rollup_name     VARCHAR(50) NOT NULL,
+    rolled_up_until DATETIME    NOT NULL,
+    updated_at      DATETIME(6) NOT NULL,
+    PRIMARY KEY (rollup_name)
+);
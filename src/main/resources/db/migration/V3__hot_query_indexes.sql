@@ -0,0 +1,14 @@
+/*
+조회 경로별 인덱스
+
+- uk_merchants_api_key: API Key 인증 시 가맹점 조회 (MerchantRepository.findByApiKey, 캐시 miss 경로)
+- idx_api_call_logs_request_at: 시간대별 rollup 재계산 / 가장 오래된 로그 조회 (UsageRollupRepository)
+- idx_api_call_logs_merchant_id_request_at: 가맹점 기간별 사용량 집계 (V7에서 covering index로 대체)
+*/
+
+ALTER TABLE merchants
+    ADD UNIQUE KEY uk_merchants_api_key (api_key);
+
+ALTER TABLE api_call_logs
+    ADD INDEX idx_api_call_logs_request_at (request_at),
+    ADD INDEX idx_api_call_logs_merchant_id_request_at (merchant_id, request_at);
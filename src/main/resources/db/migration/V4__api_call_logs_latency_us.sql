@@ -0,0 +1,10 @@
+/*
+API 호출 로그 마이크로초 단위 소요 시간
+
+latency_us: TraceIdFilter 진입부터 로그 저장 직전까지 System.nanoTime 기준 소요 시간 (µs)
+latency_ms는 기존 조회/집계 호환을 위해 유지 (latency_us / 1000)
+기존 행은 NULL
+*/
+
+ALTER TABLE api_call_logs
+    ADD COLUMN latency_us BIGINT NULL AFTER latency_ms;
@@ -0,0 +1,41 @@
+/*
+TraceId 컬럼 BINARY(16) 변환 (api_call_logs.trace_id, core_banking_events.trace_id)
+
+TraceId는 128bit 값(UUIDv7, hex 32자)이므로 VARCHAR(50) 대신 16 byte로 저장합니다.
+시간 순으로 증가하는 값이라 인덱스를 추가하더라도 끝부분에만 삽입됩니다.
+
+기존 행 변환:
+- hex 32자 / 하이픈 포함 UUID: 같은 128bit 값으로 변환 (UNHEX)
+- 그 외 형식(외부 시스템이 보낸 임의 문자열 등): UNHEX(MD5(trace_id)) — 원래 문자열은 복원되지 않음
+
+대용량 테이블은 pt-online-schema-change 등으로 적용합니다.
+*/
+
+-- 1. api_call_logs
+ALTER TABLE api_call_logs
+    ADD COLUMN trace_id_bin BINARY(16) NULL AFTER trace_id;
+
+UPDATE api_call_logs
+SET trace_id_bin = CASE
+        WHEN REPLACE(trace_id, '-', '') REGEXP '^[0-9a-fA-F]{32}$' THEN UNHEX(REPLACE(trace_id, '-', ''))
+        ELSE UNHEX(MD5(trace_id))
+    END;
+
+ALTER TABLE api_call_logs
+    DROP COLUMN trace_id,
+    CHANGE COLUMN trace_id_bin trace_id BINARY(16) NOT NULL;
+
+-- 2. core_banking_events
+ALTER TABLE core_banking_events
+    ADD COLUMN trace_id_bin BINARY(16) NULL AFTER trace_id;
+
+UPDATE core_banking_events
+SET trace_id_bin = CASE
+        WHEN trace_id IS NULL THEN NULL
+        WHEN REPLACE(trace_id, '-', '') REGEXP '^[0-9a-fA-F]{32}$' THEN UNHEX(REPLACE(trace_id, '-', ''))
+        ELSE UNHEX(MD5(trace_id))
+    END;
+
+ALTER TABLE core_banking_events
+    DROP COLUMN trace_id,
+    CHANGE COLUMN trace_id_bin trace_id BINARY(16) NULL;
@@ -0,0 +1,35 @@
+/*
+API 호출 로그 request_at 기준 RANGE 파티션 (ApiCallLogPartitionMaintainer가 관리)
+
+파티션 구성
+- p{yyyyMM} (적용 월): 적용 시점까지의 기존 로그 전체, request_at < 적용 다음 달 1일
+- p{yyyyMMdd} (DAILY) / p{yyyyMM} (MONTHLY): request_at < 다음 구간 시작 (maintainer가 적용 다음 달 1일부터 생성)
+- p_future: MAXVALUE (항상 마지막, 비어 있는 상태로 유지)
+
+MySQL 파티션 테이블의 모든 unique key는 파티션 컬럼을 포함해야 하므로 PK는 (log_id, request_at)입니다.
+log_id는 AUTO_INCREMENT로 계속 유일하며, JPA Entity의 @Id(log_id)는 그대로 사용합니다.
+
+기존 로그가 p_future에 들어가면 maintainer의 첫 REORGANIZE가 테이블 전체를 다시 쓰게 되므로,
+파티션을 나누는 이 ALTER(어차피 테이블을 한 번 다시 씀)에서 기존 로그와 적용 월의 나머지를 담는 구간을 함께 만듭니다.
+따라서 maintainer는 처음부터 비어 있는 p_future만 REORGANIZE합니다. (적용 월이 끝날 때까지 새 로그도 이 구간에 저장)
+기존 로그는 이 구간에 포함되며, 구간 상한이 retention을 지나면 함께 정리됩니다.
+구간 경계는 DB 세션 시간대의 NOW() 기준이며 DDL에는 변수를 쓸 수 없으므로 prepared statement로 실행합니다.
+
+두 ALTER 모두 테이블 전체를 다시 쓰며 실행 중 쓰기가 잠기므로, 로그가 많은 환경은 배포 전 점검 시간에 적용하거나
+pt-online-schema-change 등으로 같은 변경(PK 변경 + 위 파티션 구성)을 먼저 적용합니다.
+*/
+
+ALTER TABLE api_call_logs
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (log_id, request_at);
+
+SET @history_partition = CONCAT('p', DATE_FORMAT(NOW(), '%Y%m'));
+SET @history_bound = DATE_FORMAT(NOW() + INTERVAL 1 MONTH, '%Y-%m-01 00:00:00');
+SET @partition_ddl = CONCAT(
+    'ALTER TABLE api_call_logs PARTITION BY RANGE COLUMNS (request_at) (',
+    'PARTITION ', @history_partition, ' VALUES LESS THAN (''', @history_bound, '''), ',
+    'PARTITION p_future VALUES LESS THAN (MAXVALUE))');
+
+PREPARE partition_stmt FROM @partition_ddl;
+EXECUTE partition_stmt;
+DEALLOCATE PREPARE partition_stmt;
@@ -0,0 +1,16 @@
+/*
+API 호출 로그 사용량 집계용 covering index
+
+사용량 집계 쿼리(UsageRepository.AGGREGATE_BY_STATUS_GROUP_SQL, UsageRollupRepository의 tail 집계)가 참조하는
+컬럼을 모두 포함하므로 테이블(clustered index) 조회 없이 인덱스만으로 처리됩니다. (EXPLAIN Extra: Using index)
+
+- merchant_id: 동등 조건
+- request_at: 반열린 구간 [start, end) range scan
+- status_code, api_endpoint: GROUP BY FLOOR(status_code / 100), api_endpoint
+
+(merchant_id, request_at) 인덱스는 이 인덱스의 prefix이므로 삭제합니다.
+*/
+
+ALTER TABLE api_call_logs
+    ADD INDEX idx_api_call_logs_usage (merchant_id, request_at, status_code, api_endpoint),
+    DROP INDEX idx_api_call_logs_merchant_id_request_at;
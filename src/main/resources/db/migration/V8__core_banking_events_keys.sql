@@ -0,0 +1,13 @@
+/*
+계정계 호출 이력 키 (CoreBankingJournal, CoreBankingEventReconciler)
+
+- uk_core_banking_events_channel_tx_id: REQUESTED 기록과 최종 결과 기록을 같은 행으로 upsert (ON DUPLICATE KEY)
+- idx_core_banking_events_status_request_time: REQUESTED 상태로 남은 이력 조회
+
+Flyway 도입 전에는 이력이 기록되지 않았으므로(매핑만 존재) 기존 DB의 테이블은 비어 있습니다.
+channel_tx_id가 중복된 행이 있으면 unique key 추가가 실패하므로 먼저 정리합니다.
+*/
+
+ALTER TABLE core_banking_events
+    ADD UNIQUE KEY uk_core_banking_events_channel_tx_id (channel_tx_id),
+    ADD INDEX idx_core_banking_events_status_request_time (status, request_time);
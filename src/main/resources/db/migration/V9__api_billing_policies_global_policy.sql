@@ -0,0 +1,8 @@
+/*
+가맹점 전역 요금 정책 (api_endpoint NULL, BillingPolicyCache)
+
+API별 정책이 없을 때 적용할 정책을 api_endpoint 없이 등록할 수 있도록 NULL을 허용합니다.
+*/
+
+ALTER TABLE api_billing_policies
+    MODIFY COLUMN api_endpoint VARCHAR(64) NULL;
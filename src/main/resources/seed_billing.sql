@@ -29,7 +29,7 @@ INSERT INTO api_call_logs (
     request_at, response_at, latency_ms, status_code
 )
 SELECT 
-    CONCAT('trace-200-', n.rn),
+    UNHEX(MD5(CONCAT('trace-200-', n.rn))),
     'WK', 
     '/api/v1/payment/authorize', 
     'POST', 
@@ -49,7 +49,7 @@ INSERT INTO api_call_logs (
     request_at, response_at, latency_ms, status_code
 )
 SELECT 
-    CONCAT('trace-200-', n.rn),
+    UNHEX(MD5(CONCAT('trace-200-', n.rn))),
     'WK', 
     '/api/v1/payment/authorize', 
     'POST', 
@@ -68,7 +68,7 @@ INSERT INTO api_call_logs (
     request_at, response_at, latency_ms, status_code
 )
 SELECT 
-    CONCAT('trace-200-', n.rn),
+    UNHEX(MD5(CONCAT('trace-200-', n.rn))),
     'WK', 
     '/api/v1/payment/authorize', 
     'POST', 
@@ -0,0 +1,120 @@
+package com.bank.channel;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Flyway 마이그레이션 결과가 JPA Entity 매핑과 일치하는지 검증 (MySQL 전용, ddl-auto: validate)
+ *
+ * - 신규 DB: V1부터 전체 적용
+ * - Flyway 도입 전 DB: V1(기준 스키마)만 있는 상태에서 baseline-on-migrate로 V2부터 적용
+ *
+ * 실행: MYSQL_TEST_URL=jdbc:mysql://localhost:3306/channel_schema_test [MYSQL_TEST_USERNAME, MYSQL_TEST_PASSWORD] ./gradlew test
+ * (지정한 스키마를 Flyway clean 하므로 빈 테스트 전용 스키마를 사용해야 합니다)
+ */
+@EnabledIfEnvironmentVariable(named = "MYSQL_TEST_URL", matches = ".+")
+class SchemaMigrationTest {
+
+    private final String url = System.getenv("MYSQL_TEST_URL");
+    private final String username = System.getenv().getOrDefault("MYSQL_TEST_USERNAME", "root");
+    private final String password = System.getenv().getOrDefault("MYSQL_TEST_PASSWORD", "");
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(
+                    DataSourceAutoConfiguration.class,
+                    FlywayAutoConfiguration.class,
+                    HibernateJpaAutoConfiguration.class,
+                    TransactionAutoConfiguration.class))
+            .withUserConfiguration(EntityScanConfig.class)
+            .withPropertyValues(
+                    "spring.datasource.url=" + url,
+                    "spring.datasource.username=" + username,
+                    "spring.datasource.password=" + password,
+                    "spring.flyway.locations=classpath:db/migration",
+                    "spring.flyway.baseline-on-migrate=true",
+                    "spring.flyway.baseline-version=1",
+                    "spring.jpa.hibernate.ddl-auto=validate");
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(url, username, password);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        flyway(null).clean();
+    }
+
+    @AfterEach
+    void tearDown() {
+        flyway(null).clean();
+    }
+
+    @Test
+    void shouldValidateEntities_AfterMigratingEmptyDatabase() {
+        contextRunner.run(context -> {
+            assertThat(context).hasNotFailed();
+            assertThat(indexesOf("core_banking_events"))
+                    .contains("uk_core_banking_events_channel_tx_id", "idx_core_banking_events_status_request_time");
+        });
+    }
+
+    @Test
+    void shouldValidateEntities_AfterBaseliningPreFlywayDatabase() {
+        // Given: Flyway 도입 전 운영 DB (V1 스키마, flyway_schema_history 없음)
+        flyway("1").migrate();
+        jdbcTemplate.execute("DROP TABLE flyway_schema_history");
+
+        // When & Then: V2 이후만 적용되어 Entity 매핑과 일치
+        contextRunner.run(context -> {
+            assertThat(context).hasNotFailed();
+            assertThat(indexesOf("core_banking_events"))
+                    .contains("uk_core_banking_events_channel_tx_id", "idx_core_banking_events_status_request_time");
+            assertThat(indexesOf("merchants")).contains("uk_merchants_api_key");
+            assertThat(jdbcTemplate.queryForObject("""
+                    SELECT is_nullable FROM information_schema.columns
+                    WHERE table_schema = DATABASE() AND table_name = 'api_billing_policies' AND column_name = 'api_endpoint'
+                    """, String.class)).isEqualTo("YES");
+        });
+    }
+
+    private Flyway flyway(String target) {
+        var configuration = Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .cleanDisabled(false);
+        if (target != null) {
+            configuration.target(target);
+        }
+        return configuration.load();
+    }
+
+    private List<String> indexesOf(String table) {
+        return jdbcTemplate.queryForList("""
+                SELECT DISTINCT index_name FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = ?
+                """, String.class, table);
+    }
+
+    @Configuration
+    @EntityScan(basePackageClasses = BankChannelApplication.class)
+    static class EntityScanConfig {
+    }
+}
@@ -0,0 +1,175 @@
+package com.bank.channel.baas.repository;
+
+import com.bank.channel.baas.domain.CoreBankingEvent;
+import com.bank.channel.baas.domain.enums.CoreSystemType;
+import com.bank.channel.baas.domain.enums.EventStatus;
+import com.bank.channel.baas.repository.CoreBankingEventBatchRepository.StuckEvent;
+import com.bank.channel.global.common.EntityIds;
+import com.bank.channel.global.common.SnowflakeIdGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.PrimitiveIterator;
+import java.util.UUID;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * core_banking_events multi-row upsert 검증 (H2 MySQL 모드)
+ */
+class CoreBankingEventBatchRepositoryTest {
+
+    private static final String CREATE_CORE_BANKING_EVENTS = """
+            CREATE TABLE core_banking_events (
+                event_id         BIGINT       NOT NULL,
+                trace_id         BINARY(16),
+                channel_tx_id    VARCHAR(64)  NOT NULL,
+                api_name         VARCHAR(100) NOT NULL,
+                core_system_type VARCHAR(20)  NOT NULL,
+                core_endpoint    VARCHAR(255) NOT NULL,
+                request_payload  VARCHAR(4000) NOT NULL,
+                request_time     DATETIME(6)  NOT NULL,
+                response_payload VARCHAR(4000),
+                response_time    DATETIME(6),
+                status           VARCHAR(20)  NOT NULL,
+                created_at       DATETIME(6)  NOT NULL,
+                updated_at       DATETIME(6)  NOT NULL,
+                PRIMARY KEY (event_id),
+                UNIQUE KEY uk_core_banking_events_channel_tx_id (channel_tx_id)
+            )
+            """;
+
+    private static final String TRACE_ID = "0193b2f1c2d47e8a9b1c2d3e4f5a6b7c";
+    private static final LocalDateTime REQUEST_TIME = LocalDateTime.of(2025, 3, 10, 15, 30);
+
+    private JdbcTemplate jdbcTemplate;
+    private CoreBankingEventBatchRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1"));
+        jdbcTemplate.execute(CREATE_CORE_BANKING_EVENTS);
+        repository = new CoreBankingEventBatchRepository(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        EntityIds.useNode(0);
+    }
+
+    @Test
+    void shouldUpdateSameRow_WhenFinalResultArrivesAfterRequested() {
+        // Given: 응답이 늦어 REQUESTED가 먼저 저장됨
+        repository.upsertAll(List.of(requested("TX-1"), requested("TX-2")));
+        long eventId = eventIdOf("TX-1");
+
+        // When
+        repository.upsertAll(List.of(completed("TX-1", EventStatus.SUCCESS)));
+
+        // Then: 같은 행(event_id 유지)이 최종 결과로 갱신
+        Map<String, Object> row = rowOf("TX-1");
+        assertThat(row.get("event_id")).isEqualTo(eventId);
+        assertThat(row.get("status")).isEqualTo("SUCCESS");
+        assertThat(row.get("response_payload")).isEqualTo("{\"result\":\"ok\"}");
+        assertThat(rowOf("TX-2").get("status")).isEqualTo("REQUESTED");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM core_banking_events", Integer.class)).isEqualTo(2);
+    }
+
+    @Test
+    void shouldKeepFinalResult_WhenRequestedArrivesLate() {
+        // Given
+        repository.upsertAll(List.of(completed("TX-1", EventStatus.FAIL)));
+
+        // When: 다른 배치로 나뉜 REQUESTED 기록이 뒤늦게 저장됨
+        repository.upsertAll(List.of(requested("TX-1")));
+
+        // Then
+        Map<String, Object> row = rowOf("TX-1");
+        assertThat(row.get("status")).isEqualTo("FAIL");
+        assertThat(row.get("response_payload")).isEqualTo("{\"result\":\"ok\"}");
+        assertThat(row.get("response_time")).isNotNull();
+    }
+
+    @Test
+    void shouldFindAndClaimStuckEventOnce() {
+        // Given
+        repository.upsertAll(List.of(requested("TX-1"), completed("TX-2", EventStatus.SUCCESS)));
+
+        // When
+        List<StuckEvent> stuckEvents = repository.findRequestedBefore(REQUEST_TIME.plusMinutes(5), 10);
+
+        // Then: REQUESTED 이력만 조회되고, 선점은 한 번만 성공
+        assertThat(stuckEvents).extracting(StuckEvent::apiName).containsExactly("approval");
+        assertThat(stuckEvents.get(0).traceId()).isEqualTo(TRACE_ID);
+        assertThat(repository.claim(stuckEvents.get(0).eventId(), EventStatus.TIMEOUT)).isTrue();
+        assertThat(repository.claim(stuckEvents.get(0).eventId(), EventStatus.TIMEOUT)).isFalse();
+        assertThat(rowOf("TX-1").get("status")).isEqualTo("TIMEOUT");
+        assertThat(repository.findRequestedBefore(REQUEST_TIME.plusMinutes(5), 10)).isEmpty();
+    }
+
+    @Test
+    void shouldNotOverwriteOtherCall_AndRetryWithNewId_WhenEventIdCollides() {
+        // Given: 다른 인스턴스가 같은 노드 ID로 발급한 event_id(100)의 행이 이미 있음
+        EntityIds.use(scriptedIds(100L, 100L, 101L));
+        repository.upsertAll(List.of(completed("TX-1", EventStatus.SUCCESS)));
+
+        // When: 같은 event_id(100)로 다른 호출의 최종 결과 저장
+        repository.upsertAll(List.of(completed("TX-2", EventStatus.FAIL)));
+
+        // Then: 기존 행은 그대로, 새 이력은 새 event_id로 저장
+        assertThat(rowOf("TX-1").get("event_id")).isEqualTo(100L);
+        assertThat(rowOf("TX-1").get("status")).isEqualTo("SUCCESS");
+        assertThat(rowOf("TX-2").get("event_id")).isEqualTo(101L);
+        assertThat(rowOf("TX-2").get("status")).isEqualTo("FAIL");
+    }
+
+    /**
+     * 지정한 순서대로 ID를 발급하는 발급기
+     */
+    private static SnowflakeIdGenerator scriptedIds(long... ids) {
+        PrimitiveIterator.OfLong iterator = LongStream.of(ids).iterator();
+        return new SnowflakeIdGenerator(0) {
+            @Override
+            public long nextId() {
+                return iterator.nextLong();
+            }
+        };
+    }
+
+    private CoreBankingEvent requested(String channelTxId) {
+        return CoreBankingEvent.builder()
+                .traceId(TRACE_ID)
+                .channelTxId(channelTxId)
+                .apiName("approval")
+                .coreSystemType(CoreSystemType.DEPOSIT)
+                .coreEndpoint("/payment/approval")
+                .requestPayload("{\"escrowId\":\"E-1\"}")
+                .requestTime(REQUEST_TIME)
+                .status(EventStatus.REQUESTED)
+                .build();
+    }
+
+    private CoreBankingEvent completed(String channelTxId, EventStatus status) {
+        return requested(channelTxId).toBuilder()
+                .responsePayload("{\"result\":\"ok\"}")
+                .responseTime(REQUEST_TIME.plusSeconds(1))
+                .status(status)
+                .build();
+    }
+
+    private long eventIdOf(String channelTxId) {
+        return (Long) rowOf(channelTxId).get("event_id");
+    }
+
+    private Map<String, Object> rowOf(String channelTxId) {
+        return jdbcTemplate.queryForMap("SELECT * FROM core_banking_events WHERE channel_tx_id = ?", channelTxId);
+    }
+}
@@ -0,0 +1,152 @@
+package com.bank.channel.baas.repository;
+
+import com.bank.channel.baas.domain.ApiCallLog;
+import com.bank.channel.baas.domain.enums.HttpMethod;
+import com.bank.channel.baas.repository.ApiCallLogPartitionRepository.RangePartition;
+import com.bank.channel.global.filter.TimeOrderedTraceIdGenerator;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사용량 집계 쿼리 실행 계획 검증 (MySQL 전용)
+ *
+ * H2는 MySQL 실행 계획/파티션을 재현하지 못하므로 MySQL이 있을 때만 실행합니다.
+ * 실행: MYSQL_TEST_URL=jdbc:mysql://localhost:3306/channel_explain_test [MYSQL_TEST_USERNAME, MYSQL_TEST_PASSWORD] ./gradlew test
+ * (지정한 스키마를 Flyway clean 후 db/migration 전체를 적용하므로 빈 테스트 전용 스키마를 사용해야 합니다)
+ */
+@EnabledIfEnvironmentVariable(named = "MYSQL_TEST_URL", matches = ".+")
+class UsageQueryExplainTest {
+
+    private static final String COVERING_INDEX = "idx_api_call_logs_usage";
+    private static final LocalDate FIRST_DAY = LocalDate.of(2025, 3, 1);
+    private static final List<String> MERCHANTS = List.of("WK", "GH", "AB", "CD");
+    private static final int[] STATUS_CODES = {200, 201, 400, 404, 500, 503};
+
+    private Flyway flyway;
+    private JdbcTemplate jdbcTemplate;
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                System.getenv("MYSQL_TEST_URL"),
+                System.getenv().getOrDefault("MYSQL_TEST_USERNAME", "root"),
+                System.getenv().getOrDefault("MYSQL_TEST_PASSWORD", ""));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+
+        // 운영과 같은 마이그레이션(V6 파티션, V7 covering index 포함)으로 스키마 생성
+        flyway = Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .cleanDisabled(false)
+                .load();
+        flyway.clean();
+        flyway.migrate();
+
+        // 3/1 ~ 3/5 일 단위 파티션 (V6가 만든 적용 월 구간은 3/1보다 뒤이므로, 빈 테이블을 p_future만 있는 상태로 다시 나눔)
+        jdbcTemplate.execute("ALTER TABLE api_call_logs PARTITION BY RANGE COLUMNS (request_at) (PARTITION p_future VALUES LESS THAN (MAXVALUE))");
+        List<RangePartition> partitions = new ArrayList<>();
+        for (int day = 0; day < 5; day++) {
+            LocalDate date = FIRST_DAY.plusDays(day);
+            partitions.add(new RangePartition("p" + date.toString().replace("-", ""), date.plusDays(1).atStartOfDay()));
+        }
+        new ApiCallLogPartitionRepository(jdbcTemplate).addPartitions(partitions);
+
+        insertRandomLogs(new Random(42), 20_000);
+        jdbcTemplate.execute("ANALYZE TABLE api_call_logs");
+    }
+
+    @AfterEach
+    void tearDown() {
+        flyway.clean();
+    }
+
+    @Test
+    void shouldAggregateFromCoveringIndexOnly_AndPruneToRequestedDay() {
+        // Given: 3/2 하루
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("merchantId", "WK")
+                .addValue("start", FIRST_DAY.plusDays(1).atStartOfDay())
+                .addValue("end", FIRST_DAY.plusDays(2).atStartOfDay());
+
+        // When
+        List<Map<String, Object>> plan = namedParameterJdbcTemplate.queryForList(
+                "EXPLAIN " + UsageRepository.AGGREGATE_BY_STATUS_GROUP_SQL, params);
+
+        // Then
+        assertCoveringIndexScan(plan, "p20250302");
+    }
+
+    @Test
+    void shouldCountTailFromCoveringIndexOnly() {
+        // When: 3/4 10:00 ~ 3/5 00:00 (rollup되지 않은 tail 구간)
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList(
+                "EXPLAIN " + UsageRollupRepository.COUNT_TAIL_SQL,
+                "GH", FIRST_DAY.plusDays(3).atTime(10, 0), FIRST_DAY.plusDays(4).atStartOfDay());
+
+        // Then
+        assertCoveringIndexScan(plan, "p20250304");
+    }
+
+    private static void assertCoveringIndexScan(List<Map<String, Object>> plan, String expectedPartition) {
+        Map<String, Object> logsAccess = plan.stream()
+                .filter(row -> "api_call_logs".equals(row.get("table")))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("api_call_logs not in plan: " + plan));
+
+        // covering index range scan: Extra에 "Using index" (테이블 조회 없음), "Using index condition"(ICP 후 테이블 조회)이 아님
+        assertThat(logsAccess.get("key")).as("plan %s", plan).isEqualTo(COVERING_INDEX);
+        assertThat(logsAccess.get("type")).as("plan %s", plan).isEqualTo("range");
+        List<String> extra = Arrays.stream(String.valueOf(logsAccess.get("Extra")).split(";"))
+                .map(String::trim)
+                .toList();
+        assertThat(extra).as("plan %s", plan).contains("Using index").doesNotContain("Using index condition");
+
+        // partition pruning
+        assertThat(logsAccess.get("partitions")).as("plan %s", plan).isEqualTo(expectedPartition);
+    }
+
+    private void insertRandomLogs(Random random, int count) {
+        TimeOrderedTraceIdGenerator traceIdGenerator = new TimeOrderedTraceIdGenerator();
+        ApiCallLogBatchRepository batchRepository = new ApiCallLogBatchRepository(jdbcTemplate);
+
+        List<ApiCallLog> logs = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            LocalDateTime requestAt = FIRST_DAY.atStartOfDay().plusSeconds(random.nextInt(5 * 24 * 3600));
+            logs.add(ApiCallLog.builder()
+                    .traceId(traceIdGenerator.generate())
+                    .merchantId(MERCHANTS.get(random.nextInt(MERCHANTS.size())))
+                    .apiEndpoint("/api/v1/payments/" + (random.nextBoolean() ? "authorize" : "approval"))
+                    .httpMethod(HttpMethod.POST)
+                    .requestAt(requestAt)
+                    .responseAt(requestAt.plusNanos(5_000_000))
+                    .latencyMs(5)
+                    .latencyUs(5_000L)
+                    .statusCode(STATUS_CODES[random.nextInt(STATUS_CODES.length)])
+                    .build());
+            if (logs.size() == 500) {
+                batchRepository.insertAll(logs);
+                logs.clear();
+            }
+        }
+        batchRepository.insertAll(logs);
+    }
+}
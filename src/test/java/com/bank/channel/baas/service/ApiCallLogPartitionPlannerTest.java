@@ -0,0 +1,153 @@
+package com.bank.channel.baas.service;
+
+import com.bank.channel.baas.repository.ApiCallLogPartitionRepository.RangePartition;
+import com.bank.channel.baas.service.ApiCallLogPartitionPlanner.Granularity;
+import com.bank.channel.baas.service.ApiCallLogPartitionPlanner.Plan;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 파티션 DDL은 MySQL 전용(H2 MySQL 모드 미지원)이므로 계획 계산만 검증합니다.
+ */
+class ApiCallLogPartitionPlannerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 10, 15, 30);
+    private static final RangePartition FUTURE = new RangePartition("p_future", null);
+
+    @Test
+    void shouldCreateCurrentAndUpcomingPartitions_WhenOnlyFuturePartitionExists() {
+        // Given: DDL 적용 직후 (p_future만 존재)
+        ApiCallLogPartitionPlanner planner = new ApiCallLogPartitionPlanner(Granularity.DAILY, 3, Duration.ofDays(30));
+
+        // When
+        Plan plan = planner.plan(List.of(FUTURE), NOW, null);
+
+        // Then: 오늘 + 이후 3일
+        assertThat(plan.toCreate()).containsExactly(
+                new RangePartition("p20250310", LocalDateTime.of(2025, 3, 11, 0, 0)),
+                new RangePartition("p20250311", LocalDateTime.of(2025, 3, 12, 0, 0)),
+                new RangePartition("p20250312", LocalDateTime.of(2025, 3, 13, 0, 0)),
+                new RangePartition("p20250313", LocalDateTime.of(2025, 3, 14, 0, 0)));
+        assertThat(plan.toExpire()).isEmpty();
+    }
+
+    @Test
+    void shouldOnlyAppendMissingPartitions_AfterLastBound() {
+        // Given: 3/13까지 이미 생성됨
+        ApiCallLogPartitionPlanner planner = new ApiCallLogPartitionPlanner(Granularity.DAILY, 5, Duration.ofDays(30));
+        List<RangePartition> partitions = dailyPartitions(LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 13));
+
+        // When
+        Plan plan = planner.plan(partitions, NOW, NOW);
+
+        // Then: 3/14, 3/15만 추가 (이미 있는 구간은 다시 만들지 않음)
+        assertThat(plan.toCreate()).extracting(RangePartition::name).containsExactly("p20250314", "p20250315");
+
+        // 이미 충분히 만들어져 있으면 추가 없음
+        assertThat(planner.plan(partitions, LocalDateTime.of(2025, 3, 5, 0, 0), NOW).toCreate()).isEmpty();
+    }
+
+    @Test
+    void shouldAppendAfterHistoryPartition_CreatedByMigration() {
+        // Given: V6 적용 직후 (기존 로그를 담은 적용 월 구간 + 빈 p_future)
+        ApiCallLogPartitionPlanner planner = new ApiCallLogPartitionPlanner(Granularity.DAILY, 3, Duration.ofDays(30));
+        List<RangePartition> partitions = List.of(
+                new RangePartition("p202503", LocalDateTime.of(2025, 4, 1, 0, 0)), FUTURE);
+
+        // When & Then: 적용 월 안에서는 추가 없음
+        assertThat(planner.plan(partitions, NOW, null).toCreate()).isEmpty();
+
+        // 월말이 가까워지면 적용 월 구간 상한(4/1)부터 일 단위로 추가
+        Plan plan = planner.plan(partitions, LocalDateTime.of(2025, 3, 29, 15, 30), null);
+        assertThat(plan.toCreate()).containsExactly(
+                new RangePartition("p20250401", LocalDateTime.of(2025, 4, 2, 0, 0)));
+        assertThat(plan.toExpire()).isEmpty();
+    }
+
+    @Test
+    void shouldBackfillMissingPartitions_WhenLastBoundIsBeforeCurrentPeriod() {
+        // Given: maintainer가 멈춰 있어 3/6까지만 생성된 상태 (3/7 이후 로그는 p_future에 저장됨)
+        ApiCallLogPartitionPlanner planner = new ApiCallLogPartitionPlanner(Granularity.DAILY, 1, Duration.ofDays(30));
+        List<RangePartition> partitions = dailyPartitions(LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 6));
+
+        // When
+        Plan plan = planner.plan(partitions, NOW, null);
+
+        // Then: 3/7 ~ 3/9를 건너뛰지 않고 채운 뒤 오늘(3/10)과 이후 1일
+        assertThat(plan.toCreate()).containsExactly(
+                new RangePartition("p20250307", LocalDateTime.of(2025, 3, 8, 0, 0)),
+                new RangePartition("p20250308", LocalDateTime.of(2025, 3, 9, 0, 0)),
+                new RangePartition("p20250309", LocalDateTime.of(2025, 3, 10, 0, 0)),
+                new RangePartition("p20250310", LocalDateTime.of(2025, 3, 11, 0, 0)),
+                new RangePartition("p20250311", LocalDateTime.of(2025, 3, 12, 0, 0)));
+    }
+
+    @Test
+    void shouldExpireOnlyPartitionsPastRetention_AndAlreadyRolledUp() {
+        // Given: 2/1 ~ 3/20 일 단위 파티션, retention 7일 → 3/3 15:30 이전에 끝나는 구간이 만료 대상
+        ApiCallLogPartitionPlanner planner = new ApiCallLogPartitionPlanner(Granularity.DAILY, 1, Duration.ofDays(7));
+        List<RangePartition> partitions = dailyPartitions(LocalDate.of(2025, 2, 1), LocalDate.of(2025, 3, 20));
+
+        // When & Then: rollup이 현재까지 끝난 경우 → 2/1 ~ 3/2 구간 (상한 3/3 00:00 포함)
+        Plan plan = planner.plan(partitions, NOW, NOW.withMinute(0));
+        assertThat(plan.toExpire()).hasSize(30);
+        assertThat(plan.toExpire().get(0).name()).isEqualTo("p20250201");
+        assertThat(plan.toExpire().get(29).name()).isEqualTo("p20250302");
+
+        // rollup watermark가 2/10 12:00이면 그 이전에 끝나는 구간까지만 (2/1 ~ 2/9)
+        plan = planner.plan(partitions, NOW, LocalDateTime.of(2025, 2, 10, 12, 0));
+        assertThat(plan.toExpire()).extracting(RangePartition::name).last().isEqualTo("p20250209");
+        assertThat(plan.toExpire()).hasSize(9);
+
+        // watermark가 없으면(rollup 미실행) 만료하지 않음
+        assertThat(planner.plan(partitions, NOW, null).toExpire()).isEmpty();
+    }
+
+    @Test
+    void shouldNeverExpireCurrentOrFuturePartition() {
+        // Given: retention 0
+        ApiCallLogPartitionPlanner planner = new ApiCallLogPartitionPlanner(Granularity.DAILY, 0, Duration.ZERO);
+        List<RangePartition> partitions = dailyPartitions(LocalDate.of(2025, 3, 9), LocalDate.of(2025, 3, 11));
+
+        // When
+        Plan plan = planner.plan(partitions, NOW, NOW.plusDays(10));
+
+        // Then: 3/9만 만료, 오늘(3/10) / 3/11 / p_future 유지
+        assertThat(plan.toExpire()).extracting(RangePartition::name).containsExactly("p20250309");
+        assertThat(plan.toCreate()).isEmpty();
+    }
+
+    @Test
+    void shouldPlanMonthlyPartitions() {
+        // Given
+        ApiCallLogPartitionPlanner planner = new ApiCallLogPartitionPlanner(Granularity.MONTHLY, 2, Duration.ofDays(365));
+
+        // When
+        Plan plan = planner.plan(List.of(FUTURE), LocalDateTime.of(2025, 12, 31, 23, 59), null);
+
+        // Then: 연도가 바뀌는 구간 포함
+        assertThat(plan.toCreate()).containsExactly(
+                new RangePartition("p202512", LocalDateTime.of(2026, 1, 1, 0, 0)),
+                new RangePartition("p202601", LocalDateTime.of(2026, 2, 1, 0, 0)),
+                new RangePartition("p202602", LocalDateTime.of(2026, 3, 1, 0, 0)));
+    }
+
+    /**
+     * from ~ to (양 끝 포함) 일 단위 파티션 + p_future
+     */
+    private static List<RangePartition> dailyPartitions(LocalDate from, LocalDate to) {
+        List<RangePartition> partitions = new ArrayList<>();
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            partitions.add(new RangePartition(Granularity.DAILY.partitionName(day.atStartOfDay()), day.plusDays(1).atStartOfDay()));
+        }
+        partitions.add(FUTURE);
+        return partitions;
+    }
+}
@@ -0,0 +1,293 @@
+package com.bank.channel.baas.service;
+
+import com.bank.channel.baas.domain.ApiCallLog;
+import com.bank.channel.baas.domain.enums.HttpMethod;
+import com.bank.channel.baas.repository.ApiCallLogBatchRepository;
+import com.bank.channel.baas.repository.UsageRollupRepository;
+import com.bank.channel.global.filter.TimeOrderedTraceIdGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ApiCallLogWriter의 spill / 재적재 검증 (H2 MySQL 모드)
+ *
+ * flush-interval을 길게 두어 flusher 스레드가 테스트 중에 스스로 재적재하지 않도록 하고, 재적재는 테스트에서 직접 호출합니다.
+ */
+class ApiCallLogWriterTest {
+
+    private static final String CREATE_API_CALL_LOGS = """
+            CREATE TABLE api_call_logs (
+                log_id       BIGINT AUTO_INCREMENT PRIMARY KEY,
+                trace_id     BINARY(16)   NOT NULL,
+                merchant_id  VARCHAR(50)  NOT NULL,
+                api_endpoint VARCHAR(200) NOT NULL,
+                http_method  VARCHAR(10)  NOT NULL,
+                request_at   DATETIME(6)  NOT NULL,
+                response_at  DATETIME(6)  NOT NULL,
+                latency_ms   INT          NOT NULL,
+                latency_us   BIGINT,
+                status_code  INT          NOT NULL
+            )
+            """;
+
+    @TempDir
+    Path spillDir;
+
+    private final TimeOrderedTraceIdGenerator traceIdGenerator = new TimeOrderedTraceIdGenerator();
+
+    private JdbcTemplate jdbcTemplate;
+    private FlakyApiCallLogBatchRepository repository;
+    private SimpleMeterRegistry meterRegistry;
+    private Path spillPath;
+    private ApiCallLogWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute(CREATE_API_CALL_LOGS);
+
+        repository = new FlakyApiCallLogBatchRepository(jdbcTemplate);
+        meterRegistry = new SimpleMeterRegistry();
+        spillPath = spillDir.resolve("api-call-logs.spill");
+        writer = new ApiCallLogWriter(repository, new UsageRollupRepository(jdbcTemplate),
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)),
+                new ObjectMapper().findAndRegisterModules(), meterRegistry);
+
+        ReflectionTestUtils.setField(writer, "queueCapacity", 100);
+        ReflectionTestUtils.setField(writer, "batchSize", 2);
+        ReflectionTestUtils.setField(writer, "flushIntervalMs", 60_000L);
+        ReflectionTestUtils.setField(writer, "overflowPolicy", ApiCallLogWriter.OverflowPolicy.SPILL);
+        ReflectionTestUtils.setField(writer, "blockTimeoutMs", 0L);
+        ReflectionTestUtils.setField(writer, "spillPath", spillPath);
+        ReflectionTestUtils.setField(writer, "shutdownTimeoutMs", 100L);
+        ReflectionTestUtils.setField(writer, "retryBackoffMs", 1L);
+        ReflectionTestUtils.setField(writer, "maxRetryBackoffMs", 1L);
+        ReflectionTestUtils.setField(writer, "replayRetryBackoffMs", 0L);
+        ReflectionTestUtils.setField(writer, "maxReplayRetryBackoffMs", 0L);
+        writer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        writer.shutdown();
+        ((Thread) ReflectionTestUtils.getField(writer, "flusher")).interrupt();
+    }
+
+    @Test
+    void shouldSpillBatch_WhenInsertFails() throws Exception {
+        // Given: DB 장애
+        repository.available = false;
+
+        // When: batch-size만큼 적재하여 flusher가 바로 flush
+        writer.enqueue(newLog());
+        writer.enqueue(newLog());
+        await(() -> meterRegistry.counter("api.call.log.writer.spilled").count() == 2);
+
+        // Then: 실패한 배치가 spill 파일에 보존됨
+        assertThat(meterRegistry.counter("api.call.log.writer.failed").count()).isEqualTo(2);
+        assertThat(Files.readAllLines(spillPath)).hasSize(2);
+        assertThat(countLogs()).isZero();
+    }
+
+    @Test
+    void shouldRetryBatch_UntilTransientFailureClears() throws Exception {
+        // Given: BLOCK 정책에서 일시적 오류가 두 번 발생
+        ReflectionTestUtils.setField(writer, "overflowPolicy", ApiCallLogWriter.OverflowPolicy.BLOCK);
+        repository.transientFailures = 2;
+
+        // When
+        writer.flush(newLogs(3));
+
+        // Then: 같은 배치를 재시도하여 모두 저장 (디스크로 보내거나 버리지 않음)
+        assertThat(countLogs()).isEqualTo(3);
+        assertThat(repository.attempts).isEqualTo(3);
+        assertThat(meterRegistry.counter("api.call.log.writer.retried").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("api.call.log.writer.failed").count()).isZero();
+        assertThat(spillPath).doesNotExist();
+    }
+
+    @Test
+    void shouldExcludeOnlyRejectedLog_WhenBatchFailsWithDataError() throws Exception {
+        // Given: 배치 중 한 건이 데이터 오류
+        ReflectionTestUtils.setField(writer, "overflowPolicy", ApiCallLogWriter.OverflowPolicy.BLOCK);
+        List<ApiCallLog> batch = newLogs(3);
+        repository.rejectedTraceId = batch.get(1).getTraceId();
+
+        // When
+        writer.flush(batch);
+
+        // Then: 행 단위로 나눠 나머지 2건 저장
+        assertThat(countLogs()).isEqualTo(2);
+        assertThat(meterRegistry.counter("api.call.log.writer.failed").count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReplayAllSpilledLogs_AndDeleteFiles() {
+        // Given
+        writer.spill(newLogs(5));
+
+        // When
+        writer.replaySpilledLogs();
+
+        // Then
+        assertThat(countLogs()).isEqualTo(5);
+        assertThat(repository.attempts).isEqualTo(3);
+        assertThat(spillDir).isEmptyDirectory();
+    }
+
+    @Test
+    void shouldResumeAfterLastCommittedBatch_WhenReplayFailsMidway() {
+        // Given: 5건 (batch-size 2 → 3개 배치), 두 번째 배치부터 실패
+        writer.spill(newLogs(5));
+        repository.allowedBatches = 1;
+
+        // When: 첫 시도는 첫 배치만 커밋
+        writer.replaySpilledLogs();
+
+        // Then
+        assertThat(countLogs()).isEqualTo(2);
+        assertThat(spillDir.resolve("api-call-logs.spill.replaying")).exists();
+        assertThat(spillDir.resolve("api-call-logs.spill.replaying.offset")).hasContent("2");
+
+        // When: DB 복구 후 재시도
+        repository.allowedBatches = Integer.MAX_VALUE;
+        writer.replaySpilledLogs();
+
+        // Then: 커밋된 배치 이후부터 이어서 적재하여 중복 없이 5건
+        assertThat(countLogs()).isEqualTo(5);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT trace_id) FROM api_call_logs", Integer.class))
+                .isEqualTo(5);
+        assertThat(spillDir).isEmptyDirectory();
+    }
+
+    @Test
+    void shouldBackOff_AfterReplayFailure() {
+        // Given
+        ReflectionTestUtils.setField(writer, "replayRetryBackoffMs", 60_000L);
+        ReflectionTestUtils.setField(writer, "maxReplayRetryBackoffMs", 60_000L);
+        writer.spill(newLogs(1));
+        repository.available = false;
+        writer.replaySpilledLogs();
+
+        // When: DB가 복구되어도 backoff 동안에는 재시도하지 않음
+        repository.available = true;
+        writer.replaySpilledLogs();
+
+        // Then
+        assertThat(repository.attempts).isEqualTo(1);
+        assertThat(countLogs()).isZero();
+
+        // When: backoff 경과
+        ReflectionTestUtils.setField(writer, "nextReplayAtNanos", System.nanoTime());
+        writer.replaySpilledLogs();
+
+        // Then
+        assertThat(countLogs()).isEqualTo(1);
+        assertThat(ReflectionTestUtils.getField(writer, "replayBackoffMs")).isEqualTo(0L);
+    }
+
+    @Test
+    void shouldSkipTruncatedLine_AndReplayTheRest() throws Exception {
+        // Given: 기록 도중 종료되어 잘린 줄
+        writer.spill(newLogs(1));
+        Files.writeString(spillPath, "{\"traceId\":\"01\n", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        writer.spill(newLogs(1));
+
+        // When
+        writer.replaySpilledLogs();
+
+        // Then
+        assertThat(countLogs()).isEqualTo(2);
+        assertThat(meterRegistry.counter("api.call.log.writer.dropped").count()).isEqualTo(1);
+        assertThat(spillDir).isEmptyDirectory();
+    }
+
+    private int countLogs() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM api_call_logs", Integer.class);
+    }
+
+    private List<ApiCallLog> newLogs(int count) {
+        List<ApiCallLog> logs = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            logs.add(newLog());
+        }
+        return logs;
+    }
+
+    private ApiCallLog newLog() {
+        LocalDateTime now = LocalDateTime.now();
+        return ApiCallLog.builder()
+                .traceId(traceIdGenerator.generate())
+                .merchantId("WK")
+                .apiEndpoint("/api/v1/payments/authorize")
+                .httpMethod(HttpMethod.POST)
+                .requestAt(now)
+                .responseAt(now)
+                .latencyMs(5)
+                .latencyUs(5_000L)
+                .statusCode(200)
+                .build();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime() - deadline).as("timed out").isNegative();
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * allowedBatches만큼 성공한 뒤, available=false인 동안, 또는 transientFailures 횟수만큼 INSERT를 실패시키고
+     * rejectedTraceId가 포함된 배치는 데이터 오류로 실패시키는 Repository
+     */
+    private static class FlakyApiCallLogBatchRepository extends ApiCallLogBatchRepository {
+
+        volatile boolean available = true;
+        volatile int allowedBatches = Integer.MAX_VALUE;
+        volatile int transientFailures;
+        volatile String rejectedTraceId;
+        volatile int attempts;
+
+        FlakyApiCallLogBatchRepository(JdbcTemplate jdbcTemplate) {
+            super(jdbcTemplate);
+        }
+
+        @Override
+        public int insertAll(List<ApiCallLog> logs) {
+            attempts++;
+            if (!available || allowedBatches-- <= 0 || transientFailures-- > 0) {
+                throw new DataAccessResourceFailureException("database unavailable");
+            }
+            if (logs.stream().anyMatch(log -> log.getTraceId().equals(rejectedTraceId))) {
+                throw new DataIntegrityViolationException("rejected: " + rejectedTraceId);
+            }
+            return super.insertAll(logs);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.bank.channel.baas.service;
+
+import com.bank.channel.baas.domain.ApiBillingPolicy;
+import com.bank.channel.baas.repository.PolicyRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * BillingPolicyCache의 유효 정책 선택 검증 (유효 기간 경계, 겹치는 정책 우선순위, API 매칭 순서)
+ */
+class BillingPolicyCacheTest {
+
+    private static final String USAGES = "/api/v1/usages";
+    private static final LocalDateTime JAN_1 = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final LocalDateTime JAN_15 = LocalDateTime.of(2025, 1, 15, 0, 0);
+    private static final LocalDateTime FEB_1 = LocalDateTime.of(2025, 2, 1, 0, 0);
+
+    private final List<ApiBillingPolicy> policies = new ArrayList<>();
+    private long nextPolicyId = 1;
+
+    @Test
+    void shouldApplyStartInclusiveEndExclusive_AndPreferLatestCreated() {
+        // Given: 상시 정책 A 위에 1/15 ~ 2/1 기간 정책 B가 나중에 생성됨
+        ApiBillingPolicy base = policy("WK", USAGES, null, null, JAN_1);
+        ApiBillingPolicy promotion = policy("WK", USAGES, JAN_15, FEB_1, JAN_15);
+        BillingPolicyCache cache = cache();
+
+        // When & Then
+        assertThat(find(cache, "WK", USAGES, JAN_15.minusNanos(1000))).containsSame(base);
+        assertThat(find(cache, "WK", USAGES, JAN_15)).containsSame(promotion);
+        assertThat(find(cache, "WK", USAGES, FEB_1.minusNanos(1000))).containsSame(promotion);
+        assertThat(find(cache, "WK", USAGES, FEB_1)).containsSame(base);
+    }
+
+    @Test
+    void shouldReturnEmpty_OutsideEveryEffectivePeriod() {
+        // Given
+        policy("WK", USAGES, JAN_15, FEB_1, JAN_1);
+        BillingPolicyCache cache = cache();
+
+        // When & Then
+        assertThat(find(cache, "WK", USAGES, JAN_1)).isEmpty();
+        assertThat(find(cache, "WK", USAGES, JAN_15)).isPresent();
+        assertThat(find(cache, "WK", USAGES, FEB_1)).isEmpty();
+    }
+
+    @Test
+    void shouldBreakTies_ByPolicyId_AndTreatNullCreatedAtAsOldest() {
+        // Given
+        ApiBillingPolicy undated = policy("WK", USAGES, null, null, null);
+        ApiBillingPolicy first = policy("WK", USAGES, null, null, JAN_1);
+        ApiBillingPolicy second = policy("WK", USAGES, null, null, JAN_1);
+        BillingPolicyCache cache = cache();
+
+        // When & Then
+        assertThat(find(cache, "WK", USAGES, FEB_1)).containsSame(second);
+        assertThat(first.getPolicyId()).isLessThan(second.getPolicyId());
+        assertThat(undated.getCreatedAt()).isNull();
+    }
+
+    @Test
+    void shouldMatchExactThenLongestPrefixBySegment() {
+        // Given
+        ApiBillingPolicy api = policy("WK", "/api/v1", null, null, JAN_1);
+        ApiBillingPolicy usages = policy("WK", USAGES, null, null, JAN_1);
+        ApiBillingPolicy exact = policy("WK", USAGES + "/WK", null, null, JAN_1);
+        BillingPolicyCache cache = cache();
+
+        // When & Then
+        assertThat(find(cache, "WK", USAGES + "/WK", FEB_1)).containsSame(exact);
+        assertThat(find(cache, "WK", USAGES + "/GH", FEB_1)).containsSame(usages);
+        assertThat(find(cache, "WK", USAGES + "/GH/detail", FEB_1)).containsSame(usages);
+        // segment 단위 매칭이므로 /api/v1/usagesX는 /api/v1/usages 정책에 매칭되지 않음
+        assertThat(find(cache, "WK", USAGES + "X", FEB_1)).containsSame(api);
+    }
+
+    @Test
+    void shouldFallBackToPrefixOrGlobal_WhenMoreSpecificPolicyIsNotEffective() {
+        // Given: 구체적인 정책은 1/15에 종료
+        ApiBillingPolicy global = policy("WK", null, null, null, JAN_1);
+        ApiBillingPolicy prefix = policy("WK", USAGES, null, JAN_15, JAN_1);
+        ApiBillingPolicy exact = policy("WK", USAGES + "/WK", null, JAN_15, JAN_1);
+        BillingPolicyCache cache = cache();
+
+        // When & Then
+        assertThat(find(cache, "WK", USAGES + "/WK", JAN_1)).containsSame(exact);
+        assertThat(find(cache, "WK", USAGES + "/GH", JAN_1)).containsSame(prefix);
+        assertThat(find(cache, "WK", USAGES + "/WK", JAN_15)).containsSame(global);
+        assertThat(find(cache, "WK", "/api/v1/payments/authorize", JAN_1)).containsSame(global);
+        assertThat(find(cache, "WK", null, JAN_1)).containsSame(global);
+    }
+
+    @Test
+    void shouldApplyDefaultPrice_ForMerchantWithoutPolicy() {
+        // Given: 다른 가맹점의 정책만 존재
+        policy("GH", null, null, null, JAN_1);
+        BillingPolicyCache cache = cache();
+
+        // When
+        Optional<ApiBillingPolicy> policy = find(cache, "WK", USAGES, FEB_1);
+
+        // Then: 정책이 없어도 예외 없이 기본 요금(건당 10) 적용
+        assertThat(policy).isEmpty();
+        assertThat(UsageService.calculateCost(2L, 1L, 1L, policy.orElse(null)))
+                .isEqualByComparingTo(BigDecimal.valueOf(40));
+    }
+
+    private Optional<ApiBillingPolicy> find(BillingPolicyCache cache, String merchantId, String apiEndpoint, LocalDateTime at) {
+        return cache.findActivePolicy(merchantId, apiEndpoint, at);
+    }
+
+    private BillingPolicyCache cache() {
+        List<ApiBillingPolicy> snapshot = List.copyOf(policies);
+        PolicyRepository repository = (PolicyRepository) Proxy.newProxyInstance(
+                PolicyRepository.class.getClassLoader(), new Class<?>[]{PolicyRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findAll") && method.getParameterCount() == 0) {
+                        return snapshot;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        return new BillingPolicyCache(repository);
+    }
+
+    private ApiBillingPolicy policy(String merchantId, String apiEndpoint, LocalDateTime start, LocalDateTime end,
+                                    LocalDateTime createdAt) {
+        ApiBillingPolicy policy = BeanUtils.instantiateClass(ApiBillingPolicy.class);
+        ReflectionTestUtils.setField(policy, "policyId", nextPolicyId++);
+        ReflectionTestUtils.setField(policy, "merchantId", merchantId);
+        ReflectionTestUtils.setField(policy, "apiEndpoint", apiEndpoint);
+        ReflectionTestUtils.setField(policy, "unitSuccessPrice", BigDecimal.ONE);
+        ReflectionTestUtils.setField(policy, "unitClientErrorPrice", BigDecimal.ONE);
+        ReflectionTestUtils.setField(policy, "unitServcerErrorPrice", BigDecimal.ONE);
+        ReflectionTestUtils.setField(policy, "effectiveStartDate", start);
+        ReflectionTestUtils.setField(policy, "effectiveEndDate", end);
+        ReflectionTestUtils.setField(policy, "createdAt", createdAt);
+        policies.add(policy);
+        return policy;
+    }
+}
@@ -0,0 +1,116 @@
+package com.bank.channel.baas.service;
+
+import com.bank.channel.baas.domain.CoreBankingEvent;
+import com.bank.channel.baas.domain.enums.CoreSystemType;
+import com.bank.channel.baas.domain.enums.EventStatus;
+import com.bank.channel.baas.repository.CoreBankingEventBatchRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * REQUESTED로 남은 계정계 호출 이력 정리 검증 (H2 MySQL 모드)
+ */
+class CoreBankingEventReconcilerTest {
+
+    private static final String CREATE_CORE_BANKING_EVENTS = """
+            CREATE TABLE core_banking_events (
+                event_id         BIGINT       NOT NULL,
+                trace_id         BINARY(16),
+                channel_tx_id    VARCHAR(64)  NOT NULL,
+                api_name         VARCHAR(100) NOT NULL,
+                core_system_type VARCHAR(20)  NOT NULL,
+                core_endpoint    VARCHAR(255) NOT NULL,
+                request_payload  VARCHAR(4000) NOT NULL,
+                request_time     DATETIME(6)  NOT NULL,
+                response_payload VARCHAR(4000),
+                response_time    DATETIME(6),
+                status           VARCHAR(20)  NOT NULL,
+                created_at       DATETIME(6)  NOT NULL,
+                updated_at       DATETIME(6)  NOT NULL,
+                PRIMARY KEY (event_id),
+                UNIQUE KEY uk_core_banking_events_channel_tx_id (channel_tx_id)
+            )
+            """;
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 10, 15, 30);
+
+    private JdbcTemplate jdbcTemplate;
+    private CoreBankingEventBatchRepository repository;
+    private SimpleMeterRegistry meterRegistry;
+    private CoreBankingEventReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1"));
+        jdbcTemplate.execute(CREATE_CORE_BANKING_EVENTS);
+        repository = new CoreBankingEventBatchRepository(jdbcTemplate);
+        meterRegistry = new SimpleMeterRegistry();
+        reconciler = new CoreBankingEventReconciler(repository, meterRegistry, Duration.ofMinutes(5), 100);
+    }
+
+    @Test
+    void shouldMarkStuckEventsAsTimeout_WithoutResending() {
+        // Given: 승인/확정 호출의 최종 결과 기록이 유실되어 REQUESTED로 남음 (계정계에서는 처리되었을 수 있음)
+        repository.upsertAll(List.of(
+                event("TX-APPROVAL", "approval", NOW.minusMinutes(10), EventStatus.REQUESTED),
+                event("TX-CONFIRM", "confirm", NOW.minusMinutes(6), EventStatus.REQUESTED),
+                event("TX-IN-FLIGHT", "approval", NOW.minusMinutes(1), EventStatus.REQUESTED),
+                event("TX-DONE", "approval", NOW.minusMinutes(10), EventStatus.SUCCESS)));
+
+        // When
+        int reconciled = reconciler.reconcile(NOW);
+
+        // Then: stuck-after가 지난 REQUESTED만 TIMEOUT(수동 확인 대상), 응답은 기록하지 않음
+        assertThat(reconciled).isEqualTo(2);
+        assertThat(statusOf("TX-APPROVAL")).isEqualTo("TIMEOUT");
+        assertThat(statusOf("TX-CONFIRM")).isEqualTo("TIMEOUT");
+        assertThat(statusOf("TX-IN-FLIGHT")).isEqualTo("REQUESTED");
+        assertThat(statusOf("TX-DONE")).isEqualTo("SUCCESS");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM core_banking_events WHERE status = 'TIMEOUT' AND response_payload IS NULL", Integer.class))
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("core.banking.reconcile").tags("api", "approval", "result", "unresolved").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotReconcileAgain_WhenAlreadyMarked() {
+        // Given: 이전 실행(또는 다른 인스턴스)이 먼저 TIMEOUT으로 표시함
+        repository.upsertAll(List.of(event("TX-1", "approval", NOW.minusMinutes(10), EventStatus.REQUESTED)));
+        assertThat(reconciler.reconcile(NOW)).isEqualTo(1);
+
+        // When & Then: 이미 처리된 이력은 다시 처리하지 않음
+        assertThat(reconciler.reconcile(NOW.plusMinutes(1))).isZero();
+        assertThat(statusOf("TX-1")).isEqualTo("TIMEOUT");
+    }
+
+    private CoreBankingEvent event(String channelTxId, String apiName, LocalDateTime requestTime, EventStatus status) {
+        return CoreBankingEvent.builder()
+                .channelTxId(channelTxId)
+                .apiName(apiName)
+                .coreSystemType(CoreSystemType.DEPOSIT)
+                .coreEndpoint("/payment/" + apiName)
+                .requestPayload("{\"escrowId\":\"E-1\"}")
+                .requestTime(requestTime)
+                .responsePayload(status == EventStatus.REQUESTED ? null : "{}")
+                .responseTime(status == EventStatus.REQUESTED ? null : requestTime.plusSeconds(1))
+                .status(status)
+                .build();
+    }
+
+    private String statusOf(String channelTxId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT status FROM core_banking_events WHERE channel_tx_id = ?", String.class, channelTxId);
+    }
+}
@@ -0,0 +1,166 @@
+package com.bank.channel.baas.service;
+
+import com.bank.channel.baas.domain.CoreBankingEvent;
+import com.bank.channel.baas.domain.enums.CoreSystemType;
+import com.bank.channel.baas.domain.enums.EventStatus;
+import com.bank.channel.baas.repository.CoreBankingEventBatchRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 계정계 호출 이력 Journal의 합치기/저장 실패 처리 검증
+ */
+class CoreBankingJournalTest {
+
+    private static final LocalDateTime REQUEST_TIME = LocalDateTime.of(2025, 3, 10, 15, 30);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldStoreOnlyFinalResult_WhenRequestedAndResultInSameBatch() throws Exception {
+        // Given
+        FakeRepository repository = new FakeRepository(events -> false, events -> false);
+        CoreBankingJournal journal = start(repository);
+
+        // When
+        journal.flush(List.of(requested("TX-1"), requested("TX-2"), completed("TX-1", "not json")));
+
+        // Then: TX-1은 최종 결과 한 행, JSON이 아닌 응답은 JSON 문자열로 감쌈
+        assertThat(repository.upsertCalls.get()).isEqualTo(1);
+        assertThat(repository.rows.get("TX-1").getStatus()).isEqualTo(EventStatus.SUCCESS);
+        assertThat(repository.rows.get("TX-1").getResponsePayload()).isEqualTo("\"not json\"");
+        assertThat(repository.rows.get("TX-2").getStatus()).isEqualTo(EventStatus.REQUESTED);
+        journal.shutdown();
+    }
+
+    @Test
+    void shouldRetrySameBatch_WhenDatabaseIsTemporarilyUnavailable() throws Exception {
+        // Given: 처음 두 번은 커넥션 획득 실패
+        AtomicInteger failures = new AtomicInteger(2);
+        FakeRepository repository = new FakeRepository(events -> failures.getAndDecrement() > 0, events -> false);
+        CoreBankingJournal journal = start(repository);
+
+        // When
+        journal.flush(List.of(requested("TX-1"), completed("TX-2", "{}")));
+
+        // Then: 버리지 않고 재시도하여 저장
+        assertThat(repository.upsertCalls.get()).isEqualTo(3);
+        assertThat(repository.rows).containsOnlyKeys("TX-1", "TX-2");
+        assertThat(meterRegistry.get("core.banking.journal.retried").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("core.banking.journal.failed").counter().count()).isZero();
+        journal.shutdown();
+    }
+
+    @Test
+    void shouldSkipOnlyInvalidEvent_WhenBatchFailsWithDataError() throws Exception {
+        // Given: TX-BAD가 포함된 upsert는 데이터 오류
+        FakeRepository repository = new FakeRepository(events -> false,
+                events -> events.stream().anyMatch(event -> event.getChannelTxId().equals("TX-BAD")));
+        CoreBankingJournal journal = start(repository);
+
+        // When
+        journal.flush(List.of(requested("TX-1"), requested("TX-BAD"), completed("TX-2", "{}")));
+
+        // Then: 행 단위로 나눠 저장하여 나머지 이력은 저장
+        assertThat(repository.rows).containsOnlyKeys("TX-1", "TX-2");
+        assertThat(meterRegistry.get("core.banking.journal.failed").counter().count()).isEqualTo(1);
+        journal.shutdown();
+    }
+
+    @Test
+    void shouldFlushQueuedEvents_OnShutdown() {
+        // Given
+        FakeRepository repository = new FakeRepository(events -> false, events -> false);
+        CoreBankingJournal journal = start(repository);
+
+        // When
+        journal.record(requested("TX-1"));
+        journal.record(completed("TX-1", "{}"));
+        journal.record(requested("TX-2"));
+        journal.shutdown();
+
+        // Then
+        assertThat(repository.rows.get("TX-1").getStatus()).isEqualTo(EventStatus.SUCCESS);
+        assertThat(repository.rows.get("TX-2").getStatus()).isEqualTo(EventStatus.REQUESTED);
+    }
+
+    private CoreBankingJournal start(CoreBankingEventBatchRepository repository) {
+        CoreBankingJournal journal = new CoreBankingJournal(repository, new ObjectMapper(), meterRegistry);
+        ReflectionTestUtils.setField(journal, "queueCapacity", 100);
+        ReflectionTestUtils.setField(journal, "batchSize", 200);
+        ReflectionTestUtils.setField(journal, "flushIntervalMs", 10L);
+        ReflectionTestUtils.setField(journal, "blockTimeoutMs", 20L);
+        ReflectionTestUtils.setField(journal, "shutdownTimeoutMs", 5000L);
+        ReflectionTestUtils.setField(journal, "retryBackoffMs", 1L);
+        ReflectionTestUtils.setField(journal, "maxRetryBackoffMs", 5L);
+        journal.start();
+        return journal;
+    }
+
+    private static CoreBankingEvent requested(String channelTxId) {
+        return CoreBankingEvent.builder()
+                .channelTxId(channelTxId)
+                .apiName("approval")
+                .coreSystemType(CoreSystemType.DEPOSIT)
+                .coreEndpoint("/payment/approval")
+                .requestPayload("{\"escrowId\":\"E-1\"}")
+                .requestTime(REQUEST_TIME)
+                .status(EventStatus.REQUESTED)
+                .build();
+    }
+
+    private static CoreBankingEvent completed(String channelTxId, String responsePayload) {
+        return requested(channelTxId).toBuilder()
+                .responsePayload(responsePayload)
+                .responseTime(REQUEST_TIME.plusSeconds(1))
+                .status(EventStatus.SUCCESS)
+                .build();
+    }
+
+    /**
+     * channel_tx_id 기준 upsert를 메모리로 재현하고, 조건에 따라 DB 오류를 발생시키는 Repository
+     */
+    private static class FakeRepository extends CoreBankingEventBatchRepository {
+
+        private final Predicate<List<CoreBankingEvent>> unavailable;
+        private final Predicate<List<CoreBankingEvent>> dataError;
+        private final Map<String, CoreBankingEvent> rows = new ConcurrentHashMap<>();
+        private final AtomicInteger upsertCalls = new AtomicInteger();
+
+        FakeRepository(Predicate<List<CoreBankingEvent>> unavailable, Predicate<List<CoreBankingEvent>> dataError) {
+            super(new JdbcTemplate());
+            this.unavailable = unavailable;
+            this.dataError = dataError;
+        }
+
+        @Override
+        public int upsertAll(List<CoreBankingEvent> events) {
+            upsertCalls.incrementAndGet();
+            if (unavailable.test(events)) {
+                throw new CannotGetJdbcConnectionException("Connection is not available");
+            }
+            if (dataError.test(events)) {
+                throw new DataIntegrityViolationException("Data too long for column 'core_endpoint'");
+            }
+            for (CoreBankingEvent event : events) {
+                rows.merge(event.getChannelTxId(), event,
+                        (saved, next) -> next.getStatus() == EventStatus.REQUESTED ? saved : next);
+            }
+            return events.size();
+        }
+    }
+}
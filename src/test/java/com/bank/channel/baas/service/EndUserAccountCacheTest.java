@@ -0,0 +1,44 @@
+package com.bank.channel.baas.service;
+
+import com.bank.channel.baas.repository.EndUserUpsertRepository.AccountRef;
+import com.bank.channel.baas.service.EndUserAccountCache.CachedAccount;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EndUserAccountCacheTest {
+
+    @Test
+    void shouldPackNumericAccountIntoSingleLong() {
+        assertThat(EndUserAccountCache.toKey("020", "1002123456789")).isInstanceOf(Long.class);
+        assertThat(EndUserAccountCache.toKey("020", "1002123456789"))
+                .isEqualTo(EndUserAccountCache.toKey("020", "1002123456789"));
+    }
+
+    @Test
+    void shouldDistinguishLeadingZerosAndBankCodes() {
+        // 계좌번호 값이 같아도 길이(앞자리 0)나 은행 코드가 다르면 다른 키
+        assertThat(EndUserAccountCache.toKey("020", "0123"))
+                .isNotEqualTo(EndUserAccountCache.toKey("020", "123"));
+        assertThat(EndUserAccountCache.toKey("020", "123456"))
+                .isNotEqualTo(EndUserAccountCache.toKey("088", "123456"));
+        assertThat(EndUserAccountCache.toKey("999", "999999999999999"))
+                .isNotEqualTo(EndUserAccountCache.toKey("999", "99999999999999"));
+    }
+
+    @Test
+    void shouldFallBackToStringKeyForNonNumericOrLongAccount() {
+        assertThat(EndUserAccountCache.toKey("020", "1002-123-456789")).isEqualTo("020:1002-123-456789");
+        assertThat(EndUserAccountCache.toKey("020", "1234567890123456")).isEqualTo("020:1234567890123456");
+    }
+
+    @Test
+    void shouldRestoreEndUserIdFromCompactForm() {
+        String uuid = UUID.randomUUID().toString();
+        assertThat(CachedAccount.from(new AccountRef(1L, uuid)).getEndUserId()).isEqualTo(uuid);
+        assertThat(CachedAccount.from(new AccountRef(2L, "legacy-user-1")).getEndUserId()).isEqualTo("legacy-user-1");
+        assertThat(CachedAccount.from(new AccountRef(2L, "legacy-user-1")).getAccountId()).isEqualTo(2L);
+    }
+}
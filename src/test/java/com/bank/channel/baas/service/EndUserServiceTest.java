@@ -0,0 +1,217 @@
+package com.bank.channel.baas.service;
+
+import com.bank.channel.baas.domain.enums.MerchantStatus;
+import com.bank.channel.baas.dto.NonBank.AccountInfoWithPhone;
+import com.bank.channel.baas.dto.NonBank.PaymentAuthorizeRequest;
+import com.bank.channel.baas.repository.EndUserUpsertRepository;
+import com.bank.channel.baas.repository.EndUserUpsertRepository.AccountRef;
+import com.bank.channel.baas.service.MerchantApiKeyCache.CachedMerchant;
+import com.bank.channel.global.exception.CustomException;
+import com.bank.channel.global.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * EndUserService의 가맹점 확인, 트랜잭션 rollback, FK 위반 변환 검증 (H2 MySQL 모드)
+ */
+class EndUserServiceTest {
+
+    private static final String CREATE_MERCHANTS = """
+            CREATE TABLE merchants (
+                merchant_id VARCHAR(50) NOT NULL PRIMARY KEY
+            )
+            """;
+
+    private static final String CREATE_BAAS_END_USERS = """
+            CREATE TABLE baas_end_users (
+                end_user_id  VARCHAR(255) NOT NULL PRIMARY KEY,
+                merchant_id  VARCHAR(50)  NOT NULL,
+                user_name    VARCHAR(100) NOT NULL,
+                phone_number VARCHAR(20),
+                status       VARCHAR(20),
+                created_at   DATETIME(6)  NOT NULL,
+                updated_at   DATETIME(6)  NOT NULL,
+                CONSTRAINT fk_baas_end_users_merchant_id FOREIGN KEY (merchant_id) REFERENCES merchants (merchant_id)
+            )
+            """;
+
+    private static final String CREATE_BAAS_USER_ACCOUNTS = """
+            CREATE TABLE baas_user_accounts (
+                account_id          BIGINT       NOT NULL PRIMARY KEY,
+                end_user_id         VARCHAR(255) NOT NULL,
+                bank_code           VARCHAR(10)  NOT NULL,
+                bank_name           VARCHAR(50)  NOT NULL,
+                account_number      VARCHAR(50)  NOT NULL,
+                account_holder_name VARCHAR(100) NOT NULL,
+                is_verified         BOOLEAN,
+                created_at          DATETIME(6)  NOT NULL,
+                updated_at          DATETIME(6)  NOT NULL,
+                CONSTRAINT uk_baas_user_accounts_account_number_bank_code UNIQUE (account_number, bank_code),
+                CONSTRAINT fk_baas_user_accounts_end_user_id FOREIGN KEY (end_user_id) REFERENCES baas_end_users (end_user_id)
+            )
+            """;
+
+    private JdbcTemplate jdbcTemplate;
+    private FakeMerchantApiKeyCache merchantApiKeyCache;
+    private ScriptedEndUserUpsertRepository endUserUpsertRepository;
+    private EndUserAccountCache endUserAccountCache;
+    private EndUserService endUserService;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute(CREATE_MERCHANTS);
+        jdbcTemplate.execute(CREATE_BAAS_END_USERS);
+        jdbcTemplate.execute(CREATE_BAAS_USER_ACCOUNTS);
+        jdbcTemplate.update("INSERT INTO merchants (merchant_id) VALUES ('WK')");
+
+        merchantApiKeyCache = new FakeMerchantApiKeyCache();
+        merchantApiKeyCache.merchants.put("WK", new CachedMerchant("WK", MerchantStatus.ACTIVE));
+
+        endUserUpsertRepository = new ScriptedEndUserUpsertRepository(jdbcTemplate);
+        endUserAccountCache = new EndUserAccountCache(endUserUpsertRepository, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(endUserAccountCache, "maximumSize", 100L);
+        ReflectionTestUtils.setField(endUserAccountCache, "ttl", Duration.ofHours(1));
+        endUserAccountCache.init();
+
+        endUserService = new EndUserService(endUserUpsertRepository, endUserAccountCache, merchantApiKeyCache,
+                new DataSourceTransactionManager(dataSource));
+    }
+
+    @Test
+    void shouldSaveEndUserAndAccount_ForNewAccount() {
+        // When
+        endUserService.saveOrUpdateUserAndAccount(request("WK", "1002123456789"));
+
+        // Then
+        assertThat(countRows("baas_end_users")).isEqualTo(1);
+        assertThat(countRows("baas_user_accounts")).isEqualTo(1);
+        assertThat(endUserAccountCache.find("020", "1002123456789")).isPresent();
+    }
+
+    @Test
+    void shouldRejectUnknownOrSuspendedMerchant_EvenWhenAccountIsRegistered() {
+        // Given: WK 가맹점으로 이미 등록된 계좌
+        endUserService.saveOrUpdateUserAndAccount(request("WK", "1002123456789"));
+        merchantApiKeyCache.merchants.put("SUSPENDED", new CachedMerchant("SUSPENDED", MerchantStatus.SUSPENDED));
+
+        // When & Then: 기존 계좌는 FK 검사를 거치지 않지만 가맹점 확인에서 차단
+        assertThatThrownBy(() -> endUserService.saveOrUpdateUserAndAccount(request("UNKNOWN", "1002123456789")))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.MERCHANT_NOT_FOUND));
+        assertThatThrownBy(() -> endUserService.saveOrUpdateUserAndAccount(request("SUSPENDED", "1002123456789")))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.MERCHANT_NOT_FOUND));
+    }
+
+    @Test
+    void shouldMapForeignKeyViolation_ToMerchantNotFound() {
+        // Given: 캐시에는 남아 있지만 DB에서 삭제된 가맹점
+        merchantApiKeyCache.merchants.put("DELETED", new CachedMerchant("DELETED", MerchantStatus.ACTIVE));
+
+        // When & Then
+        assertThatThrownBy(() -> endUserService.saveOrUpdateUserAndAccount(request("DELETED", "1002123456789")))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.MERCHANT_NOT_FOUND));
+        assertThat(countRows("baas_end_users")).isZero();
+    }
+
+    @Test
+    void shouldRollBackEndUser_WhenAccountUpsertFails() {
+        // Given
+        endUserUpsertRepository.failure = new DataAccessResourceFailureException("connection lost");
+
+        // When & Then: End User만 남지 않음
+        assertThatThrownBy(() -> endUserService.saveOrUpdateUserAndAccount(request("WK", "1002123456789")))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+        assertThat(countRows("baas_end_users")).isZero();
+        assertThat(countRows("baas_user_accounts")).isZero();
+    }
+
+    @Test
+    void shouldRollBackEndUser_WhenAccountLinkedConcurrently() {
+        // Given: 동시 요청이 같은 계좌를 다른 End User에 먼저 연결
+        AccountRef concurrent = new AccountRef(1L, UUID.randomUUID().toString());
+        endUserUpsertRepository.linkedRef = concurrent;
+
+        // When
+        endUserService.saveOrUpdateUserAndAccount(request("WK", "1002123456789"));
+
+        // Then: 방금 만든 End User는 저장되지 않고 먼저 연결된 계좌를 캐싱
+        assertThat(countRows("baas_end_users")).isZero();
+        assertThat(endUserAccountCache.find("020", "1002123456789"))
+                .hasValueSatisfying(account -> assertThat(account.getEndUserId()).isEqualTo(concurrent.endUserId()));
+    }
+
+    private int countRows(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+    }
+
+    private static PaymentAuthorizeRequest request(String merchantId, String accountNo) {
+        return PaymentAuthorizeRequest.builder()
+                .merchantId(merchantId)
+                .userName("홍길동")
+                .orderNo("ORDER-1")
+                .payerInfo(new AccountInfoWithPhone("010-1234-5678", accountNo, "020", "홍길동"))
+                .build();
+    }
+
+    /**
+     * merchantId → 가맹점 정보를 고정된 값으로 반환하는 캐시
+     */
+    private static class FakeMerchantApiKeyCache extends MerchantApiKeyCache {
+
+        private final Map<String, CachedMerchant> merchants = new HashMap<>();
+
+        FakeMerchantApiKeyCache() {
+            super(null, new SimpleMeterRegistry());
+        }
+
+        @Override
+        public Optional<CachedMerchant> findByMerchantId(String merchantId) {
+            return Optional.ofNullable(merchants.get(merchantId));
+        }
+    }
+
+    /**
+     * 계좌 upsert 결과를 지정할 수 있는 Repository (End User INSERT는 실제로 수행)
+     */
+    private static class ScriptedEndUserUpsertRepository extends EndUserUpsertRepository {
+
+        private RuntimeException failure;
+        private AccountRef linkedRef;
+
+        ScriptedEndUserUpsertRepository(JdbcTemplate jdbcTemplate) {
+            super(jdbcTemplate);
+        }
+
+        @Override
+        public AccountRef upsertAccount(String endUserId, String bankCode, String bankName, String accountNumber,
+                                        String accountHolderName) {
+            if (failure != null) {
+                throw failure;
+            }
+            if (linkedRef != null) {
+                return linkedRef;
+            }
+            return super.upsertAccount(endUserId, bankCode, bankName, accountNumber, accountHolderName);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.bank.channel.baas.service;
+
+import com.bank.channel.baas.domain.Merchant;
+import com.bank.channel.baas.domain.enums.MerchantStatus;
+import com.bank.channel.baas.repository.MerchantRepository;
+import com.bank.channel.baas.service.MerchantApiKeyCache.CachedMerchant;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MerchantApiKeyCacheTest {
+
+    private final Map<String, Merchant> merchantsByApiKey = new ConcurrentHashMap<>();
+    private final Map<String, Merchant> merchantsById = new ConcurrentHashMap<>();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private MerchantApiKeyCache cache;
+
+    @BeforeEach
+    void setUp() {
+        // DB 조회가 겹치도록 조회마다 50ms 지연
+        MerchantRepository repository = (MerchantRepository) Proxy.newProxyInstance(
+                MerchantRepository.class.getClassLoader(), new Class<?>[]{MerchantRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findByApiKey" -> load(merchantsByApiKey, (String) args[0]);
+                    case "findByMerchantId" -> load(merchantsById, (String) args[0]);
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+
+        cache = new MerchantApiKeyCache(repository, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(cache, "maximumSize", 100L);
+        ReflectionTestUtils.setField(cache, "ttl", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(cache, "negativeTtl", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(cache, "negativeMaximumSize", 100L);
+        cache.init();
+    }
+
+    @Test
+    void shouldLoadOnce_ForConcurrentMissesOfSameApiKey() throws Exception {
+        // Given
+        register("WK", "wk-api-key", MerchantStatus.ACTIVE);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When: 같은 Key로 동시에 8건 조회
+        List<Optional<CachedMerchant>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<Optional<CachedMerchant>>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return cache.findByApiKey("wk-api-key");
+                }));
+            }
+            start.countDown();
+            for (Future<Optional<CachedMerchant>> future : futures) {
+                results.add(future.get());
+            }
+        }
+
+        // Then: DB 조회는 한 번이고 모두 같은 결과
+        assertThat(loads).hasValue(1);
+        assertThat(results).allSatisfy(result ->
+                assertThat(result).hasValueSatisfying(merchant -> assertThat(merchant.merchantId()).isEqualTo("WK")));
+    }
+
+    @Test
+    void shouldCacheUnknownApiKey_UntilEvicted() {
+        // Given & When
+        assertThat(cache.findByApiKey("unknown")).isEmpty();
+        assertThat(cache.findByApiKey("unknown")).isEmpty();
+
+        // Then: 존재하지 않는 Key도 다시 조회하지 않음
+        assertThat(loads).hasValue(1);
+
+        // 전체 evict 후에는 새로 등록된 Key를 조회
+        register("GH", "unknown", MerchantStatus.ACTIVE);
+        cache.evictAll();
+        assertThat(cache.findByApiKey("unknown")).isPresent();
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void shouldReflectMerchantChanges_AfterEvictByMerchantId() {
+        // Given: 아직 없는 가맹점과 활성 가맹점이 캐싱된 상태
+        register("WK", "wk-api-key", MerchantStatus.ACTIVE);
+        assertThat(cache.findByMerchantId("GH")).isEmpty();
+        assertThat(cache.findByApiKey("wk-api-key")).hasValueSatisfying(merchant -> assertThat(merchant.isActive()).isTrue());
+
+        // When: 가맹점 등록/정지 후 evict
+        register("GH", "gh-api-key", MerchantStatus.ACTIVE);
+        register("WK", "wk-api-key", MerchantStatus.SUSPENDED);
+        cache.evictByMerchantId("GH");
+        cache.evictByMerchantId("WK");
+
+        // Then
+        assertThat(cache.findByMerchantId("GH")).isPresent();
+        assertThat(cache.findByApiKey("wk-api-key")).hasValueSatisfying(merchant -> assertThat(merchant.isActive()).isFalse());
+    }
+
+    private Optional<Merchant> load(Map<String, Merchant> merchants, String key) throws InterruptedException {
+        loads.incrementAndGet();
+        Thread.sleep(50);
+        return Optional.ofNullable(merchants.get(key));
+    }
+
+    private void register(String merchantId, String apiKey, MerchantStatus status) {
+        Merchant merchant = BeanUtils.instantiateClass(Merchant.class);
+        ReflectionTestUtils.setField(merchant, "merchantId", merchantId);
+        ReflectionTestUtils.setField(merchant, "apiKey", apiKey);
+        ReflectionTestUtils.setField(merchant, "status", status);
+        merchantsByApiKey.put(apiKey, merchant);
+        merchantsById.put(merchantId, merchant);
+    }
+}
@@ -0,0 +1,183 @@
+package com.bank.channel.baas.service;
+
+import com.bank.channel.global.exception.CustomException;
+import com.bank.channel.global.exception.ErrorCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PaymentIdempotencyStoreTest {
+
+    private static final Map<String, String> REQUEST = Map.of("escrowId", "E-1");
+
+    private PaymentIdempotencyStore store;
+    private AtomicInteger coreCalls;
+
+    @BeforeEach
+    void setUp() {
+        store = new PaymentIdempotencyStore(new ObjectMapper(), new SimpleMeterRegistry(), 1000, Duration.ofMinutes(10), Duration.ofSeconds(5));
+        coreCalls = new AtomicInteger();
+    }
+
+    @Test
+    void shouldCoalesceConcurrentDuplicatesOntoInFlightRequest() throws Exception {
+        // Given: 최초 요청이 계정계 응답을 기다리는 동안 같은 키로 재시도 10건
+        CountDownLatch coreCalled = new CountDownLatch(1);
+        CountDownLatch coreResponds = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(11);
+        try {
+            CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> store.execute("approval", "WK", "key-1", REQUEST, () -> {
+                coreCalled.countDown();
+                await(coreResponds);
+                return "escrow-" + coreCalls.incrementAndGet();
+            }), executor);
+            assertThat(coreCalled.await(5, TimeUnit.SECONDS)).isTrue();
+
+            CompletableFuture<?>[] retries = new CompletableFuture<?>[10];
+            for (int i = 0; i < retries.length; i++) {
+                retries[i] = CompletableFuture.supplyAsync(
+                        () -> store.execute("approval", "WK", "key-1", REQUEST, () -> "escrow-" + coreCalls.incrementAndGet()), executor);
+            }
+
+            // When
+            coreResponds.countDown();
+
+            // Then: 계정계 호출은 1번, 모든 요청이 같은 결과
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("escrow-1");
+            for (CompletableFuture<?> retry : retries) {
+                assertThat(retry.get(5, TimeUnit.SECONDS)).isEqualTo("escrow-1");
+            }
+            assertThat(coreCalls.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldReplayCompletedResponse_AndScopeKeysByOperationAndMerchant() {
+        assertThat(store.execute("confirm", "WK", "key-1", REQUEST, () -> "payment-" + coreCalls.incrementAndGet())).isEqualTo("payment-1");
+        assertThat(store.execute("confirm", "WK", "key-1", REQUEST, () -> "payment-" + coreCalls.incrementAndGet())).isEqualTo("payment-1");
+
+        // 다른 API / 다른 가맹점 / 키 없음은 별도 처리
+        assertThat(store.execute("approval", "WK", "key-1", REQUEST, () -> "payment-" + coreCalls.incrementAndGet())).isEqualTo("payment-2");
+        assertThat(store.execute("confirm", "GH", "key-1", REQUEST, () -> "payment-" + coreCalls.incrementAndGet())).isEqualTo("payment-3");
+        assertThat(store.execute("confirm", "WK", null, REQUEST, () -> "payment-" + coreCalls.incrementAndGet())).isEqualTo("payment-4");
+        assertThat(store.execute("confirm", "WK", null, REQUEST, () -> "payment-" + coreCalls.incrementAndGet())).isEqualTo("payment-5");
+    }
+
+    @Test
+    void shouldNotStoreFailures_SoRetryIsProcessedAgain() {
+        // 예외는 저장하지 않음
+        assertThatThrownBy(() -> store.execute("approval", "WK", "key-1", REQUEST, () -> {
+            coreCalls.incrementAndGet();
+            throw new CustomException(ErrorCode.CORE_SYSTEM_UNAVAILABLE);
+        })).isInstanceOf(CustomException.class);
+        assertThat(store.execute("approval", "WK", "key-1", REQUEST, () -> "escrow-" + coreCalls.incrementAndGet())).isEqualTo("escrow-2");
+
+        // 재사용하지 않는 응답(인증 실패 응답 등)도 저장하지 않음
+        assertThat(store.execute("authorize", "WK", "order-1", REQUEST, () -> "fail-" + coreCalls.incrementAndGet(), result -> false)).isEqualTo("fail-3");
+        assertThat(store.execute("authorize", "WK", "order-1", REQUEST, () -> "fail-" + coreCalls.incrementAndGet(), result -> false)).isEqualTo("fail-4");
+    }
+
+    @Test
+    void shouldRejectDuplicate_WhenInFlightRequestExceedsWaitTimeout() throws Exception {
+        PaymentIdempotencyStore shortWait = new PaymentIdempotencyStore(new ObjectMapper(), new SimpleMeterRegistry(), 1000, Duration.ofMinutes(10), Duration.ofMillis(50));
+        CountDownLatch coreCalled = new CountDownLatch(1);
+        CountDownLatch coreResponds = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> shortWait.execute("approval", "WK", "key-1", REQUEST, () -> {
+                coreCalled.countDown();
+                await(coreResponds);
+                return "escrow-1";
+            }));
+            assertThat(coreCalled.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThatThrownBy(() -> shortWait.execute("approval", "WK", "key-1", REQUEST, () -> "escrow-2"))
+                    .isInstanceOf(CustomException.class)
+                    .extracting("errorCode")
+                    .isEqualTo(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+        } finally {
+            coreResponds.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldBypassStore_WhenMerchantIsNotAuthenticated() {
+        // 가맹점 미식별 요청끼리 같은 업무 키(orderNo 등)를 써도 서로의 응답을 받지 않음
+        assertThat(store.execute("authorize", null, "orderNo=1", REQUEST, () -> "escrow-" + coreCalls.incrementAndGet())).isEqualTo("escrow-1");
+        assertThat(store.execute("authorize", null, "orderNo=1", REQUEST, () -> "escrow-" + coreCalls.incrementAndGet())).isEqualTo("escrow-2");
+    }
+
+    @Test
+    void shouldRejectSameKeyWithDifferentRequest() {
+        // Given
+        assertThat(store.execute("approval", "WK", "key-1", REQUEST, () -> "escrow-" + coreCalls.incrementAndGet())).isEqualTo("escrow-1");
+
+        // When & Then: 같은 키로 다른 에스크로 승인 요청
+        assertThatThrownBy(() -> store.execute("approval", "WK", "key-1", Map.of("escrowId", "E-2"),
+                () -> "escrow-" + coreCalls.incrementAndGet()))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+        assertThat(coreCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotEvictInFlightRequest_WhenStoreIsFull() throws Exception {
+        // Given: 크기 1인 저장소에서 key-1 처리 중
+        PaymentIdempotencyStore small = new PaymentIdempotencyStore(new ObjectMapper(), new SimpleMeterRegistry(), 1, Duration.ofMinutes(10), Duration.ofSeconds(5));
+        CountDownLatch coreCalled = new CountDownLatch(1);
+        CountDownLatch coreResponds = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> small.execute("approval", "WK", "key-1", REQUEST, () -> {
+                coreCalled.countDown();
+                await(coreResponds);
+                return "escrow-" + coreCalls.incrementAndGet();
+            }), executor);
+            assertThat(coreCalled.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // When: 다른 키의 완료된 응답이 크기를 넘도록 쌓임
+            for (int i = 0; i < 10; i++) {
+                int index = i;
+                small.execute("approval", "WK", "other-" + index, REQUEST, () -> "other-" + index);
+            }
+            Cache<?, ?> responses = (Cache<?, ?>) ReflectionTestUtils.getField(small, "responses");
+            responses.cleanUp();
+
+            // Then: 완료된 응답만 크기 제한으로 제거되고, 처리 중인 key-1은 남아 재시도가 같은 결과를 기다림
+            assertThat(responses.estimatedSize()).isLessThanOrEqualTo(2);
+            assertThat(responses.asMap()).containsKey("approval:WK:key-1");
+            coreResponds.countDown();
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("escrow-1");
+            assertThat(coreCalls.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.bank.channel.baas.service;
+
+import com.bank.channel.baas.domain.ApiCallLog;
+import com.bank.channel.baas.domain.enums.HttpMethod;
+import com.bank.channel.baas.repository.ApiCallLogBatchRepository;
+import com.bank.channel.baas.repository.UsageRepository;
+import com.bank.channel.baas.repository.UsageRollupRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * rollup + tail 집계가 원본 로그 집계(UsageRepository)와 항상 같은 건수를 반환하는지 검증 (H2 MySQL 모드)
+ */
+class UsageRollupCompactorTest {
+
+    private static final String CREATE_API_CALL_LOGS = """
+            CREATE TABLE api_call_logs (
+                log_id       BIGINT AUTO_INCREMENT PRIMARY KEY,
+                trace_id     BINARY(16)   NOT NULL,
+                merchant_id  VARCHAR(50)  NOT NULL,
+                api_endpoint VARCHAR(200) NOT NULL,
+                http_method  VARCHAR(10)  NOT NULL,
+                request_at   DATETIME(6)  NOT NULL,
+                response_at  DATETIME(6)  NOT NULL,
+                latency_ms   INT          NOT NULL,
+                latency_us   BIGINT,
+                status_code  INT          NOT NULL
+            )
+            """;
+
+    private static final List<String> MERCHANTS = List.of("WK", "GH", "EMPTY");
+    private static final List<String> ENDPOINTS = List.of("/api/v1/payments/authorize", "/api/v1/payments/approval", "/api/v1/usages/WK");
+    private static final int[] STATUS_CODES = {200, 201, 302, 400, 401, 404, 500, 503};
+    private static final LocalDate FIRST_DAY = LocalDate.of(2025, 3, 1);
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 4, 10, 7);
+
+    private JdbcTemplate jdbcTemplate;
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private ApiCallLogBatchRepository apiCallLogBatchRepository;
+    private UsageRollupRepository usageRollupRepository;
+    private UsageRollupCompactor compactor;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute(CREATE_API_CALL_LOGS);
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V2__api_usage_rollups.sql")).execute(dataSource);
+
+        namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        apiCallLogBatchRepository = new ApiCallLogBatchRepository(jdbcTemplate);
+        usageRollupRepository = new UsageRollupRepository(jdbcTemplate);
+        compactor = new UsageRollupCompactor(usageRollupRepository, transactionTemplate,
+                Duration.ofMinutes(5), Duration.ofHours(1), 1000);
+    }
+
+    @Test
+    void shouldMatchRawAggregation_WhenPartiallyRolledUp() {
+        // Given: 3/1 ~ 3/5 랜덤 로그 + 자정 경계 로그
+        insertRandomLogs(new Random(42), 3000);
+
+        // When: 3/4 10:07 기준 compaction (settle-delay 5분 → 10:00까지 rollup)
+        compactor.compact(NOW);
+
+        // Then
+        assertThat(usageRollupRepository.findWatermark()).contains(LocalDateTime.of(2025, 3, 4, 10, 0));
+        assertExactForAllRanges();
+    }
+
+    @Test
+    void shouldMatchRawAggregation_WhenNothingRolledUp() {
+        // Given
+        insertRandomLogs(new Random(7), 500);
+
+        // When & Then: watermark가 없으면 전 구간 원본 집계
+        assertThat(usageRollupRepository.findWatermark()).isEmpty();
+        assertExactForAllRanges();
+    }
+
+    @Test
+    void shouldStayExact_WhenLateLogsArriveBelowWatermark() {
+        // Given
+        insertRandomLogs(new Random(3), 1000);
+        compactor.compact(NOW);
+
+        // When: 이미 rollup된 시간대의 로그가 늦게 적재 (ApiCallLogWriter와 동일하게 같은 트랜잭션에서 watermark 되돌림)
+        LocalDateTime lateRequestAt = LocalDateTime.of(2025, 3, 2, 5, 30, 15);
+        List<ApiCallLog> lateLogs = List.of(
+                log("WK", ENDPOINTS.get(0), lateRequestAt, 200),
+                log("WK", ENDPOINTS.get(1), lateRequestAt.plusMinutes(1), 500),
+                log("GH", ENDPOINTS.get(0), lateRequestAt.plusHours(20), 404)
+        );
+        transactionTemplate.executeWithoutResult(status -> {
+            usageRollupRepository.invalidateFrom(lateRequestAt.truncatedTo(ChronoUnit.HOURS));
+            apiCallLogBatchRepository.insertAll(lateLogs);
+        });
+
+        // Then: 재집계 전에도 정확
+        assertThat(usageRollupRepository.findWatermark()).contains(LocalDateTime.of(2025, 3, 2, 5, 0));
+        assertExactForAllRanges();
+
+        // 다음 compaction에서 되돌린 구간을 다시 집계하고 watermark 복구
+        compactor.compact(NOW);
+        assertThat(usageRollupRepository.findWatermark()).contains(LocalDateTime.of(2025, 3, 4, 10, 0));
+        assertExactForAllRanges();
+    }
+
+    @Test
+    void shouldResumeFromWatermark_WhenMaxHoursPerRunReached() {
+        // Given: 한 번에 10시간씩만 집계
+        insertRandomLogs(new Random(11), 1000);
+        UsageRollupCompactor limited = new UsageRollupCompactor(usageRollupRepository, transactionTemplate,
+                Duration.ofMinutes(5), Duration.ZERO, 10);
+
+        // When
+        limited.compact(NOW);
+        LocalDateTime firstWatermark = usageRollupRepository.findWatermark().orElseThrow();
+        assertExactForAllRanges();
+        limited.compact(NOW);
+
+        // Then
+        assertThat(usageRollupRepository.findWatermark()).contains(firstWatermark.plusHours(10));
+        assertExactForAllRanges();
+    }
+
+    @Test
+    void shouldIncludeWholeEndDate_AndExcludeNextMidnight() {
+        // Given: 3/2 하루의 시작/끝 + 다음 날 자정
+        LocalDateTime day = FIRST_DAY.plusDays(1).atStartOfDay();
+        apiCallLogBatchRepository.insertAll(List.of(
+                log("WK", ENDPOINTS.get(0), day, 200),
+                log("WK", ENDPOINTS.get(0), day.plusDays(1).minusNanos(1000), 404),
+                log("WK", ENDPOINTS.get(0), day.plusDays(1), 500)
+        ));
+
+        // When: 3/2 ~ 3/2 조회 [3/2 00:00, 3/3 00:00)
+        Map<String, Long> counts = transactionTemplate.execute(status -> usageRollupRepository.countByStatusGroup(
+                "WK", day, day.plusDays(1)));
+
+        // Then
+        assertThat(counts).containsExactlyInAnyOrderEntriesOf(Map.of("2XX", 1L, "4XX", 1L));
+        assertThat(rawAggregation("WK", day, day.plusDays(1))).isEqualTo(counts);
+    }
+
+    private void assertExactForAllRanges() {
+        List<LocalDate[]> ranges = List.of(
+                new LocalDate[]{FIRST_DAY, FIRST_DAY},
+                new LocalDate[]{FIRST_DAY, FIRST_DAY.plusDays(2)},
+                new LocalDate[]{FIRST_DAY.plusDays(1), FIRST_DAY.plusDays(4)},
+                new LocalDate[]{FIRST_DAY.plusDays(3), FIRST_DAY.plusDays(3)},
+                new LocalDate[]{FIRST_DAY.plusDays(3), FIRST_DAY.plusDays(5)},
+                new LocalDate[]{FIRST_DAY.minusDays(10), FIRST_DAY.plusDays(30)}
+        );
+
+        for (String merchantId : MERCHANTS) {
+            for (LocalDate[] range : ranges) {
+                // UsageService와 동일하게 종료일 하루 전체 포함 [시작일 00:00, 종료일 다음 날 00:00)
+                LocalDateTime start = range[0].atStartOfDay();
+                LocalDateTime end = range[1].plusDays(1).atStartOfDay();
+                Map<String, Long> expected = rawAggregation(merchantId, start, end);
+                Map<String, Long> actual = transactionTemplate.execute(status -> usageRollupRepository.countByStatusGroup(
+                        merchantId, start, end));
+
+                assertThat(actual)
+                        .as("merchant %s, %s ~ %s", merchantId, range[0], range[1])
+                        .isEqualTo(expected);
+            }
+        }
+    }
+
+    private Map<String, Long> rawAggregation(String merchantId, LocalDateTime start, LocalDateTime end) {
+        Map<String, Long> counts = new HashMap<>();
+        namedParameterJdbcTemplate.query(UsageRepository.AGGREGATE_BY_STATUS_GROUP_SQL,
+                new MapSqlParameterSource()
+                        .addValue("merchantId", merchantId)
+                        .addValue("start", start)
+                        .addValue("end", end),
+                rs -> { counts.put(rs.getString("statusGroup"), rs.getLong("count")); });
+        return counts;
+    }
+
+    private void insertRandomLogs(Random random, int count) {
+        List<ApiCallLog> logs = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            LocalDateTime requestAt = FIRST_DAY.atStartOfDay()
+                    .plusSeconds(random.nextInt(5 * 24 * 3600))
+                    .plusNanos(random.nextInt(1_000_000) * 1000L);
+            logs.add(randomLog(random, requestAt));
+        }
+
+        // 자정 / 정시 경계 (종료 시각 정각은 미포함)
+        for (int day = 0; day <= 5; day++) {
+            LocalDateTime midnight = FIRST_DAY.plusDays(day).atStartOfDay();
+            logs.add(randomLog(random, midnight));
+            logs.add(randomLog(random, midnight.minusNanos(1000)));
+            logs.add(randomLog(random, midnight.plusHours(10)));
+        }
+
+        for (int from = 0; from < logs.size(); from += 200) {
+            apiCallLogBatchRepository.insertAll(logs.subList(from, Math.min(from + 200, logs.size())));
+        }
+    }
+
+    private ApiCallLog randomLog(Random random, LocalDateTime requestAt) {
+        // EMPTY 가맹점은 로그가 없는 경우 검증용
+        String merchantId = MERCHANTS.get(random.nextInt(MERCHANTS.size() - 1));
+        return log(merchantId,
+                ENDPOINTS.get(random.nextInt(ENDPOINTS.size())),
+                requestAt,
+                STATUS_CODES[random.nextInt(STATUS_CODES.length)]);
+    }
+
+    private ApiCallLog log(String merchantId, String apiEndpoint, LocalDateTime requestAt, int statusCode) {
+        return ApiCallLog.builder()
+                .traceId(UUID.randomUUID().toString())
+                .merchantId(merchantId)
+                .apiEndpoint(apiEndpoint)
+                .httpMethod(HttpMethod.POST)
+                .requestAt(requestAt)
+                .responseAt(requestAt.plusNanos(5_000_000))
+                .latencyMs(5)
+                .statusCode(statusCode)
+                .build();
+    }
+}
@@ -0,0 +1,105 @@
+package com.bank.channel.global.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnowflakeIdGeneratorTest {
+
+    private static final long NOW = Instant.parse("2025-03-10T06:30:00Z").toEpochMilli();
+
+    @Test
+    void shouldEncodeTimestampAndNodeId() {
+        // Given
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(37, () -> NOW);
+
+        // When
+        long id = generator.nextId();
+
+        // Then
+        assertThat(id).isPositive();
+        assertThat(SnowflakeIdGenerator.timestampOf(id)).isEqualTo(NOW);
+        assertThat(SnowflakeIdGenerator.nodeIdOf(id)).isEqualTo(37);
+    }
+
+    @Test
+    void shouldKeepIncreasing_WhenSequenceOverflowsOrClockGoesBack() {
+        // Given: 시계가 멈춘 상태에서 밀리초당 순번(4096)을 넘게 발급한 뒤 시계가 뒤로 감
+        AtomicLong clock = new AtomicLong(NOW);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, clock::get);
+
+        // When
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(generator.nextId());
+        }
+        clock.set(NOW - 5_000);
+        ids.add(generator.nextId());
+
+        // Then: 대기 없이 다음 밀리초를 이어서 사용하여 계속 증가
+        assertThat(ids).isSorted().doesNotHaveDuplicates();
+        assertThat(SnowflakeIdGenerator.timestampOf(ids.get(ids.size() - 1))).isEqualTo(NOW + 2);
+    }
+
+    @Test
+    void shouldBeUnique_AcrossThreads() throws Exception {
+        // Given
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(0);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+        // When
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        ids.add(generator.nextId());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        // Then
+        assertThat(ids).hasSize(8 * 20_000);
+    }
+
+    @Test
+    void shouldNotCollide_AcrossNodesInSameMillisecond() {
+        // Given
+        SnowflakeIdGenerator node1 = new SnowflakeIdGenerator(1, () -> NOW);
+        SnowflakeIdGenerator node2 = new SnowflakeIdGenerator(2, () -> NOW);
+
+        // When
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            ids.add(node1.nextId());
+            ids.add(node2.nextId());
+        }
+
+        // Then
+        assertThat(ids).hasSize(2000);
+    }
+
+    @Test
+    void shouldRejectOutOfRangeNodeId() {
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
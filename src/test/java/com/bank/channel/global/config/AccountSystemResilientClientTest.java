@@ -0,0 +1,196 @@
+package com.bank.channel.global.config;
+
+import com.bank.channel.global.config.AccountSystemProperties.CircuitBreakerPolicy;
+import com.bank.channel.global.config.AccountSystemProperties.EndpointPolicy;
+import com.bank.channel.global.config.AccountSystemProperties.Transport;
+import com.bank.channel.global.config.AccountSystemProperties.TransportType;
+import com.bank.channel.global.exception.CustomException;
+import com.bank.channel.global.exception.ErrorCode;
+import com.sun.net.httpserver.HttpServer;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 Stub 계정계 서버를 대상으로 타임아웃 / Bulkhead / Circuit Breaker 동작 검증
+ */
+class AccountSystemResilientClientTest {
+
+    private static final Request.Options DEFAULT_OPTIONS = new Request.Options();
+
+    private HttpServer stubCoreServer;
+    private ExecutorService stubExecutor;
+    private String baseUrl;
+
+    private final AtomicInteger authorizeStatus = new AtomicInteger(200);
+    private final AtomicInteger receivedCalls = new AtomicInteger();
+    private final CountDownLatch releaseSlowCalls = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stubCoreServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stubCoreServer.createContext("/payment/authorize", exchange -> {
+            receivedCalls.incrementAndGet();
+            byte[] body = "{}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(authorizeStatus.get(), body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        stubCoreServer.createContext("/payment/approval", exchange -> {
+            receivedCalls.incrementAndGet();
+            try {
+                releaseSlowCalls.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        stubExecutor = Executors.newCachedThreadPool();
+        stubCoreServer.setExecutor(stubExecutor);
+        stubCoreServer.start();
+        baseUrl = "http://127.0.0.1:" + stubCoreServer.getAddress().getPort();
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseSlowCalls.countDown();
+        stubCoreServer.stop(0);
+        stubExecutor.shutdownNow();
+    }
+
+    @Test
+    void shouldOpenCircuitAndFailFast_WhenCoreReturns5xx() throws IOException {
+        // Given: 최소 4건 중 50% 이상 실패 시 OPEN
+        AccountSystemResilientClient client = createClient(Map.of(), new CircuitBreakerPolicy(
+                50, 100, Duration.ofSeconds(10), 4, 4, Duration.ofSeconds(30), 1));
+        authorizeStatus.set(500);
+
+        // When: 5xx 응답이 누적되면
+        for (int i = 0; i < 4; i++) {
+            try (Response response = client.execute(request("/payment/authorize"), DEFAULT_OPTIONS)) {
+                assertThat(response.status()).isEqualTo(500);
+            }
+        }
+
+        // Then: 계정계를 호출하지 않고 즉시 CORE_SYSTEM_UNAVAILABLE
+        assertThatThrownBy(() -> client.execute(request("/payment/authorize"), DEFAULT_OPTIONS))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.CORE_SYSTEM_UNAVAILABLE);
+        assertThat(receivedCalls.get()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldNotCountAsFailure_WhenCoreReturns4xx() throws IOException {
+        // Given
+        AccountSystemResilientClient client = createClient(Map.of(), new CircuitBreakerPolicy(
+                50, 100, Duration.ofSeconds(10), 4, 4, Duration.ofSeconds(30), 1));
+        authorizeStatus.set(400);
+
+        // When: 계정계 비즈니스 오류(4xx)는
+        for (int i = 0; i < 6; i++) {
+            client.execute(request("/payment/authorize"), DEFAULT_OPTIONS).close();
+        }
+
+        // Then: Circuit Breaker 실패로 집계하지 않음
+        assertThat(receivedCalls.get()).isEqualTo(6);
+    }
+
+    @Test
+    void shouldApplyEndpointReadTimeout_WhenCoreIsSlow() {
+        // Given: approval API만 read-timeout 200ms
+        AccountSystemResilientClient client = createClient(
+                Map.of("approval", new EndpointPolicy(Duration.ofSeconds(1), Duration.ofMillis(200), 10)),
+                defaultCircuitBreaker());
+
+        // When & Then: 기본 Options(60s)가 아닌 API별 타임아웃 적용
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> client.execute(request("/payment/approval"), DEFAULT_OPTIONS))
+                .isInstanceOf(SocketTimeoutException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(3));
+    }
+
+    @Test
+    void shouldRejectImmediately_WhenBulkheadIsFull() throws Exception {
+        // Given: approval API 동시 호출 1건만 허용
+        AccountSystemResilientClient client = createClient(
+                Map.of("approval", new EndpointPolicy(Duration.ofSeconds(1), Duration.ofSeconds(5), 1)),
+                defaultCircuitBreaker());
+        ExecutorService caller = Executors.newSingleThreadExecutor();
+
+        try {
+            Future<Response> inFlight = caller.submit(() -> client.execute(request("/payment/approval"), DEFAULT_OPTIONS));
+            awaitReceivedCalls(1);
+
+            // When & Then: 두 번째 호출은 대기 없이 CORE_SYSTEM_UNAVAILABLE
+            assertThatThrownBy(() -> client.execute(request("/payment/approval"), DEFAULT_OPTIONS))
+                    .isInstanceOf(CustomException.class)
+                    .extracting(e -> ((CustomException) e).getErrorCode())
+                    .isEqualTo(ErrorCode.CORE_SYSTEM_UNAVAILABLE);
+
+            // 다른 API의 Bulkhead에는 영향 없음
+            try (Response response = client.execute(request("/payment/authorize"), DEFAULT_OPTIONS)) {
+                assertThat(response.status()).isEqualTo(200);
+            }
+
+            releaseSlowCalls.countDown();
+            inFlight.get(5, TimeUnit.SECONDS).close();
+        } finally {
+            caller.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldResolveEndpoint_FromLastPathSegment() {
+        assertThat(AccountSystemResilientClient.resolveEndpoint("http://core:18080/payment/authorize")).isEqualTo("authorize");
+        assertThat(AccountSystemResilientClient.resolveEndpoint("http://core:18080/payment/confirm?x=1")).isEqualTo("confirm");
+    }
+
+    private AccountSystemResilientClient createClient(Map<String, EndpointPolicy> endpoints, CircuitBreakerPolicy circuitBreaker) {
+        AccountSystemProperties properties = new AccountSystemProperties(
+                baseUrl,
+                new EndpointPolicy(Duration.ofSeconds(1), Duration.ofSeconds(5), 50),
+                endpoints,
+                circuitBreaker,
+                new Transport(TransportType.HC5, 200, 100, Duration.ofSeconds(30), Duration.ofMinutes(5), false)
+        );
+        return new AccountSystemResilientClient(new Client.Default(null, null), properties, new SimpleMeterRegistry());
+    }
+
+    private CircuitBreakerPolicy defaultCircuitBreaker() {
+        return new CircuitBreakerPolicy(50, 80, Duration.ofSeconds(3), 50, 20, Duration.ofSeconds(10), 5);
+    }
+
+    private Request request(String path) {
+        return Request.create(Request.HttpMethod.POST, baseUrl + path, Map.of(),
+                "{}".getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8, null);
+    }
+
+    private void awaitReceivedCalls(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (receivedCalls.get() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.bank.channel.global.config;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * endpoint별 커넥션 점유 시간 기록 검증 (H2)
+ */
+class ConnectionHoldTimeDataSourceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConnectionHoldTimeDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dataSource = new ConnectionHoldTimeDataSource(
+                new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1"), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void shouldRecordHoldTime_ByRequestEndpoint() throws Exception {
+        // Given: 매핑이 끝난 요청 스레드
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/payments/authorize");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/payments/authorize");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        // When: 커넥션을 20ms 이상 점유
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("SELECT 1");
+            Thread.sleep(20);
+        }
+
+        // Then
+        Timer timer = meterRegistry.get("db.connection.hold").tag("endpoint", "/api/v1/payments/authorize").timer();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(20);
+    }
+
+    @Test
+    void shouldTagUnmatchedAndBackground_AndRecordOnce_WhenClosedTwice() throws Exception {
+        // Given & When: 매핑 전 요청 스레드 (Filter 단계)
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        Connection connection = dataSource.getConnection();
+        connection.close();
+        connection.close();
+
+        // 요청 스레드가 아닌 경우
+        RequestContextHolder.resetRequestAttributes();
+        dataSource.getConnection().close();
+
+        // Then
+        assertThat(meterRegistry.get("db.connection.hold").tag("endpoint", "UNMATCHED").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("db.connection.hold").tag("endpoint", "BACKGROUND").timer().count()).isEqualTo(1);
+        assertThat(connection.isClosed()).isTrue();
+        assertThat(connection).isEqualTo(connection);
+    }
+}
@@ -0,0 +1,46 @@
+package com.bank.channel.global.config;
+
+import com.bank.channel.global.common.EntityIds;
+import com.bank.channel.global.common.SnowflakeIdGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PK 발급기 노드 ID 설정 검증 (미지정 시 기동 실패)
+ */
+class EntityIdConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(EntityIdConfig.class);
+
+    @AfterEach
+    void tearDown() {
+        EntityIds.useNode(0);
+    }
+
+    @Test
+    void shouldFailStartup_WhenNodeIdIsNotSet() {
+        contextRunner.run(context -> assertThat(context).hasFailed()
+                .getFailure().rootCause()
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("entity-id.node-id"));
+    }
+
+    @Test
+    void shouldStart_WhenRandomNodeIdIsAllowed() {
+        contextRunner.withPropertyValues("entity-id.allow-random-node-id=true")
+                .run(context -> assertThat(context).hasNotFailed());
+    }
+
+    @Test
+    void shouldUseConfiguredNodeId() {
+        contextRunner.withPropertyValues("entity-id.node-id=37")
+                .run(context -> {
+                    assertThat(context).hasNotFailed();
+                    assertThat(SnowflakeIdGenerator.nodeIdOf(EntityIds.next())).isEqualTo(37);
+                });
+    }
+}
@@ -0,0 +1,61 @@
+package com.bank.channel.global.config;
+
+import com.bank.channel.baas.repository.CoreBankingEventBatchRepository;
+import com.bank.channel.baas.service.CoreBankingJournal;
+import com.bank.channel.global.filter.TimeOrderedTraceIdGenerator;
+import com.bank.channel.global.filter.TraceIdGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Client;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.cloud.openfeign.FeignAutoConfiguration;
+import org.springframework.cloud.openfeign.FeignClientFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AccountSystemClient(account-system)에 FeignConfig의 Client 체인이 주입되는지 검증
+ *
+ * OpenFeign은 Client Bean을 하나만 찾을 수 있을 때 사용하고, 찾지 못하면(여러 개인 경우 포함) 기본 Client로 대체합니다.
+ */
+class FeignClientWiringTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(HttpMessageConvertersAutoConfiguration.class, FeignAutoConfiguration.class))
+            .withUserConfiguration(FeignConfig.class)
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+            .withBean(ObjectMapper.class, ObjectMapper::new)
+            .withBean(CoreBankingEventBatchRepository.class, () -> new CoreBankingEventBatchRepository(new JdbcTemplate()))
+            .withBean(CoreBankingJournal.class)
+            .withBean(TraceIdGenerator.class, TimeOrderedTraceIdGenerator::new)
+            .withPropertyValues("external.api.account-system.url=http://localhost:18080");
+
+    @Test
+    void shouldResolveMetricsResilientJournalChain_ForAccountSystemClient() {
+        contextRunner.run(context -> {
+            assertThat(context).hasNotFailed();
+
+            // OpenFeign이 account-system Client를 찾는 방식과 동일 (FeignClientFactoryBean.getOptional)
+            Client client = context.getBean(FeignClientFactory.class).getInstance("account-system", Client.class);
+
+            assertThat(client).isInstanceOf(AccountSystemMetricsClient.class);
+            Object resilient = ReflectionTestUtils.getField(client, "delegate");
+            assertThat(resilient).isInstanceOf(AccountSystemResilientClient.class);
+            Object journaled = ReflectionTestUtils.getField(resilient, "delegate");
+            assertThat(journaled).isInstanceOf(CoreBankingJournalClient.class);
+            assertThat(ReflectionTestUtils.getField(journaled, "delegate"))
+                    .isSameAs(context.getBean(AccountSystemTransport.class).client());
+        });
+    }
+
+    @Test
+    void shouldRegisterSingleFeignClientBean() {
+        contextRunner.run(context -> assertThat(context).getBeans(Client.class).hasSize(1));
+    }
+}
@@ -0,0 +1,172 @@
+package com.bank.channel.global.filter;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * CachedBodyHttpServletRequest의 버퍼 확장, 크기 제한, 풀 반환 검증
+ */
+class CachedBodyHttpServletRequestTest {
+
+    @Test
+    void shouldGrowBuffer_AndReturnPooledBuffer_WhenChunkedBodyExceedsPoolBuffer() throws IOException {
+        // Given: 풀 버퍼(16B)보다 큰 Content-Length 없는 Body
+        BodyBufferPool pool = new BodyBufferPool(16, 4);
+        byte[] pooled = seed(pool);
+        String body = "x".repeat(100);
+        CachedBodyHttpServletRequest request = new CachedBodyHttpServletRequest(chunked(body), pool, 1024);
+
+        // When
+        request.cacheBody();
+
+        // Then: 확장된 버퍼로 전체 Body를 읽고, 처음 꺼낸 풀 버퍼는 확장 시점에 반환됨
+        assertThat(request.getCachedBody()).isEqualTo(body);
+        assertThat(request.getCachedBodyLength()).isEqualTo(100);
+        assertThat(request.getInputStream().readAllBytes()).isEqualTo(body.getBytes(StandardCharsets.UTF_8));
+        assertThat(pool.acquire()).isSameAs(pooled);
+    }
+
+    @Test
+    void shouldRejectBody_OverMaxBytes() throws IOException {
+        BodyBufferPool pool = new BodyBufferPool(16, 4);
+
+        // Content-Length로 판단 가능한 경우 읽기 전에 중단
+        MockHttpServletRequest declared = new MockHttpServletRequest("POST", "/api/v1/payments/authorize");
+        declared.setContent(new byte[100]);
+        assertThatThrownBy(() -> new CachedBodyHttpServletRequest(declared, pool, 64).cacheBody())
+                .isInstanceOf(BodyTooLargeException.class);
+
+        // chunked는 확장 중 max-bytes를 넘는 시점에 중단
+        assertThatThrownBy(() -> new CachedBodyHttpServletRequest(chunked("x".repeat(65)), pool, 64).cacheBody())
+                .isInstanceOf(BodyTooLargeException.class);
+
+        // max-bytes와 정확히 같은 크기는 허용
+        CachedBodyHttpServletRequest exact = new CachedBodyHttpServletRequest(chunked("x".repeat(64)), pool, 64);
+        exact.cacheBody();
+        assertThat(exact.getCachedBodyLength()).isEqualTo(64);
+    }
+
+    @Test
+    void shouldReturnPooledBuffer_WhenRejectedWithoutGrowing() {
+        // Given: 풀 버퍼(128B) 안에서 max-bytes(64B)를 넘는 chunked Body
+        BodyBufferPool pool = new BodyBufferPool(128, 4);
+        byte[] pooled = seed(pool);
+
+        // When & Then
+        assertThatThrownBy(() -> new CachedBodyHttpServletRequest(chunked("x".repeat(100)), pool, 64).cacheBody())
+                .isInstanceOf(BodyTooLargeException.class);
+        assertThat(pool.acquire()).isSameAs(pooled);
+    }
+
+    @Test
+    void shouldFailOutstandingStreamsAndReaders_AfterRelease() throws IOException {
+        // Given: 첫 요청에서 스트림/Reader를 열어 둔 채 버퍼 반환
+        BodyBufferPool pool = new BodyBufferPool(64, 4);
+        CachedBodyHttpServletRequest first = new CachedBodyHttpServletRequest(chunked("{\"merchantId\":\"WK\"}"), pool, 1024);
+        ServletInputStream stream = first.getInputStream();
+        BufferedReader reader = first.getReader();
+        byte[] firstBuffer = first.getCachedBodyBuffer();
+        first.release();
+
+        // When: 다음 요청이 같은 버퍼를 재사용
+        CachedBodyHttpServletRequest second = new CachedBodyHttpServletRequest(chunked("{\"merchantId\":\"GH\"}"), pool, 1024);
+        second.cacheBody();
+
+        // Then: 이전 요청의 읽기는 다른 요청의 Body 대신 실패
+        assertThat(second.getCachedBodyBuffer()).isSameAs(firstBuffer);
+        assertThat(second.getCachedBody()).isEqualTo("{\"merchantId\":\"GH\"}");
+        assertThatThrownBy(stream::read).isInstanceOf(IOException.class);
+        assertThatThrownBy(reader::readLine).isInstanceOf(IOException.class);
+        assertThatThrownBy(first::getInputStream).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void shouldRejectReadListener_WhenNotAsync() throws IOException {
+        CachedBodyHttpServletRequest request = new CachedBodyHttpServletRequest(chunked("{}"), new BodyBufferPool(16, 4), 1024);
+
+        assertThatThrownBy(() -> request.getInputStream().setReadListener(new RecordingReadListener(null)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldNotifyReadListener_OnceAsyncStarted() throws IOException {
+        // Given
+        MockHttpServletRequest original = chunked("{\"merchantId\":\"WK\"}");
+        original.setAsyncSupported(true);
+        original.startAsync();
+        CachedBodyHttpServletRequest request = new CachedBodyHttpServletRequest(original, new BodyBufferPool(16, 4), 1024);
+        ServletInputStream stream = request.getInputStream();
+        RecordingReadListener listener = new RecordingReadListener(stream);
+
+        // When
+        stream.setReadListener(listener);
+
+        // Then
+        assertThat(listener.events).containsExactly("onDataAvailable", "onAllDataRead");
+        assertThat(listener.body).isEqualTo("{\"merchantId\":\"WK\"}");
+        assertThatThrownBy(() -> stream.setReadListener(listener)).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static byte[] seed(BodyBufferPool pool) {
+        byte[] buffer = pool.acquire();
+        pool.release(buffer);
+        return buffer;
+    }
+
+    /**
+     * Content-Length 없이 전달되는 요청 (chunked)
+     */
+    private static MockHttpServletRequest chunked(String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/payments/authorize") {
+            @Override
+            public int getContentLength() {
+                return -1;
+            }
+
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private static class RecordingReadListener implements ReadListener {
+
+        private final ServletInputStream stream;
+        private final List<String> events = new ArrayList<>();
+        private String body;
+
+        RecordingReadListener(ServletInputStream stream) {
+            this.stream = stream;
+        }
+
+        @Override
+        public void onDataAvailable() throws IOException {
+            events.add("onDataAvailable");
+            body = new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public void onAllDataRead() {
+            events.add("onAllDataRead");
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            events.add("onError");
+        }
+    }
+}
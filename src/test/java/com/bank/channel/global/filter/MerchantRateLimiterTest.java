@@ -0,0 +1,164 @@
+package com.bank.channel.global.filter;
+
+import com.bank.channel.global.config.RateLimitProperties;
+import com.bank.channel.global.config.RateLimitProperties.Limit;
+import com.bank.channel.global.config.RateLimitProperties.MerchantLimits;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MerchantRateLimiterTest {
+
+    private static final String AUTHORIZE = "/api/v1/payments/authorize";
+    private static final String APPROVAL = "/api/v1/payments/approval";
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000_000L);
+    private SimpleMeterRegistry meterRegistry;
+    private MerchantRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        // 기본: 초당 10건, burst 5 / WK: authorize만 초당 1건, burst 2 / GH: 가맹점 기본 초당 100건, burst 1
+        RateLimitProperties properties = new RateLimitProperties(
+                true,
+                new Limit(10, 5),
+                Map.of(
+                        "WK", new MerchantLimits(null, Map.of(AUTHORIZE, new Limit(1, 2))),
+                        "GH", new MerchantLimits(new Limit(100, 1), Map.of())
+                ),
+                1000,
+                Duration.ofMinutes(10));
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimiter = new MerchantRateLimiter(properties, meterRegistry, clock::get);
+    }
+
+    @Test
+    void shouldAllowBurstThenReject_AndRefillOverTime() {
+        // Given & When: 유휴 상태에서 burst(5)까지 허용
+        for (int i = 0; i < 5; i++) {
+            assertThat(rateLimiter.tryAcquire("XX", APPROVAL)).isZero();
+        }
+
+        // Then: 6번째는 거절, 다음 토큰까지 100ms
+        long waitNanos = rateLimiter.tryAcquire("XX", APPROVAL);
+        assertThat(waitNanos).isEqualTo(Duration.ofMillis(100).toNanos());
+        assertThat(MerchantRateLimiter.toRetryAfterSeconds(waitNanos)).isEqualTo(1);
+
+        // 100ms 후 1건만 다시 허용
+        clock.addAndGet(Duration.ofMillis(100).toNanos());
+        assertThat(rateLimiter.tryAcquire("XX", APPROVAL)).isZero();
+        assertThat(rateLimiter.tryAcquire("XX", APPROVAL)).isPositive();
+
+        assertThat(meterRegistry.counter("rate.limit.rejected", "merchantId", "XX").count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldApplyMerchantAndEndpointLimits() {
+        // WK authorize: 초당 1건, burst 2
+        assertThat(rateLimiter.tryAcquire("WK", AUTHORIZE)).isZero();
+        assertThat(rateLimiter.tryAcquire("WK", AUTHORIZE)).isZero();
+        long waitNanos = rateLimiter.tryAcquire("WK", AUTHORIZE);
+        assertThat(waitNanos).isEqualTo(Duration.ofSeconds(1).toNanos());
+        assertThat(MerchantRateLimiter.toRetryAfterSeconds(waitNanos)).isEqualTo(1);
+
+        // WK의 다른 API는 별도 버킷 + 전역 기본 한도(burst 5)
+        for (int i = 0; i < 5; i++) {
+            assertThat(rateLimiter.tryAcquire("WK", APPROVAL)).isZero();
+        }
+        assertThat(rateLimiter.tryAcquire("WK", APPROVAL)).isPositive();
+
+        // GH는 가맹점 기본 한도(burst 1)
+        assertThat(rateLimiter.tryAcquire("GH", AUTHORIZE)).isZero();
+        assertThat(rateLimiter.tryAcquire("GH", AUTHORIZE)).isEqualTo(Duration.ofMillis(10).toNanos());
+    }
+
+    @Test
+    void shouldShareBucket_AcrossEquivalentPathForms() {
+        // Given: WK authorize 한도 (초당 1건, burst 2)를 표기만 다른 경로로 우회 시도
+        List<String> variants = List.of(
+                AUTHORIZE,
+                "/api/v1/payments/authorize;jsessionid=1",
+                "/api/v1/payments;v=2/authorize",
+                "/api/v1/payments/%61uthorize",
+                "/api/v1/payments/authorize/",
+                "//api/v1/payments//authorize");
+
+        // When
+        int admitted = 0;
+        for (String uri : variants) {
+            if (rateLimiter.tryAcquire("WK", new MockHttpServletRequest("POST", uri)) == 0) {
+                admitted++;
+            }
+        }
+
+        // Then: 모두 같은 버킷(authorize 한도)으로 처리되어 burst(2)만 허용
+        assertThat(admitted).isEqualTo(2);
+        for (String uri : variants) {
+            assertThat(MerchantRateLimiter.normalizePath(new MockHttpServletRequest("POST", uri))).isEqualTo(AUTHORIZE);
+        }
+    }
+
+    @Test
+    void shouldResolveEndpointLimitByLongestPrefix() {
+        RateLimitProperties properties = new RateLimitProperties(
+                true,
+                new Limit(10, 5),
+                Map.of("WK", new MerchantLimits(new Limit(20, 20), Map.of(
+                        "/api/v1/payments", new Limit(3, 3),
+                        AUTHORIZE, new Limit(1, 1)))),
+                1000,
+                Duration.ofMinutes(10));
+
+        assertThat(properties.limitFor("WK", AUTHORIZE)).isEqualTo(new Limit(1, 1));
+        assertThat(properties.limitFor("WK", APPROVAL)).isEqualTo(new Limit(3, 3));
+        assertThat(properties.limitFor("WK", "/api/v1/usages/WK")).isEqualTo(new Limit(20, 20));
+        assertThat(properties.limitFor("GH", AUTHORIZE)).isEqualTo(new Limit(10, 5));
+    }
+
+    @Test
+    void shouldNeverAdmitMoreThanBurst_UnderConcurrency() throws InterruptedException {
+        // Given: 시간이 흐르지 않는 상태에서 여러 스레드가 동시에 요청
+        int threads = 16;
+        int attemptsPerThread = 100;
+        AtomicInteger admitted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < attemptsPerThread; i++) {
+                    if (rateLimiter.tryAcquire("XX", APPROVAL) == 0) {
+                        admitted.incrementAndGet();
+                    }
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+
+        // When
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        // Then: CAS 경합이 있어도 burst(5)를 넘겨 허용하지 않음
+        assertThat(admitted.get()).isEqualTo(5);
+    }
+}
@@ -0,0 +1,70 @@
+package com.bank.channel.global.filter;
+
+import com.bank.channel.global.common.TraceIds;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimeOrderedTraceIdGeneratorTest {
+
+    private final TraceIdGenerator generator = new TimeOrderedTraceIdGenerator();
+
+    @Test
+    void shouldGenerateUuidV7_InHex32() {
+        // When
+        String traceId = generator.generate();
+
+        // Then: 하이픈 없는 소문자 hex 32자, UUID version 7 / IETF variant
+        assertThat(traceId).hasSize(32).matches("[0-9a-f]{32}");
+        UUID uuid = UUID.fromString(traceId.replaceFirst("(.{8})(.{4})(.{4})(.{4})(.{12})", "$1-$2-$3-$4-$5"));
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+
+        // 상위 48bit는 발급 시각 (ms)
+        long timestamp = uuid.getMostSignificantBits() >>> 16;
+        assertThat(timestamp).isBetween(System.currentTimeMillis() - 1000, System.currentTimeMillis());
+    }
+
+    @Test
+    void shouldBeUnique_AndOrderedByMillisecond() throws InterruptedException {
+        // Given & When: 1ms 이상 간격을 둔 두 묶음
+        List<String> first = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            first.add(generator.generate());
+        }
+        Thread.sleep(2);
+        String later = generator.generate();
+
+        // Then: 중복 없음, 나중 묶음이 앞선 모든 값보다 큼 (문자열 비교 = 바이트 비교)
+        assertThat(new HashSet<>(first)).hasSize(first.size());
+        assertThat(first).allSatisfy(traceId -> assertThat(traceId).isLessThan(later));
+    }
+
+    @Test
+    void shouldRoundTripBinary_AndNormalizeExternalFormats() {
+        // Given
+        String traceId = generator.generate();
+
+        // When & Then: BINARY(16) 왕복
+        byte[] bytes = TraceIds.toBytes(traceId);
+        assertThat(bytes).hasSize(16);
+        assertThat(TraceIds.fromBytes(bytes)).isEqualTo(traceId);
+
+        // 기존 형식(하이픈 포함/대문자 UUID)은 같은 값으로 정규화
+        UUID uuid = UUID.randomUUID();
+        String expected = uuid.toString().replace("-", "");
+        assertThat(TraceIds.normalize(uuid.toString())).isEqualTo(expected);
+        assertThat(TraceIds.normalize(expected.toUpperCase())).isEqualTo(expected);
+
+        // 128bit로 표현할 수 없는 값은 거절
+        assertThat(TraceIds.normalize("trace-200-1")).isNull();
+        assertThat(TraceIds.normalize(expected.substring(1) + "g")).isNull();
+        assertThat(TraceIds.normalize("----" + expected)).isNull(); // 36자지만 하이픈 위치가 다름
+        assertThat(TraceIds.normalize(null)).isNull();
+    }
+}